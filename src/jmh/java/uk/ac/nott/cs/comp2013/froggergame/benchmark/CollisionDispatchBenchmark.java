@@ -0,0 +1,169 @@
+package uk.ac.nott.cs.comp2013.froggergame.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.*;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.*;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+
+/**
+ * Compares the collision pass of the animal against the original per-class approach.
+ * The animal rests on the first log of the standard level, so every variant finds a platform hit.
+ * The baseline replays the original handler: one stream over every actor of the world per collider
+ * class, stopping at the first class with hits. Each approach is measured twice, once only finding
+ * the colliders and once also handing them to the same strategies, so each pair does the same work.
+ * <p>
+ * Run it through {@link #main}, or from the command line with JMH's annotation processor on the
+ * class path of the compiler (see the Benchmarks section of the README).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionDispatchBenchmark {
+
+    /**
+     * A collider class of the original handler with the strategy it dispatched to.
+     */
+    private record BaselineBinding<T extends Actor>(Class<T> type, CollisionStrategy<T> strategy) {
+        List<T> scan(GameWorld world, Animal animal) {
+            return world.getActors().stream()
+                    .filter(type::isInstance)
+                    .filter(animal::intersects)
+                    .map(type::cast)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static final List<BaselineBinding<?>> BASELINE = List.of( // Classes the original handler queried one after another
+            new BaselineBinding<>(Obstacle.class, new ObstacleCollisionStrategy()),
+            new BaselineBinding<>(Log.class, new LogCollisionStrategy()),
+            new BaselineBinding<>(WetTurtle.class, new WetTurtleCollisionStrategy()),
+            new BaselineBinding<>(EndPoint.class, new EndCollisionStrategy()),
+            new BaselineBinding<>(Spider.class, new SpiderCollisionStrategy()),
+            new BaselineBinding<>(Turtle.class, new TurtleCollisionStrategy()));
+
+    private GameWorld world;
+    private Animal animal;
+    private StateManager stateManager;
+    private AnimalCollisionHandler collisionHandler;
+
+    @Setup
+    public void setUp() {
+        GameSimulation simulation = new GameSimulation(new GameWorld(1L), new GameObjectFactory());
+        simulation.initialize(new GameEventListener() {
+            @Override
+            public void onGameWon(int points) {
+            }
+
+            @Override
+            public void onGameOver() {
+            }
+
+            @Override
+            public void update(long now) {
+            }
+
+            @Override
+            public void render(double alpha) {
+            }
+        });
+        world = simulation.getWorld();
+        animal = simulation.getAnimal();
+        stateManager = animal.getStateManager();
+        Log log = world.getObjects(Log.class).get(0);
+        animal.setX(log.getX() + 10);
+        animal.setY(log.getY());
+        collisionHandler = new AnimalCollisionHandler(animal, stateManager);
+    }
+
+    /**
+     * One broadphase query, with every candidate classified by kind.
+     */
+    @Benchmark
+    public void singlePassQuery(Blackhole blackhole) {
+        List<Actor> candidates = animal.getSweptIntersectingObjects(Actor.class);
+        for (Actor candidate : candidates) {
+            blackhole.consume(CollisionKind.of(candidate));
+        }
+    }
+
+    /**
+     * The original queries: a scan of the world per collider class, stopping at the first class with hits.
+     */
+    @Benchmark
+    public void perClassQuery(Blackhole blackhole) {
+        for (BaselineBinding<?> binding : BASELINE) {
+            List<?> collisions = binding.scan(world, animal);
+            if (!collisions.isEmpty()) {
+                blackhole.consume(collisions);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The full collision pass: query, contact tracking and strategies, resolved in priority order.
+     */
+    @Benchmark
+    public void singlePassDispatch() {
+        collisionHandler.checkCollisions();
+    }
+
+    /**
+     * The original collision pass: per-class scans handing the first class with hits to its strategy.
+     */
+    @Benchmark
+    public void perClassDispatch() {
+        for (BaselineBinding<?> binding : BASELINE) {
+            if (dispatch(binding)) {
+                return;
+            }
+        }
+        if (animal.isOnPlatform()) {
+            animal.clearCurrentPlatform();
+        }
+    }
+
+    private <T extends Actor> boolean dispatch(BaselineBinding<T> binding) {
+        List<T> collisions = binding.scan(world, animal);
+        for (T collider : collisions) {
+            binding.strategy().handleCollision(animal, collider, stateManager);
+        }
+        return !collisions.isEmpty();
+    }
+
+    /**
+     * Runs the benchmarks of this class with the settings of its annotations.
+     *
+     * @param args Unused.
+     * @throws RunnerException If JMH cannot run the benchmarks.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CollisionDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
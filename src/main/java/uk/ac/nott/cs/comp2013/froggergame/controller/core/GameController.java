@@ -1,18 +1,26 @@
 package uk.ac.nott.cs.comp2013.froggergame.controller.core;
 
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.initializer.GameInitializer;
 import uk.ac.nott.cs.comp2013.froggergame.controller.input.InputHandler;
 import uk.ac.nott.cs.comp2013.froggergame.controller.loop.GameLoopManager;
-import uk.ac.nott.cs.comp2013.froggergame.model.entities.Crocodile;
+import uk.ac.nott.cs.comp2013.froggergame.controller.loop.LoopMode;
+import uk.ac.nott.cs.comp2013.froggergame.controller.loop.SimulationThread;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Level;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.ReplayRecorder;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.TimeBar;
 import uk.ac.nott.cs.comp2013.froggergame.view.managers.AlertManager;
-import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
@@ -22,19 +30,28 @@ import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 /**
  * Main controller for managing the Frogger game flow, including initialization,
  * input handling, game loop execution, and game state updates.
+ * With {@link LoopMode#THREAD} the simulation ticks on a {@link SimulationThread}; input is then
+ * posted to that thread and frames are drawn from the snapshots it publishes.
+ * With {@code -Dfrogger.replay=<file>} the game is recorded and its replay saved to that file when it stops.
  */
 public class GameController implements GameEventListener {
+    private static final String GAME_END_ALERT = "gameEndAlert"; // Command key shared by the end-of-game alerts
+    private static final String REPLAY_PROPERTY = "frogger.replay"; // System property naming the replay file
+
     private final MyStage background;
     private final GameInitializer gameInitializer;
     private Animal animal;
     private LevelManager levelManager;
     private final ScoreManager scoreManager;
-    private final GameObjectFactory gameObjectFactory;
+    private final GameSimulation simulation;
     private GameLoopManager gameLoopManager;
     private final GameStateChecker gameStateChecker;
     private final Score scoreView;
-
-    private static final int DEFAULT_INITIAL_LEVEL = 1;
+    private SimulationThread simulationThread; // Thread running the ticks, or null when they run on the FX thread
+    private int shownPoints = -1; // Score last drawn from a snapshot, or -1 before the first one
+    private int shownLevel = -1; // Level last drawn from a snapshot, or -1 before the first one
+    private ReplayRecorder replayRecorder; // Records the game for a replay, or null when not recording
+    private String replayPath; // File the replay is saved to, or null once saved
 
     /**
      * Constructs the GameController with necessary dependencies.
@@ -44,7 +61,7 @@ public class GameController implements GameEventListener {
     public GameController(GameControllerConfig config) {
         this.background = config.background();
         this.scoreManager = config.scoreManager();
-        this.gameObjectFactory = config.gameObjectFactory();
+        this.simulation = config.simulation();
         this.gameInitializer = config.gameInitializer();
         this.gameStateChecker = config.gameStateChecker();
         this.scoreView = config.scoreView();
@@ -54,52 +71,46 @@ public class GameController implements GameEventListener {
      * Initializes the game components and settings.
      */
     public void initializeGame() {
-        setupAnimal();
-        setupLevelManager();
+        gameInitializer.initializeComponents(scoreView); // Initializes view components
+        setupSimulation();
         setupGameLoopManager();
-        gameInitializer.initializeComponents(scoreView); // Initializes view and model components
-        setupTimeoutListener();
-        setupAnimal();
-    }
-
-    /**
-     * Creates and adds the main player character (Animal) to the stage.
-     */
-    private void setupAnimal() {
-        animal = gameObjectFactory.createAnimal(); // Uses factory to create the player character
-        background.addActor(animal); // Adds the animal to the game stage
     }
 
     /**
-     * Sets up the LevelManager responsible for managing game levels and progression.
+     * Populates the simulation, which creates the player character, game objects and level manager.
+     * Their renderers are added to the stage as the actors join the simulated world.
+     * When the simulation is to tick on its own thread, it reports to that thread and the stage
+     * follows its snapshots instead of the live world.
      */
-    private void setupLevelManager() {
-        Level levelView = new Level(background);
-        TimeBar timeBar = background.getTimeBar();
-        levelManager = new LevelManager(animal, levelView, 5, timeBar, this);
-        levelManager.setLevel(DEFAULT_INITIAL_LEVEL); // Initializes the default level
-        levelView.updateLevelDisplay(DEFAULT_INITIAL_LEVEL); // Updates the UI display
+    private void setupSimulation() {
+        GameEventListener simulationEvents = this;
+        if (LoopMode.fromSystemProperty() == LoopMode.THREAD) {
+            simulationThread = new SimulationThread(simulation);
+            simulationEvents = simulationThread.getEvents();
+        }
+        simulation.initialize(simulationEvents);
+        animal = simulation.getAnimal();
+        levelManager = simulation.getLevelManager();
+        replayPath = System.getProperty(REPLAY_PROPERTY);
+        if (replayPath != null) {
+            replayRecorder = new ReplayRecorder(simulation.getWorld().getSeed(),
+                    levelManager.getLevelConfig(levelManager.getCurrentLevel()));
+        }
+        if (simulationThread != null) {
+            background.followSnapshots();
+        }
     }
 
     /**
      * Configures the game loop manager and links it with the game state listener.
      */
     private void setupGameLoopManager() {
-        gameLoopManager = new GameLoopManager(animal, gameStateChecker);
+        gameLoopManager = simulationThread != null
+                ? new GameLoopManager(animal, gameStateChecker, simulationThread)
+                : new GameLoopManager(animal, gameStateChecker);
         gameLoopManager.setGameEventListener(this); // Sets this controller as the event listener
     }
 
-    /**
-     * Configures a listener for handling timeout events.
-     */
-    private void setupTimeoutListener() {
-        background.getTimeBar().setTimeOutListener(() -> {
-            stopGame();
-            freezeAnimal();
-            AlertManager.showGameOverAlert(background); // Shows game-over alert
-        });
-    }
-
     /**
      * Configures key press and release events for player input handling.
      *
@@ -108,18 +119,12 @@ public class GameController implements GameEventListener {
     public void configureInputHandling(Scene scene) {
         if (scene != null && animal != null) {
             InputHandler inputHandler = new InputHandler(animal);
+            if (replayRecorder != null) {
+                inputHandler.setRecorder(replayRecorder, () -> gameLoopManager.getClock().getTickCount());
+            }
 
-            scene.setOnKeyPressed(event -> {
-                if (animal.isActive()) {
-                    inputHandler.handleKeyPressed(event); // Handles key press
-                }
-            });
-
-            scene.setOnKeyReleased(event -> {
-                if (animal.isActive()) {
-                    inputHandler.handleKeyReleased(event); // Handles key release
-                }
-            });
+            scene.setOnKeyPressed(event -> dispatchKey(inputHandler, event.getCode(), true)); // Handles key press
+            scene.setOnKeyReleased(event -> dispatchKey(inputHandler, event.getCode(), false)); // Handles key release
         } else if (scene != null) {
             scene.setOnKeyPressed(null); // Clears key event handlers
             scene.setOnKeyReleased(null);
@@ -127,26 +132,57 @@ public class GameController implements GameEventListener {
     }
 
     /**
-     * Starts the game loop and timer for the current level.
+     * Applies a key to the player character on the thread that runs the simulation.
+     *
+     * @param inputHandler The handler translating keys into movement.
+     * @param key          The key code of the pressed or released key.
+     * @param isPressed    Whether the key is pressed (true) or released (false).
+     */
+    private void dispatchKey(InputHandler inputHandler, KeyCode key, boolean isPressed) {
+        Runnable input = () -> {
+            if (animal.isActive()) {
+                inputHandler.handleKey(key, isPressed);
+            }
+        };
+        if (simulationThread != null) {
+            simulationThread.post(input);
+        } else {
+            input.run();
+        }
+    }
+
+    /**
+     * Starts the game loop, which also advances the level timer.
      */
     public void startGameLoop() {
         gameLoopManager.startGameLoopExecution(); // Starts the game loop
-        TimeBar timeBar = background.getTimeBar();
-        if (timeBar != null) {
-            timeBar.start(); // Starts the timer
-        }
     }
 
     /**
-     * Stops the game loop and timer, and halts background music.
+     * Stops the game loop, and halts background music.
      */
     public void stopGame() {
-        gameLoopManager.stopGameLoopExecution();
-        TimeBar timeBar = background.getTimeBar();
-        if (timeBar != null) {
-            timeBar.stop();
-        }
+        long ticks = gameLoopManager.stopGameLoopExecution(); // No tick is in progress once this returns
         background.stopMusic();
+        saveReplay(ticks);
+    }
+
+    /**
+     * Saves the replay of the game the first time the game stops, when one is being recorded.
+     *
+     * @param ticks The number of ticks the game ran.
+     */
+    private void saveReplay(long ticks) {
+        if (replayRecorder == null || replayPath == null) {
+            return;
+        }
+        Path path = Path.of(replayPath);
+        replayPath = null;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            replayRecorder.toReplay(ticks).write(out);
+        } catch (IOException e) {
+            System.err.println("Error saving replay: " + path);
+        }
     }
 
     /**
@@ -166,7 +202,7 @@ public class GameController implements GameEventListener {
                 () -> levelManager.hasLevelChanged(),
                 () -> {
                     int currentLevel = levelManager.getCurrentLevel();
-                    levelManager.getLevelView().updateLevelDisplay(currentLevel);
+                    background.getLevel().updateLevelDisplay(currentLevel);
                 },
                 () -> levelManager.resetLevelChangedFlag()
         );
@@ -208,42 +244,85 @@ public class GameController implements GameEventListener {
         configureInputHandling(null); // Clears input handling
     }
 
+    /**
+     * Stops the game and queues the win alert, shown when the final frame is rendered.
+     *
+     * @param points The final score.
+     */
     @Override
     public void onGameWon(int points) {
         stopGame();
-        AlertManager.showGameWonAlert(background, scoreManager.getPoints());
+        background.getCommands().submit(GAME_END_ALERT,
+                () -> AlertManager.showGameWonAlert(background, scoreManager.getPoints()));
     }
 
+    /**
+     * Stops the game, freezes the player and queues the game over alert, shown when the final frame is rendered.
+     */
     @Override
     public void onGameOver() {
         stopGame();
-        background.stopTimeBar();
         freezeAnimal();
-        AlertManager.showGameOverAlert(background);
+        background.getCommands().submit(GAME_END_ALERT, () -> AlertManager.showGameOverAlert(background));
     }
 
     @Override
     public void update(long now) {
-        background.act(now);
-        if (animal == null || !animal.isActive()) {
-            return; // Stops updating if the player is inactive
+        simulation.tick(now, gameLoopManager.getTickSeconds());
+        if (replayRecorder != null) {
+            replayRecorder.recordTick(gameLoopManager.getClock().getTickCount(), simulation.stateHash());
         }
+    }
+
+    @Override
+    public void render(double alpha) {
+        background.render(alpha);
 
         TimeBar timeBar = background.getTimeBar();
         if (timeBar != null) {
-            timeBar.getRectangle().toFront();
-            timeBar.getText().toFront();
+            LevelTimer levelTimer = simulation.getLevelTimer();
+            updateTimeBar(timeBar, levelTimer.getRemainingTime(), levelTimer.getTotalTime());
         }
 
-        background.getObjects(Crocodile.class).forEach(actor -> actor.act(System.nanoTime()));
+        if (animal != null && levelManager != null) {
+            updateGameState();
+        }
+    }
 
-        for (End end : background.getObjects(End.class)) {
-            if (!end.isActivated() && animal.isActive() && animal.getBoundsInParent().intersects(end.getBoundsInParent())) {
-                end.setEnd();
-                levelManager.onTargetReached();
-            }
+    /**
+     * Renders a snapshot published by the simulation thread, redrawing the score and level
+     * displays only when their values differ from the ones last drawn.
+     *
+     * @param snapshot The newest snapshot of the simulation.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    @Override
+    public void present(WorldSnapshot snapshot, double alpha) {
+        background.render(snapshot, alpha);
+        TimeBar timeBar = background.getTimeBar();
+        if (timeBar != null) {
+            updateTimeBar(timeBar, snapshot.getRemainingTime(), snapshot.getTotalTime());
         }
 
-        updateGameState();
+        if (snapshot.getPoints() != shownPoints) {
+            shownPoints = snapshot.getPoints();
+            scoreView.updateScoreDisplay(background, shownPoints, scoreManager);
+        }
+        if (snapshot.getLevel() != shownLevel) {
+            shownLevel = snapshot.getLevel();
+            background.getLevel().updateLevelDisplay(shownLevel);
+        }
+    }
+
+    /**
+     * Updates the time bar and keeps it drawn above the actors.
+     *
+     * @param timeBar       The time bar to update.
+     * @param remainingTime The time left in the level, in seconds.
+     * @param totalTime     The total time of the level, in seconds.
+     */
+    private static void updateTimeBar(TimeBar timeBar, double remainingTime, double totalTime) {
+        timeBar.update(remainingTime, totalTime);
+        timeBar.bringToFront();
     }
 }
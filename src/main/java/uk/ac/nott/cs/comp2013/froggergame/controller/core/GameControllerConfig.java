@@ -1,9 +1,9 @@
 package uk.ac.nott.cs.comp2013.froggergame.controller.core;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.initializer.GameInitializer;
-import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 import uk.ac.nott.cs.comp2013.froggergame.view.scenes.MyStage;
 
@@ -14,15 +14,15 @@ import uk.ac.nott.cs.comp2013.froggergame.view.scenes.MyStage;
  *
  * @param background       The main stage where the game elements are rendered.
  * @param scoreManager      Manages the game scoring system.
- * @param gameObjectFactory A factory for creating game objects such as animals, obstacles, etc.
+ * @param simulation        The headless simulation holding the game's actors and rules.
  * @param gameStateChecker  Checks the current game state (e.g., win, lose, or ongoing).
  * @param scoreView         The component responsible for displaying the player's score.
- * @param gameInitializer   Initializes game components like obstacles, levels, and more.
+ * @param gameInitializer   Initializes view components like the background and score display.
  */
 public record GameControllerConfig(
         MyStage background,
         ScoreManager scoreManager,
-        GameObjectFactory gameObjectFactory,
+        GameSimulation simulation,
         GameStateChecker gameStateChecker,
         Score scoreView,
         GameInitializer gameInitializer) {
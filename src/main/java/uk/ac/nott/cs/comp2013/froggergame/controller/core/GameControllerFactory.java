@@ -4,6 +4,7 @@ import uk.ac.nott.cs.comp2013.froggergame.controller.initializer.GameInitializer
 import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 import uk.ac.nott.cs.comp2013.froggergame.view.scenes.MyStage;
 
@@ -30,15 +31,18 @@ public class GameControllerFactory {
         // Creates a factory for generating game objects like animals, obstacles, etc.
         GameObjectFactory gameObjectFactory = new GameObjectFactory();
 
+        // Creates the headless simulation over the world rendered by the stage
+        GameSimulation simulation = new GameSimulation(background.getGameWorld(), gameObjectFactory);
+
         // Creates a GameStateChecker to monitor the game's current state (e.g., win or lose)
         GameStateChecker gameStateChecker = new GameStateChecker();
 
-        // Initializes the game's components such as obstacles and levels
-        GameInitializer gameInitializer = new GameInitializer(background, scoreManager, gameObjectFactory);
+        // Initializes the game's view components such as the background and score display
+        GameInitializer gameInitializer = new GameInitializer(background, scoreManager);
 
         // Configures all dependencies for the GameController
         GameControllerConfig config = new GameControllerConfig(
-                background, scoreManager, gameObjectFactory, gameStateChecker, scoreView, gameInitializer
+                background, scoreManager, simulation, gameStateChecker, scoreView, gameInitializer
         );
 
         // Creates the GameController with the provided configuration and initializes the game
@@ -1,5 +1,7 @@
 package uk.ac.nott.cs.comp2013.froggergame.controller.core;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+
 /**
  * Interface for listening to game events such as winning, game over, and periodic updates.
  */
@@ -7,5 +9,28 @@ public interface GameEventListener {
     void onGameWon(int points);
     void onGameOver();
 
+    /**
+     * Advances the game by one fixed simulation tick.
+     *
+     * @param now The simulated time of the tick in nanoseconds.
+     */
     void update(long now);
+
+    /**
+     * Renders the current frame, blending between the last two simulated states.
+     *
+     * @param alpha The interpolation factor between the previous and current tick, in [0, 1).
+     */
+    void render(double alpha);
+
+    /**
+     * Renders the current frame from a snapshot taken on the simulation thread, blending between
+     * the last two simulated states it holds. Used when the simulation ticks on its own thread;
+     * listeners that only run with the ticks on the FX thread can leave it as a no-op.
+     *
+     * @param snapshot The newest snapshot of the simulation.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    default void present(WorldSnapshot snapshot, double alpha) {
+    }
 }
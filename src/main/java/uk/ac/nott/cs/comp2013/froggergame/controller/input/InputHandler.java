@@ -2,9 +2,12 @@ package uk.ac.nott.cs.comp2013.froggergame.controller.input;
 
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import java.util.function.LongSupplier;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.ReplayRecorder;
 
 /**
  * Handles user input (keyboard events) for controlling the player's character (Animal).
@@ -12,6 +15,8 @@ import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
  */
 public class InputHandler {
     private final Animal animal; // The main game character controlled by the player
+    private ReplayRecorder recorder; // Records the applied input for a replay, or null when not recording
+    private LongSupplier ticks; // Number of ticks run so far, stamped on recorded input
 
     /**
      * Constructs an InputHandler for the specified Animal.
@@ -22,6 +27,17 @@ public class InputHandler {
         this.animal = animal;
     }
 
+    /**
+     * Records every movement key applied from now on, for a replay of the game.
+     *
+     * @param recorder The recorder to add the input to.
+     * @param ticks    Supplies the number of ticks run before each input is applied.
+     */
+    public void setRecorder(ReplayRecorder recorder, LongSupplier ticks) {
+        this.recorder = recorder;
+        this.ticks = ticks;
+    }
+
     /**
      * Handles key press events, triggering corresponding actions for the Animal.
      *
@@ -48,8 +64,24 @@ public class InputHandler {
      * @param isPressed Whether the key is pressed (true) or released (false).
      */
     private void processInput(KeyEvent event, boolean isPressed) {
+        handleKey(event.getCode(), isPressed);
+    }
+
+    /**
+     * Applies a key press or release to the Animal.
+     * Takes the key code rather than the event, so input captured on the JavaFX thread can be
+     * applied later on the thread running the simulation. Movement keys are recorded when a recorder is set.
+     *
+     * @param key       The key code of the pressed or released key.
+     * @param isPressed Whether the key is pressed (true) or released (false).
+     */
+    public void handleKey(KeyCode key, boolean isPressed) {
+        Direction direction = toDirection(key);
+        if (recorder != null && direction != null) {
+            recorder.recordInput(ticks.getAsLong(), direction, isPressed); // Recorded even when ignored, as playback ignores it too
+        }
         if (animal.getStateManager().isNoMove()) return; // Ignore input if movement is disabled
-        processKeyEvent(event.getCode(), isPressed); // Delegate to specific key processing
+        processKeyEvent(key, isPressed); // Delegate to specific key processing
     }
 
     /**
@@ -59,8 +91,26 @@ public class InputHandler {
      * @param isPressed Whether the key is pressed (true) or released (false).
      */
     private void processKeyEvent(KeyCode key, boolean isPressed) {
+        Direction direction = toDirection(key);
+        if (direction == null) return; // Ignore keys that do not control the Animal
         StateManager stateManager = animal.getStateManager();
         // Updates the animal's state and position based on the input
-        stateManager.moveAnimal(animal.getMovementX(key), animal.getMovementY(key), key, isPressed);
+        stateManager.moveAnimal(animal.getMovementX(direction), animal.getMovementY(direction), direction, isPressed);
+    }
+
+    /**
+     * Maps a key to the movement direction it controls.
+     *
+     * @param key The key code of the pressed or released key.
+     * @return The corresponding direction, or null if the key does not control movement.
+     */
+    public static Direction toDirection(KeyCode key) {
+        return switch (key) {
+            case W -> Direction.UP;
+            case A -> Direction.LEFT;
+            case S -> Direction.DOWN;
+            case D -> Direction.RIGHT;
+            default -> null;
+        };
     }
 }
@@ -0,0 +1,139 @@
+package uk.ac.nott.cs.comp2013.froggergame.controller.loop;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Fixed-timestep simulation clock.
+ * Converts variable frame timestamps into a whole number of fixed-length simulation ticks,
+ * so gameplay runs identically regardless of the display refresh rate.
+ */
+public class GameClock {
+    public static final int DEFAULT_TICK_RATE = 120; // Simulation ticks per second
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 8; // Maximum ticks simulated in a single frame
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int tickRate; // Number of ticks per simulated second
+    private final long tickNanos; // Duration of a single tick in nanoseconds
+    private final int maxCatchUpTicks; // Upper bound on ticks run per frame after a stall
+    private long lastFrameTime = -1; // Timestamp of the previous frame, or -1 before the first frame
+    private long accumulator = 0; // Frame time not yet consumed by a tick
+    private long simulationTime = 0; // Total simulated time in nanoseconds
+    private long tickCount = 0; // Total number of ticks executed
+    private double timeScale = 1.0; // Simulated time per unit of real time
+
+    /**
+     * Constructs a clock with the default tick rate and catch-up limit.
+     */
+    public GameClock() {
+        this(DEFAULT_TICK_RATE, DEFAULT_MAX_CATCH_UP_TICKS);
+    }
+
+    /**
+     * Constructs a clock with a custom tick rate and catch-up limit.
+     *
+     * @param tickRate        The number of simulation ticks per second.
+     * @param maxCatchUpTicks The maximum number of ticks simulated for a single frame.
+     * @throws IllegalArgumentException If either value is not positive.
+     */
+    public GameClock(int tickRate, int maxCatchUpTicks) {
+        if (tickRate <= 0 || maxCatchUpTicks <= 0) {
+            throw new IllegalArgumentException("Tick rate and catch-up limit must be positive.");
+        }
+        this.tickRate = tickRate;
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Advances the clock to the given frame timestamp, running as many fixed ticks as fit.
+     * Time beyond the catch-up limit is dropped so a long stall cannot trigger a spiral of catch-up work.
+     *
+     * @param frameTime The current frame timestamp in nanoseconds.
+     * @param tick      Callback invoked once per tick with the simulated time of that tick.
+     * @return The number of ticks executed for this frame.
+     */
+    public int advance(long frameTime, LongConsumer tick) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = frameTime; // The first frame only establishes the time base
+            return 0;
+        }
+        accumulator += Math.round(Math.max(0, frameTime - lastFrameTime) * timeScale);
+        lastFrameTime = frameTime;
+
+        int steps = 0;
+        while (accumulator >= tickNanos && steps < maxCatchUpTicks) {
+            accumulator -= tickNanos;
+            simulationTime += tickNanos;
+            tickCount++;
+            steps++;
+            tick.accept(simulationTime);
+        }
+        if (accumulator >= tickNanos) {
+            accumulator %= tickNanos; // Discard the backlog beyond the catch-up limit
+        }
+        return steps;
+    }
+
+    /**
+     * Returns how far the current frame lies between the last two ticks.
+     *
+     * @return The interpolation factor in the range [0, 1).
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+
+    /**
+     * Resets the clock so the next frame re-establishes the time base.
+     */
+    public void reset() {
+        lastFrameTime = -1;
+        accumulator = 0;
+        simulationTime = 0;
+        tickCount = 0;
+    }
+
+    /**
+     * Sets how fast simulated time runs relative to real time.
+     * Movement, timers and animations all follow the simulated time, so they slow down, speed up
+     * or pause together. Fast-forward is still bounded by the catch-up limit per frame.
+     *
+     * @param timeScale The speed factor: 1 for normal speed, 0 to pause, below 1 for slow motion.
+     * @throws IllegalArgumentException If the scale is negative or not a number.
+     */
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale >= 0)) {
+            throw new IllegalArgumentException("Time scale must not be negative: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Returns the duration of a single tick in seconds.
+     *
+     * @return The tick duration in seconds.
+     */
+    public double getTickSeconds() {
+        return 1.0 / tickRate;
+    }
+
+    public long getSimulationTime() {
+        return simulationTime;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -5,17 +5,23 @@ import javafx.animation.AnimationTimer;
 import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
 
 /**
  * Manages the main game loop, which updates game state and renders frames.
- * Uses an AnimationTimer to repeatedly execute the game loop.
+ * Uses an AnimationTimer to feed a fixed-timestep {@link GameClock}; the game state is advanced
+ * once per clock tick and rendered once per frame.
+ * When given a {@link SimulationThread}, the ticks run on that thread instead and each frame only
+ * presents the newest snapshot it has published.
  */
 public class GameLoopManager {
     private final Animal animal; // The main game character being monitored
     private AnimationTimer gameLoop; // Timer for executing the game loop
     private GameEventListener eventListener; // Listener for game state updates
-    private long lastUpdateTime = 0; // Tracks the last update time for delta calculations
     private final GameStateChecker gameStateChecker; // Checks and updates the current game state
+    private final GameClock clock; // Fixed-timestep clock driving the simulation
+    private final SimulationThread simulationThread; // Thread running the ticks, or null when they run on the FX thread
+    private boolean outcomeDispatched; // Whether the end of the game seen in a snapshot has been reported
 
     /**
      * Constructs a GameLoopManager with the specified game character and state checker.
@@ -24,15 +30,44 @@ public class GameLoopManager {
      * @param gameStateChecker  The component responsible for checking the current game state.
      */
     public GameLoopManager(Animal animal, GameStateChecker gameStateChecker) {
+        this(animal, gameStateChecker, new GameClock());
+    }
+
+    /**
+     * Constructs a GameLoopManager driven by the specified clock.
+     *
+     * @param animal            The game character to be monitored during the game loop.
+     * @param gameStateChecker  The component responsible for checking the current game state.
+     * @param clock             The fixed-timestep clock that paces the simulation.
+     */
+    public GameLoopManager(Animal animal, GameStateChecker gameStateChecker, GameClock clock) {
+        this(animal, gameStateChecker, clock, null);
+    }
+
+    /**
+     * Constructs a GameLoopManager whose ticks run on the given simulation thread.
+     *
+     * @param animal            The game character to be monitored during the game loop.
+     * @param gameStateChecker  The component responsible for checking the current game state.
+     * @param simulationThread  The thread running the ticks and publishing snapshots.
+     */
+    public GameLoopManager(Animal animal, GameStateChecker gameStateChecker, SimulationThread simulationThread) {
+        this(animal, gameStateChecker, simulationThread.getClock(), simulationThread);
+    }
+
+    private GameLoopManager(Animal animal, GameStateChecker gameStateChecker, GameClock clock, SimulationThread simulationThread) {
         this.animal = animal;
         this.gameStateChecker = gameStateChecker;
+        this.clock = clock;
+        this.simulationThread = simulationThread;
     }
 
     /**
      * Checks the game state (e.g., victory, game over) and triggers appropriate events via the listener.
+     * On the simulation thread the events are recorded for the render thread rather than handled directly.
      */
     private void checkGameState() {
-        gameStateChecker.checkGameState(animal, eventListener);
+        gameStateChecker.checkGameState(animal, simulationThread != null ? simulationThread.getEvents() : eventListener);
     }
 
     /**
@@ -45,12 +80,18 @@ public class GameLoopManager {
     }
 
     /**
-     * Stops the execution of the game loop.
+     * Stops the execution of the game loop, waiting for a tick in progress on the simulation thread.
+     *
+     * @return The number of ticks run when the loop stopped.
      */
-    public void stopGameLoopExecution() {
+    public long stopGameLoopExecution() {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        if (simulationThread != null) {
+            return simulationThread.stop();
+        }
+        return clock.getTickCount();
     }
 
     /**
@@ -58,11 +99,19 @@ public class GameLoopManager {
      * Handles exceptions to gracefully stop the game loop if an error occurs.
      */
     public void startGameLoopExecution() {
+        if (simulationThread != null) {
+            startOnSimulationThread();
+            return;
+        }
+        clock.reset();
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
                 try {
-                    executeGameLoop(now);
+                    clock.advance(now, GameLoopManager.this::executeGameLoop);
+                    if (eventListener != null) {
+                        eventListener.render(clock.getAlpha());
+                    }
                 } catch (Exception e) {
                     stopGameLoopExecution();
                 }
@@ -72,17 +121,65 @@ public class GameLoopManager {
     }
 
     /**
-     * Executes a single iteration of the game loop.
-     * Updates the game state and notifies the event listener if necessary.
+     * Starts the ticks on the simulation thread and an AnimationTimer presenting its snapshots.
+     */
+    private void startOnSimulationThread() {
+        outcomeDispatched = false;
+        simulationThread.start(this::executeGameLoop);
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                try {
+                    presentLatestSnapshot(now);
+                } catch (Exception e) {
+                    stopGameLoopExecution();
+                }
+            }
+        };
+        gameLoop.start();
+    }
+
+    /**
+     * Reports the end of the game once it shows up in a snapshot, then renders the newest snapshot.
      *
-     * @param now The current timestamp (in nanoseconds) provided by the AnimationTimer.
+     * @param now The frame timestamp in nanoseconds.
      */
-    private void executeGameLoop(long now) {
-        if (lastUpdateTime == 0) {
-            lastUpdateTime = now;
+    private void presentLatestSnapshot(long now) {
+        WorldSnapshot snapshot = simulationThread.latest();
+        if (eventListener == null) {
             return;
         }
+        if (!outcomeDispatched && snapshot.getOutcome() != WorldSnapshot.Outcome.PLAYING) {
+            outcomeDispatched = true;
+            if (snapshot.getOutcome() == WorldSnapshot.Outcome.WON) {
+                eventListener.onGameWon(snapshot.getPoints());
+            } else {
+                eventListener.onGameOver();
+            }
+        }
+        eventListener.present(snapshot, snapshot.alphaAt(now));
+    }
 
+    /**
+     * Returns the duration of one simulation tick in seconds.
+     *
+     * @return The tick duration in seconds.
+     */
+    public double getTickSeconds() {
+        return clock.getTickSeconds();
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Executes a single simulation tick of the game loop.
+     * Updates the game state and notifies the event listener if necessary.
+     *
+     * @param now The simulated time (in nanoseconds) of the tick provided by the GameClock.
+     */
+    private void executeGameLoop(long now) {
         // Skip processing if the game character is not active
         if (!animal.isActive()) {
             return;
@@ -95,8 +192,5 @@ public class GameLoopManager {
 
         // Check the game state for win/loss conditions
         checkGameState();
-
-        // Update the last update time
-        lastUpdateTime = now;
     }
 }
@@ -0,0 +1,29 @@
+package uk.ac.nott.cs.comp2013.froggergame.controller.loop;
+
+import java.util.Locale;
+
+/**
+ * Threads the game loop can run on.
+ * Selected at startup with {@code -Dfrogger.loop=fx} (the default) or {@code -Dfrogger.loop=thread}.
+ */
+public enum LoopMode {
+    FX, // Ticks and frames both run on the JavaFX Application Thread
+    THREAD; // Ticks run on a simulation thread that hands snapshots to the JavaFX Application Thread
+
+    private static final String PROPERTY = "frogger.loop"; // System property selecting the mode
+
+    /**
+     * Reads the loop mode chosen at startup.
+     *
+     * @return The selected loop mode.
+     * @throws IllegalArgumentException If the property names an unknown mode.
+     */
+    public static LoopMode fromSystemProperty() {
+        String value = System.getProperty(PROPERTY, FX.name());
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown loop mode for " + PROPERTY + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package uk.ac.nott.cs.comp2013.froggergame.controller.loop;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.TripleBuffer;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+
+/**
+ * Runs the simulation ticks on a dedicated thread, away from the JavaFX Application Thread.
+ * After each batch of ticks the state of the simulation is copied into a {@link WorldSnapshot}
+ * and handed to the render thread through a {@link TripleBuffer}, so neither thread waits for the other.
+ * Input travels the other way: the render thread posts it to a queue that is drained before the next tick.
+ */
+public class SimulationThread {
+    private static final String THREAD_NAME = "frogger-simulation";
+
+    private final GameSimulation simulation; // The simulation being ticked
+    private final GameClock clock; // Fixed-timestep clock pacing the ticks
+    private final TripleBuffer<WorldSnapshot> snapshots = new TripleBuffer<>(WorldSnapshot::new); // Newest state for the render thread
+    private final Queue<Runnable> inputs = new ConcurrentLinkedQueue<>(); // Input posted by the render thread
+    private final GameEventListener events = new OutcomeRecorder(); // Records the end of the game raised during a tick
+    private WorldSnapshot.Outcome outcome = WorldSnapshot.Outcome.PLAYING; // How the game stands, owned by the ticking thread
+    private volatile boolean running; // Cleared to stop the thread after its current batch of ticks
+    private Thread thread;
+
+    /**
+     * Constructs a simulation thread with a default clock.
+     *
+     * @param simulation The simulation to tick.
+     */
+    public SimulationThread(GameSimulation simulation) {
+        this(simulation, new GameClock());
+    }
+
+    /**
+     * Constructs a simulation thread paced by the given clock.
+     *
+     * @param simulation The simulation to tick.
+     * @param clock      The fixed-timestep clock pacing the ticks.
+     */
+    public SimulationThread(GameSimulation simulation, GameClock clock) {
+        this.simulation = simulation;
+        this.clock = clock;
+    }
+
+    /**
+     * Publishes the initial state and starts ticking on a new thread.
+     *
+     * @param tick Callback run on the simulation thread once per tick with the simulated time.
+     * @throws IllegalStateException If the thread is already running.
+     */
+    public void start(LongConsumer tick) {
+        if (thread != null && thread.isAlive()) {
+            throw new IllegalStateException("Simulation thread is already running.");
+        }
+        clock.reset();
+        outcome = WorldSnapshot.Outcome.PLAYING;
+        publish(System.nanoTime()); // Lets the first frame draw before the first tick
+        running = true;
+        thread = new Thread(() -> run(tick), THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Ticks until stopped, sleeping out the remainder of each tick period.
+     *
+     * @param tick Callback run once per tick.
+     */
+    private void run(LongConsumer tick) {
+        long tickNanos = clock.getTickNanos();
+        try {
+            while (running) {
+                long frameStart = System.nanoTime();
+                step(frameStart, tick);
+                long idle = tickNanos - (System.nanoTime() - frameStart);
+                if (idle > 0 && running) {
+                    LockSupport.parkNanos(this, idle);
+                }
+            }
+        } catch (RuntimeException e) {
+            running = false; // A failing tick stops the game, as it does on the render thread
+        }
+    }
+
+    /**
+     * Applies the posted input, runs the ticks due at the given time and publishes the result.
+     * Called by the simulation thread; tests may call it directly instead of starting the thread.
+     *
+     * @param frameTime The current time in nanoseconds.
+     * @param tick      Callback run once per tick with the simulated time.
+     * @return The number of ticks run.
+     */
+    public int step(long frameTime, LongConsumer tick) {
+        int applied = 0;
+        for (Runnable input = inputs.poll(); input != null; input = inputs.poll()) {
+            input.run();
+            applied++;
+        }
+        int steps = outcome == WorldSnapshot.Outcome.PLAYING ? clock.advance(frameTime, tick) : 0;
+        if (steps > 0 || applied > 0) {
+            publish(frameTime);
+        }
+        return steps;
+    }
+
+    /**
+     * Copies the simulation into the back snapshot and makes it the newest one.
+     *
+     * @param frameTime The time of the copy in nanoseconds.
+     */
+    private void publish(long frameTime) {
+        WorldSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.capture(simulation, clock.getTickCount(), outcome);
+        snapshot.setTiming(frameTime, clock.getAlpha(), clock.getTimeScale() / clock.getTickNanos());
+        snapshots.publish();
+    }
+
+    /**
+     * Stops ticking and waits for the current batch of ticks to finish, so the simulation can be read
+     * safely afterwards. Called from the simulation thread itself, it only stops the ticks.
+     *
+     * @return The number of ticks run when the thread stopped.
+     */
+    public long stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null && current != Thread.currentThread()) {
+            LockSupport.unpark(current);
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // The ticks still stop after their batch
+            }
+        }
+        return clock.getTickCount();
+    }
+
+    /**
+     * Queues input to be applied on the simulation thread before the next tick.
+     *
+     * @param input The input to apply.
+     */
+    public void post(Runnable input) {
+        inputs.add(input);
+    }
+
+    /**
+     * Gets the newest published snapshot. Only the render thread may call this.
+     *
+     * @return The newest snapshot, unchanged until the next call.
+     */
+    public WorldSnapshot latest() {
+        return snapshots.read();
+    }
+
+    /**
+     * Gets the listener the simulation should report the end of the game to.
+     * The end is recorded in the next snapshot and stops the ticks; the render thread reacts to it.
+     *
+     * @return The listener for game events raised during ticks.
+     */
+    public GameEventListener getEvents() {
+        return events;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Records the first game end raised during a tick and stops the ticks.
+     */
+    private class OutcomeRecorder implements GameEventListener {
+        @Override
+        public void onGameWon(int points) {
+            end(WorldSnapshot.Outcome.WON);
+        }
+
+        @Override
+        public void onGameOver() {
+            end(WorldSnapshot.Outcome.LOST);
+        }
+
+        private void end(WorldSnapshot.Outcome reached) {
+            if (outcome == WorldSnapshot.Outcome.PLAYING) {
+                outcome = reached;
+            }
+            running = false;
+        }
+
+        @Override
+        public void update(long now) {
+            // Ticks are driven by the thread, not by game events
+        }
+
+        @Override
+        public void render(double alpha) {
+            // Frames are drawn by the render thread from the snapshots
+        }
+
+        @Override
+        public void present(WorldSnapshot snapshot, double alpha) {
+            // Frames are drawn by the render thread from the snapshots
+        }
+    }
+}
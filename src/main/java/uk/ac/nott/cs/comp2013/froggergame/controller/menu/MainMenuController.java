@@ -1,13 +1,17 @@
 package uk.ac.nott.cs.comp2013.froggergame.controller.menu;
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameController;
 import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameControllerFactory;
 import uk.ac.nott.cs.comp2013.froggergame.view.GameView;
 import uk.ac.nott.cs.comp2013.froggergame.view.HighScoresView;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.AssetManifest;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.AssetPreloader;
 
 /**
  * Controller for the main menu, handling actions such as starting the game, showing high scores, and quitting the game.
@@ -17,6 +21,8 @@ public class MainMenuController {
     private final Stage primaryStage; // The primary application window
     private GameView gameView; // The view component for the main game screen
     private GameController gameController; // The controller managing the game logic
+    private CompletableFuture<Void> assetsLoaded = CompletableFuture.completedFuture(null); // Completes once preloading has finished
+    private boolean startRequested; // Whether the player asked to start while assets were still loading
 
     private static final int WINDOW_WIDTH = 600;  // Default window width for the game scene
     private static final int WINDOW_HEIGHT = 800; // Default window height for the game scene
@@ -30,13 +36,36 @@ public class MainMenuController {
         this.primaryStage = primaryStage;
     }
 
+    /**
+     * Starts loading the game's images and music in the background while the menu is showing.
+     *
+     * @param listener Listener notified of the loading progress from the worker threads, or null.
+     */
+    public void preloadAssets(AssetPreloader.ProgressListener listener) {
+        assetsLoaded = new AssetPreloader().start(AssetManifest.gameImages(), AssetManifest.gameMedia(), listener);
+    }
+
     /**
      * Starts the game by initializing the game view, controller, and input handling.
+     * If assets are still loading, the game starts on the FX thread as soon as they are ready.
      */
     public void startGame() {
+        if (!assetsLoaded.isDone()) {
+            if (!startRequested) {
+                startRequested = true;
+                assetsLoaded.whenComplete((result, error) -> Platform.runLater(this::launchGame));
+            }
+            return;
+        }
+        launchGame();
+    }
+
+    /**
+     * Brings up the game scene and starts the game loop.
+     */
+    private void launchGame() {
         initializeGame(); // Sets up the game view and controller
 
-        gameView.startBackground(); // Starts the game background animation
         gameView.playBackgroundMusic(); // Plays background music
         gameController.startGameLoop(); // Starts the main game loop
     }
@@ -1,41 +1,90 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.base;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import javafx.event.EventHandler;
-import javafx.geometry.Bounds;
-import javafx.scene.Node;
-import javafx.scene.image.ImageView;
-import javafx.scene.input.KeyEvent;
-
-import uk.ac.nott.cs.comp2013.froggergame.controller.input.KeyEventHandlerProvider;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.BoundaryManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.scenes.World;
 
 /**
  * Represents an abstract actor in the game, providing base functionality
  * for movement, collision detection, and interaction with the game world.
+ * Actors hold plain simulation state only; renderers read that state to draw them.
  */
-public abstract class Actor extends ImageView implements KeyEventHandlerProvider {
-    private EventHandler<? super KeyEvent> keyPressedHandler;
-    private EventHandler<? super KeyEvent> keyReleasedHandler;
-    protected double speed; // Speed of the actor
+public abstract class Actor {
+    /**
+     * Moves longer than this within one tick are treated as teleports (wrap-arounds, resets)
+     * rather than continuous motion, and are not swept.
+     */
+    public static final double MAX_SWEEP_DISTANCE = 100.0;
+
+    private double x; // Current x position
+    private double y; // Current y position
+    private double width; // Width of the actor's sprite as displayed
+    private double height; // Height of the actor's sprite as displayed
+    private double minX; // Cached world-space bounds, kept in step with position and sprite size
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private double requestedWidth; // Bounding box the sprite is fitted into
+    private double requestedHeight;
+    private String sprite; // Name of the image currently representing the actor
+    private SpriteId spriteId; // Handle of the sprite, or null if it has none
+    protected double speed; // Speed of the actor in units per second
+    protected double deltaSeconds; // Duration of the tick currently being simulated, in seconds
     private BoundaryManager boundaryManager;
     private final double baseSpeed;
-    private World world;
+    private GameWorld world;
+    private double previousX; // X position at the start of the current tick
+    private double previousY; // Y position at the start of the current tick
+    private LaneIndex.Lane lane; // Broadphase lane the actor is filed in, if any
+    private int laneSlot; // Position of the actor within its lane
 
     /**
      * Constructor to initialize the actor's position and speed.
      *
      * @param xpos  Initial x position
      * @param ypos  Initial y position
-     * @param speed Speed of the actor
+     * @param speed Speed of the actor in units per second
      */
     public Actor(int xpos, int ypos, double speed) {
         this.setX(xpos);
         this.setY(ypos);
         this.speed = speed;
         this.baseSpeed = speed;
+        this.previousX = xpos;
+        this.previousY = ypos;
+    }
+
+    /**
+     * Advances the actor by a single fixed simulation tick.
+     * Records the pre-tick position for interpolation and then runs {@link #act(long)}.
+     *
+     * @param now          The simulated time of the tick in nanoseconds
+     * @param deltaSeconds The duration of the tick in seconds
+     */
+    public void tick(long now, double deltaSeconds) {
+        this.deltaSeconds = deltaSeconds;
+        markTickStart();
+        act(now);
+    }
+
+    /**
+     * Records the current position as the start of the tick's motion, used for interpolation and
+     * swept collisions. Actors moved by another actor call this just before they are moved.
+     */
+    protected final void markTickStart() {
+        this.previousX = getX();
+        this.previousY = getY();
+    }
+
+    /**
+     * Returns the distance covered at the given speed during the current tick.
+     *
+     * @param unitsPerSecond The speed in units per second
+     * @return The displacement for the current tick
+     */
+    protected double stepDistance(double unitsPerSecond) {
+        return unitsPerSecond * deltaSeconds;
     }
 
     /**
@@ -49,6 +98,170 @@ public abstract class Actor extends ImageView implements KeyEventHandlerProvider
         this.setY(Math.max(0.0, this.getY() + dy));
     }
 
+    /**
+     * Places the actor at a new position without any motion between the old and new position,
+     * so neither interpolation nor swept collisions treat the jump as movement.
+     *
+     * @param x The new x position
+     * @param y The new y position
+     */
+    public void relocate(double x, double y) {
+        setX(x);
+        setY(y);
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public void setX(double x) {
+        this.x = x;
+        this.minX = x;
+        this.maxX = x + width;
+        if (lane != null) {
+            lane.reposition(this);
+        }
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public void setY(double y) {
+        this.y = y;
+        this.minY = y;
+        this.maxY = y + height;
+        if (lane != null && y != lane.getY()) {
+            lane.refile(this);
+        }
+    }
+
+    public double getPreviousX() {
+        return previousX;
+    }
+
+    public double getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Gets the x position the actor's motion during the current tick is swept from.
+     *
+     * @return The x position at the start of the swept motion
+     */
+    public double getSweepStartX() {
+        return previousX;
+    }
+
+    /**
+     * Gets the y position the actor's motion during the current tick is swept from.
+     *
+     * @return The y position at the start of the swept motion
+     */
+    public double getSweepStartY() {
+        return previousY;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double getRequestedWidth() {
+        return requestedWidth;
+    }
+
+    public double getRequestedHeight() {
+        return requestedHeight;
+    }
+
+    public String getSprite() {
+        return sprite;
+    }
+
+    /**
+     * Gets the handle of the current sprite, which renderers resolve without a name lookup.
+     *
+     * @return The sprite handle, or null if the sprite has none
+     */
+    public SpriteId getSpriteId() {
+        return spriteId;
+    }
+
+    /**
+     * Sets the sprite of the actor, fitting it into the given box while preserving its aspect ratio.
+     *
+     * @param sprite          The image name of the sprite
+     * @param requestedWidth  The width of the box the sprite is fitted into
+     * @param requestedHeight The height of the box the sprite is fitted into
+     */
+    public void setSprite(String sprite, double requestedWidth, double requestedHeight) {
+        this.sprite = sprite;
+        this.spriteId = SpriteId.forSprite(sprite, requestedWidth, requestedHeight);
+        this.requestedWidth = requestedWidth;
+        this.requestedHeight = requestedHeight;
+        applySize(SpriteSize.fit(sprite, requestedWidth, requestedHeight));
+    }
+
+    /**
+     * Swaps the sprite of the actor for a character sprite, reading its precomputed size by handle
+     * instead of looking up the image name.
+     *
+     * @param id The handle of the sprite
+     */
+    public void setSprite(SpriteId id) {
+        if (id == spriteId) {
+            return;
+        }
+        this.sprite = id.getFileName();
+        this.spriteId = id;
+        this.requestedWidth = SpriteId.SIZE;
+        this.requestedHeight = SpriteId.SIZE;
+        applySize(SpriteSize.of(id));
+    }
+
+    private void applySize(SpriteSize size) {
+        this.width = size.width();
+        this.height = size.height();
+        this.maxX = minX + width;
+        this.maxY = minY + height;
+        if (lane != null) {
+            lane.grow(width, height);
+        }
+    }
+
+    /**
+     * Swaps the sprite of the actor, keeping the previously requested box size.
+     *
+     * @param sprite The image name of the sprite
+     */
+    public void setSprite(String sprite) {
+        if (!sprite.equals(this.sprite)) {
+            setSprite(sprite, requestedWidth, requestedHeight);
+        }
+    }
+
     public void setSpeedFactor(double speedFactor) {
         this.speed = this.baseSpeed * speedFactor;
     }
@@ -63,21 +276,65 @@ public abstract class Actor extends ImageView implements KeyEventHandlerProvider
         }
     }
 
-    public void setWorld(World world) {
+    /**
+     * Indicates whether the actor only ever moves horizontally, staying in a single row.
+     * Such actors are filed into the world's lane index for fast collision queries.
+     *
+     * @return True if the actor stays in its row, otherwise false
+     */
+    public boolean isLaneBound() {
+        return false;
+    }
+
+    LaneIndex.Lane getLane() {
+        return lane;
+    }
+
+    void setLane(LaneIndex.Lane lane) {
+        this.lane = lane;
+    }
+
+    int getLaneSlot() {
+        return laneSlot;
+    }
+
+    void setLaneSlot(int laneSlot) {
+        this.laneSlot = laneSlot;
+    }
+
+    public void setWorld(GameWorld world) {
         this.world = world;
     }
 
-    public World getWorld() {
+    public GameWorld getWorld() {
         if (world == null) {
             throw new IllegalStateException("Actor is not attached to any World instance.");
         }
         return world;
     }
 
+    /**
+     * Checks whether the actor is currently attached to a world.
+     *
+     * @return True if attached to a world, otherwise false
+     */
+    public boolean hasWorld() {
+        return world != null;
+    }
+
+    /**
+     * Removes the actor from the world it is attached to, if any.
+     */
+    public void removeFromWorld() {
+        if (world != null) {
+            world.removeActor(this);
+        }
+    }
+
     /**
      * Gets the actor's speed.
      *
-     * @return The speed
+     * @return The speed in units per second
      */
     public double getSpeed() {
         return this.speed;
@@ -91,50 +348,85 @@ public abstract class Actor extends ImageView implements KeyEventHandlerProvider
      * @return A list of intersecting objects
      */
     public <A> List<A> getIntersectingObjects(Class<A> cls) {
-        return this.getObjectsFromWorld(cls).stream()
-                .filter(this::isIntersecting)
-                .collect(Collectors.toList());
+        return this.getWorld().getIntersectingObjects(this, cls);
     }
 
     /**
-     * Checks if this actor is intersecting with a given object.
+     * Checks whether the bounds of this actor overlap the bounds of another actor.
+     * Reads only the cached bounds, so the test allocates nothing. Touching edges count as an intersection.
      *
-     * @param obj The object to check
-     * @return True if intersecting, otherwise false
+     * @param other The actor to test against
+     * @return True if the bounds overlap, otherwise false
      */
-    private boolean isIntersecting(Object obj) {
-        if (obj instanceof Node) {
-            Bounds actorBounds = this.localToScene(this.getBoundsInLocal());
-            Bounds objectBounds = ((Node) obj).localToScene(((Node) obj).getBoundsInLocal());
-            return actorBounds.intersects(objectBounds);
-        }
-        return false;
+    public boolean intersects(Actor other) {
+        return minX <= other.maxX && maxX >= other.minX
+                && minY <= other.maxY && maxY >= other.minY;
     }
 
     /**
-     * Gets objects of the specified class from the game world.
+     * Gets a list of objects this actor touched at any time during the current tick.
      *
-     * @param cls The class of the objects to get
+     * @param cls The class of the objects to check
      * @param <A> The type of the objects
-     * @return A list of objects
+     * @return A list of objects hit by the swept bounds
      */
-    private <A> List<A> getObjectsFromWorld(Class<A> cls) {
-        return this.getWorld().getObjects(cls);
+    public <A> List<A> getSweptIntersectingObjects(Class<A> cls) {
+        return this.getWorld().getSweptIntersectingObjects(this, cls);
     }
 
     /**
-     * Abstract method to define behavior per game tick.
+     * Checks whether this actor and another actor touch at any time during the current tick.
+     * Both actors are assumed to move linearly from their sweep start to their current position,
+     * so fast or thin actors cannot pass through each other between ticks.
      *
-     * @param now The current time in nanoseconds
+     * @param other The actor to test against
+     * @return True if the swept bounds meet, otherwise false
      */
-    public abstract void act(long now);
+    public boolean sweptIntersects(Actor other) {
+        double startX = getSweepStartX();
+        double startY = getSweepStartY();
+        double otherStartX = other.getSweepStartX();
+        double otherStartY = other.getSweepStartY();
+        if (isTeleport(minX - startX, minY - startY) || isTeleport(other.minX - otherStartX, other.minY - otherStartY)) {
+            return intersects(other);
+        }
+        // Motion of the other actor relative to this one over the tick
+        double velocityX = (other.minX - otherStartX) - (minX - startX);
+        double velocityY = (other.minY - otherStartY) - (minY - startY);
 
-    public EventHandler<? super KeyEvent> getKeyPressedHandler() {
-        return this.keyPressedHandler;
+        double enter = 0.0;
+        double exit = 1.0;
+        if (velocityX == 0.0) {
+            if (otherStartX > startX + width || otherStartX + other.width < startX) {
+                return false;
+            }
+        } else {
+            double toLeftEdge = (startX - (otherStartX + other.width)) / velocityX;
+            double toRightEdge = (startX + width - otherStartX) / velocityX;
+            enter = Math.max(enter, Math.min(toLeftEdge, toRightEdge));
+            exit = Math.min(exit, Math.max(toLeftEdge, toRightEdge));
+        }
+        if (velocityY == 0.0) {
+            if (otherStartY > startY + height || otherStartY + other.height < startY) {
+                return false;
+            }
+        } else {
+            double toTopEdge = (startY - (otherStartY + other.height)) / velocityY;
+            double toBottomEdge = (startY + height - otherStartY) / velocityY;
+            enter = Math.max(enter, Math.min(toTopEdge, toBottomEdge));
+            exit = Math.min(exit, Math.max(toTopEdge, toBottomEdge));
+        }
+        return enter <= exit;
     }
 
-    public EventHandler<? super KeyEvent> getKeyReleasedHandler() {
-        return this.keyReleasedHandler;
+    private static boolean isTeleport(double dx, double dy) {
+        return Math.abs(dx) > MAX_SWEEP_DISTANCE || Math.abs(dy) > MAX_SWEEP_DISTANCE;
     }
-}
 
+    /**
+     * Abstract method to define behavior per game tick.
+     *
+     * @param now The current time in nanoseconds
+     */
+    public abstract void act(long now);
+}
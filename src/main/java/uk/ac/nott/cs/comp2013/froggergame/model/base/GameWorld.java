@@ -0,0 +1,381 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.SpriteAnimator;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.LaneTraffic;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.ScrollingLane;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.timing.TimingWheel;
+
+/**
+ * Container for all actors taking part in the simulation.
+ * The world advances its actors each tick and notifies listeners (such as renderers)
+ * when actors are added or removed. Collision queries go through a {@link LaneIndex}, and
+ * lookups by type are served from per-type buckets maintained on every addition and removal.
+ * Large worlds advance their lanes in parallel, as actors in different lanes never touch each other during a tick.
+ * Each world draws its chance events from its own {@link RandomStreams}, so worlds built from the same seed play out alike.
+ */
+public class GameWorld {
+
+    /**
+     * Listener interface for changes to the set of actors in the world.
+     */
+    public interface Listener {
+        void actorAdded(Actor actor);
+        void actorRemoved(Actor actor);
+    }
+
+    private static final int MAX_IDLE_PER_POOL = 32; // Idle transient actors kept per type
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024; // Actors needed before lanes are updated in parallel
+    private static final String PARALLEL_THRESHOLD_PROPERTY = "frogger.parallelThreshold"; // System property overriding the threshold
+
+    private final List<Actor> actors = new ArrayList<>(); // Actors in insertion order
+    private final List<Listener> listeners = new ArrayList<>(); // Listeners notified of membership changes
+    private final LaneIndex laneIndex = new LaneIndex(); // Broadphase for collision queries
+    private final LaneTraffic laneTraffic = new LaneTraffic(); // Shared scrolling lanes of the lane actors
+    private final Map<Class<?>, List<Actor>> buckets = new LinkedHashMap<>(); // Actors grouped by concrete and queried type
+    private final Map<Class<?>, List<?>> bucketViews = new HashMap<>(); // Read-only views handed out for each bucket
+    private final Map<Class<?>, ObjectPool<?>> pools = new HashMap<>(); // Recycled transient actors by type
+    private final TimingWheel timers = new TimingWheel(); // Gameplay timers, driven by the simulation ticks
+    private final SpriteAnimator animator = new SpriteAnimator(); // Current frame of each looping sprite clip
+    private final RandomStreams randomStreams; // Sources of the world's chance events, one per subsystem
+    private int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+    private Actor[] tickOrder = new Actor[0]; // Actors of the tick in progress, reused from tick to tick
+
+    /**
+     * Constructs a world seeded by {@link RandomStreams#defaultSeed()}: differently on every run, unless
+     * {@code -Dfrogger.seed} fixes the seed. The seed can be read back from {@link #getSeed()} to reproduce the run.
+     */
+    public GameWorld() {
+        this(RandomStreams.defaultSeed());
+    }
+
+    /**
+     * Constructs a world whose chance events follow from the given seed.
+     *
+     * @param seed The seed of the world's random generator.
+     */
+    public GameWorld(long seed) {
+        this.randomStreams = new RandomStreams(seed);
+    }
+
+    /**
+     * Registers a listener for actor additions and removals.
+     *
+     * @param listener The listener to register.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener for actor additions and removals.
+     *
+     * @param listener The listener to unregister.
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds an actor to the world.
+     *
+     * @param actor The actor to be added.
+     */
+    public void addActor(Actor actor) {
+        bucket(actor.getClass()); // Every concrete type gets a bucket so its size can be reported
+        actors.add(actor);
+        actor.setWorld(this);
+        laneIndex.add(actor);
+        if (actor instanceof LaneActor laneActor) {
+            laneTraffic.join(laneActor);
+        }
+        for (Map.Entry<Class<?>, List<Actor>> entry : buckets.entrySet()) {
+            if (entry.getKey().isInstance(actor)) {
+                entry.getValue().add(actor);
+            }
+        }
+        for (Listener listener : listeners) {
+            listener.actorAdded(actor);
+        }
+    }
+
+    /**
+     * Removes an actor from the world.
+     *
+     * @param actor The actor to be removed.
+     */
+    public void removeActor(Actor actor) {
+        if (actors.remove(actor)) {
+            laneIndex.remove(actor);
+            if (actor instanceof LaneActor laneActor) {
+                laneTraffic.leave(laneActor);
+            }
+            for (Map.Entry<Class<?>, List<Actor>> entry : buckets.entrySet()) {
+                if (entry.getKey().isInstance(actor)) {
+                    entry.getValue().remove(actor);
+                }
+            }
+            actor.setWorld(null);
+            for (Listener listener : listeners) {
+                listener.actorRemoved(actor);
+            }
+        }
+    }
+
+    /**
+     * Retrieves all actors in the world.
+     *
+     * @return A list of actors.
+     */
+    public List<Actor> getActors() {
+        return actors;
+    }
+
+    /**
+     * Retrieves all objects of a specific class from the world.
+     * The returned list is a read-only live view that reflects later additions and removals,
+     * so it must not be iterated while actors of that class are being added or removed.
+     *
+     * @param cls The class of objects to retrieve.
+     * @param <A> The type of objects.
+     * @return A read-only view of the objects of the specified class.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> List<A> getObjects(Class<A> cls) {
+        bucket(cls);
+        return (List<A>) bucketViews.get(cls);
+    }
+
+    /**
+     * Visits every object of a specific class without allocating a list.
+     *
+     * @param cls     The class of objects to visit.
+     * @param visitor The action to apply to each object.
+     * @param <A>     The type of objects.
+     */
+    public <A> void forEachObject(Class<A> cls, Consumer<? super A> visitor) {
+        List<Actor> bucket = bucket(cls);
+        for (int i = 0; i < bucket.size(); i++) {
+            visitor.accept(cls.cast(bucket.get(i)));
+        }
+    }
+
+    /**
+     * Reports the number of actors in each type bucket, to help spot actors that are never removed.
+     *
+     * @return The bucket sizes keyed by type, in the order the buckets were created.
+     */
+    public Map<Class<?>, Integer> getBucketSizes() {
+        Map<Class<?>, Integer> sizes = new LinkedHashMap<>();
+        buckets.forEach((type, bucket) -> sizes.put(type, bucket.size()));
+        return sizes;
+    }
+
+    /**
+     * Gets the bucket for a type, creating and filling it from the current actors on first use.
+     *
+     * @param cls The type of the bucket.
+     * @return The bucket holding every actor of that type.
+     */
+    private List<Actor> bucket(Class<?> cls) {
+        List<Actor> bucket = buckets.get(cls);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            for (Actor actor : actors) {
+                if (cls.isInstance(actor)) {
+                    bucket.add(actor);
+                }
+            }
+            buckets.put(cls, bucket);
+            bucketViews.put(cls, Collections.unmodifiableList(bucket));
+        }
+        return bucket;
+    }
+
+    /**
+     * Retrieves the objects of a specific class whose bounds intersect the given actor.
+     *
+     * @param subject The actor to test against.
+     * @param cls     The class of objects to retrieve.
+     * @param <A>     The type of objects.
+     * @return A list of intersecting objects.
+     */
+    public <A> List<A> getIntersectingObjects(Actor subject, Class<A> cls) {
+        return laneIndex.query(subject, cls);
+    }
+
+    /**
+     * Retrieves the objects of a specific class that the given actor touched at any time during the current tick.
+     *
+     * @param subject The actor to test against.
+     * @param cls     The class of objects to retrieve.
+     * @param <A>     The type of objects.
+     * @return A list of objects hit by the actor's swept bounds.
+     */
+    public <A> List<A> getSweptIntersectingObjects(Actor subject, Class<A> cls) {
+        return laneIndex.querySwept(subject, cls);
+    }
+
+    /**
+     * Gets the distinct scrolling lanes used by the world's lane actors.
+     *
+     * @return A read-only list of lanes.
+     */
+    public List<ScrollingLane> getLanes() {
+        return laneTraffic.getLanes();
+    }
+
+    /**
+     * Gets the broadphase index of the world.
+     *
+     * @return The lane index.
+     */
+    public LaneIndex getLaneIndex() {
+        return laneIndex;
+    }
+
+    /**
+     * Gets the pool recycling transient actors of a type, creating it on first request.
+     * Actors spawned and despawned during play (such as spiders) are acquired from and released
+     * to this pool, so a long session stops allocating them once enough have been created.
+     *
+     * @param type    The type of pooled actor.
+     * @param factory Creates a new actor when the pool is empty; only used on first request.
+     * @param reset   Resets an actor as it is released; only used on first request.
+     * @param <A>     The type of pooled actor.
+     * @return The pool for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Actor> ObjectPool<A> getPool(Class<A> type, Supplier<? extends A> factory, Consumer<? super A> reset) {
+        return (ObjectPool<A>) pools.computeIfAbsent(type, key -> new ObjectPool<>(factory, reset, MAX_IDLE_PER_POOL));
+    }
+
+    /**
+     * Gets the timing wheel all gameplay timers of this world are scheduled on.
+     *
+     * @return The world's timing wheel.
+     */
+    public TimingWheel getTimers() {
+        return timers;
+    }
+
+    /**
+     * Gets the animator evaluating the looping sprite clips played in this world.
+     *
+     * @return The world's sprite animator.
+     */
+    public SpriteAnimator getAnimator() {
+        return animator;
+    }
+
+    /**
+     * Gets the random stream a subsystem of this world draws its chance events from.
+     * Only used from the thread ticking the world, outside the parallel lane update.
+     *
+     * @param stream The subsystem drawing from the stream.
+     * @return The subsystem's random generator.
+     */
+    public SplittableRandom getRandom(RandomStreams.Stream stream) {
+        return randomStreams.get(stream);
+    }
+
+    public long getSeed() {
+        return randomStreams.getSeed();
+    }
+
+    /**
+     * Sets how many actors the world needs before its lanes are updated in parallel.
+     * Defaults to {@value #DEFAULT_PARALLEL_THRESHOLD}, or to {@code -Dfrogger.parallelThreshold} when given.
+     *
+     * @param parallelThreshold The minimum number of actors for a parallel update.
+     * @throws IllegalArgumentException If the threshold is not positive.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Advances every actor in the world by a single simulation tick, then fires the timers that came due.
+     * Actors removed earlier in the same tick are skipped.
+     * In worlds of at least the parallel threshold, the lanes are first advanced side by side on the
+     * common fork/join pool; once all of them are done, the actors outside the lanes, such as the
+     * player's character with its collision checks and the spiders carried by logs, are advanced in order.
+     *
+     * @param now          The simulated time of the tick in nanoseconds.
+     * @param deltaSeconds The duration of the tick in seconds.
+     */
+    public void act(long now, double deltaSeconds) {
+        int count = actors.size();
+        if (tickOrder.length < count) {
+            tickOrder = new Actor[Math.max(count, tickOrder.length * 2)];
+        }
+        for (int i = 0; i < count; i++) {
+            tickOrder[i] = actors.get(i); // Fixed before ticking, as actors may add or remove others
+        }
+        boolean parallel = count >= parallelThreshold && laneIndex.getLaneCount() > 1;
+        if (parallel) {
+            List<Actor[]> lanes = laneIndex.copyLanes();
+            ForkJoinPool.commonPool().invoke(new LaneUpdate(lanes, 0, lanes.size(), now, deltaSeconds)); // Returns once every lane is done
+        }
+        for (int i = 0; i < count; i++) {
+            Actor actor = tickOrder[i];
+            tickOrder[i] = null; // Lets removed actors be collected
+            if (actor.hasWorld() && !(parallel && actor.getLane() != null)) {
+                actor.tick(now, deltaSeconds);
+            }
+        }
+        timers.advanceTo(now);
+    }
+
+    /**
+     * Advances a range of lanes, splitting it in half until each task holds a single lane.
+     */
+    private static final class LaneUpdate extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Actor[]> lanes; // Actors of every lane
+        private final int from; // First lane of the range
+        private final int to; // Lane after the last one of the range
+        private final long now;
+        private final double deltaSeconds;
+
+        private LaneUpdate(List<Actor[]> lanes, int from, int to, long now, double deltaSeconds) {
+            this.lanes = lanes;
+            this.from = from;
+            this.to = to;
+            this.now = now;
+            this.deltaSeconds = deltaSeconds;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                for (Actor actor : lanes.get(from)) {
+                    actor.tick(now, deltaSeconds);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new LaneUpdate(lanes, from, middle, now, deltaSeconds),
+                    new LaneUpdate(lanes, middle, to, now, deltaSeconds));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.ScrollingLane;
+
+/**
+ * An actor that scrolls along a single row with its lane, wrapping round at the lane's ends.
+ * Its position is derived from the lane's offset rather than stepped each tick.
+ */
+public abstract class LaneActor extends Actor {
+    private ScrollingLane lane; // The lane the actor scrolls with
+    private double baseX; // Position of the actor at zero lane offset
+
+    /**
+     * Constructs an actor on a lane of its own; a world later merges it with matching lanes.
+     *
+     * @param xpos               Initial x position
+     * @param ypos               Initial y position
+     * @param speed              Speed of the lane in units per second
+     * @param screenLeftBound    The left boundary of the screen
+     * @param screenRightBound   The right boundary of the screen
+     * @param resetLeftPosition  Where the actor re-enters when moving left
+     * @param resetRightPosition Where the actor re-enters when moving right
+     */
+    protected LaneActor(int xpos, int ypos, double speed, int screenLeftBound, int screenRightBound,
+                        int resetLeftPosition, int resetRightPosition) {
+        super(xpos, ypos, speed);
+        this.lane = ScrollingLane.fromBounds(ypos, screenLeftBound, screenRightBound,
+                resetLeftPosition, resetRightPosition, speed);
+        this.baseX = xpos;
+    }
+
+    /**
+     * Advances the lane for the current tick and moves the actor to its derived position.
+     *
+     * @param now The simulated time of the tick in nanoseconds
+     */
+    protected void scroll(long now) {
+        lane.advance(now, deltaSeconds);
+        super.setX(lane.positionOf(baseX));
+    }
+
+    /**
+     * Evaluates where the actor will be at a given lane time, without moving it.
+     *
+     * @param t The lane time in seconds
+     * @return The x-coordinate at that time
+     */
+    public double positionAt(double t) {
+        return lane.positionAt(baseX, t);
+    }
+
+    /**
+     * Moves the actor onto another lane, keeping its current position.
+     *
+     * @param shared The lane to join
+     */
+    public void joinLane(ScrollingLane shared) {
+        this.lane = shared;
+        this.baseX = getX() - shared.getOffset();
+    }
+
+    public ScrollingLane getScrollingLane() {
+        return lane;
+    }
+
+    /**
+     * Places the actor at the given position, re-basing it within its lane.
+     *
+     * @param x The new x position
+     */
+    @Override
+    public void setX(double x) {
+        super.setX(x);
+        if (lane != null) {
+            baseX = x - lane.getOffset();
+        }
+    }
+
+    /**
+     * Gets the speed of the actor's lane.
+     *
+     * @return The speed in units per second
+     */
+    @Override
+    public double getSpeed() {
+        return lane.getSpeed();
+    }
+
+    /**
+     * Scales the speed of the actor's lane, and so of every actor sharing it.
+     *
+     * @param speedFactor The multiplier applied to the base speed
+     */
+    @Override
+    public void setSpeedFactor(double speedFactor) {
+        lane.setSpeedFactor(speedFactor);
+    }
+
+    /**
+     * Lane actors only travel along their row.
+     *
+     * @return Always true
+     */
+    @Override
+    public boolean isLaneBound() {
+        return true;
+    }
+}
@@ -0,0 +1,310 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Broadphase index for collision queries.
+ * Actors that only ever move horizontally are filed into lanes keyed by their row y-coordinate,
+ * and each lane keeps its actors sorted by x. A query visits only the lanes overlapping the
+ * subject's bounds and binary-searches each of them for candidates, so its cost does not grow
+ * with the number of lanes or vehicles per lane.
+ */
+public class LaneIndex {
+    private final NavigableMap<Double, Lane> lanes = new TreeMap<>(); // Lanes keyed by row y-coordinate
+    private final List<Actor> freeActors = new ArrayList<>(); // Actors that move vertically and are not filed in a lane
+    private volatile double maxHeight; // Tallest actor filed in any lane, read without locking by lanes growing in parallel
+
+    /**
+     * A single horizontal row of actors, kept sorted by x.
+     * Actors report their own moves, so the order is repaired incrementally instead of re-sorted.
+     */
+    static final class Lane {
+        private final LaneIndex index; // Index owning the lane
+        private final double y; // Row y-coordinate shared by all actors in the lane
+        private final List<Actor> actors = new ArrayList<>(); // Actors sorted by x
+        private double maxWidth; // Widest actor in the lane, bounds the binary search
+        private double maxStep; // Longest continuous move seen in one tick, widens swept searches
+
+        private Lane(LaneIndex index, double y) {
+            this.index = index;
+            this.y = y;
+        }
+
+        double getY() {
+            return y;
+        }
+
+        /**
+         * Inserts an actor at its sorted position.
+         *
+         * @param actor The actor to insert.
+         */
+        private void insert(Actor actor) {
+            int slot = firstSlotAtOrAfter(actor.getX());
+            actors.add(slot, actor);
+            renumberFrom(slot);
+            actor.setLane(this);
+            grow(actor.getWidth(), actor.getHeight());
+        }
+
+        /**
+         * Removes an actor from the lane.
+         *
+         * @param actor The actor to remove.
+         */
+        private void remove(Actor actor) {
+            int slot = actor.getLaneSlot();
+            actors.remove(slot);
+            renumberFrom(slot);
+            actor.setLane(null);
+        }
+
+        /**
+         * Restores the x ordering after an actor has moved.
+         * Regular moves swap past at most one neighbour; wrapping round the screen walks the lane once.
+         *
+         * @param actor The actor that moved.
+         */
+        void reposition(Actor actor) {
+            double step = Math.abs(actor.getX() - actor.getSweepStartX());
+            if (step <= Actor.MAX_SWEEP_DISTANCE) {
+                maxStep = Math.max(maxStep, step);
+            }
+            int slot = actor.getLaneSlot();
+            while (slot > 0 && actors.get(slot - 1).getX() > actor.getX()) {
+                swap(slot - 1, slot);
+                slot--;
+            }
+            while (slot < actors.size() - 1 && actors.get(slot + 1).getX() < actor.getX()) {
+                swap(slot, slot + 1);
+                slot++;
+            }
+        }
+
+        /**
+         * Moves an actor whose row has changed into the lane for its new row.
+         *
+         * @param actor The actor that changed row.
+         */
+        void refile(Actor actor) {
+            remove(actor);
+            if (actors.isEmpty()) {
+                index.lanes.remove(y);
+            }
+            index.laneFor(actor.getY()).insert(actor);
+        }
+
+        /**
+         * Widens the search window after an actor's sprite has grown.
+         *
+         * @param width  The new width of an actor in the lane.
+         * @param height The new height of an actor in the lane.
+         */
+        void grow(double width, double height) {
+            maxWidth = Math.max(maxWidth, width);
+            if (height > index.maxHeight) {
+                index.raiseMaxHeight(height);
+            }
+        }
+
+        /**
+         * Collects the actors of a class in this lane that intersect the subject.
+         *
+         * @param subject The actor to test against.
+         * @param cls     The class of actors to collect.
+         * @param results The list receiving intersecting actors.
+         * @param <A>     The type of actors to collect.
+         */
+        private <A> void collect(Actor subject, Class<A> cls, List<A> results) {
+            double right = subject.getMaxX();
+            for (int i = firstSlotAtOrAfter(subject.getMinX() - maxWidth); i < actors.size(); i++) {
+                Actor candidate = actors.get(i);
+                if (candidate.getX() > right) {
+                    break;
+                }
+                if (candidate != subject && cls.isInstance(candidate) && subject.intersects(candidate)) {
+                    results.add(cls.cast(candidate));
+                }
+            }
+        }
+
+        /**
+         * Collects the actors of a class in this lane whose motion during the tick meets the subject's.
+         *
+         * @param subject The actor to test against.
+         * @param left    The left edge of the subject's swept bounds.
+         * @param right   The right edge of the subject's swept bounds.
+         * @param cls     The class of actors to collect.
+         * @param results The list receiving intersecting actors.
+         * @param <A>     The type of actors to collect.
+         */
+        private <A> void collectSwept(Actor subject, double left, double right, Class<A> cls, List<A> results) {
+            double searchRight = right + maxStep;
+            for (int i = firstSlotAtOrAfter(left - maxWidth - maxStep); i < actors.size(); i++) {
+                Actor candidate = actors.get(i);
+                if (candidate.getX() > searchRight) {
+                    break;
+                }
+                if (candidate != subject && cls.isInstance(candidate) && subject.sweptIntersects(candidate)) {
+                    results.add(cls.cast(candidate));
+                }
+            }
+        }
+
+        private int firstSlotAtOrAfter(double x) {
+            int low = 0;
+            int high = actors.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (actors.get(mid).getX() < x) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void swap(int i, int j) {
+            Actor first = actors.get(i);
+            Actor second = actors.get(j);
+            actors.set(i, second);
+            actors.set(j, first);
+            second.setLaneSlot(i);
+            first.setLaneSlot(j);
+        }
+
+        private void renumberFrom(int slot) {
+            for (int i = slot; i < actors.size(); i++) {
+                actors.get(i).setLaneSlot(i);
+            }
+        }
+    }
+
+    /**
+     * Adds an actor to the index, filing it into a lane if it stays in a single row.
+     *
+     * @param actor The actor to add.
+     */
+    public void add(Actor actor) {
+        if (actor.isLaneBound()) {
+            laneFor(actor.getY()).insert(actor);
+        } else {
+            freeActors.add(actor);
+        }
+    }
+
+    /**
+     * Removes an actor from the index.
+     *
+     * @param actor The actor to remove.
+     */
+    public void remove(Actor actor) {
+        Lane lane = actor.getLane();
+        if (lane == null) {
+            freeActors.remove(actor);
+            return;
+        }
+        lane.remove(actor);
+        if (lane.actors.isEmpty()) {
+            lanes.remove(lane.y);
+        }
+    }
+
+    /**
+     * Retrieves the actors of a class whose bounds intersect the subject's bounds.
+     *
+     * @param subject The actor to test against.
+     * @param cls     The class of actors to retrieve.
+     * @param <A>     The type of actors to retrieve.
+     * @return A list of intersecting actors.
+     */
+    public <A> List<A> query(Actor subject, Class<A> cls) {
+        List<A> results = new ArrayList<>();
+        double top = subject.getMinY();
+        double bottom = subject.getMaxY();
+        for (Lane lane : lanes.subMap(top - maxHeight, true, bottom, true).values()) {
+            lane.collect(subject, cls, results);
+        }
+        for (Actor candidate : freeActors) {
+            if (candidate != subject && cls.isInstance(candidate) && subject.intersects(candidate)) {
+                results.add(cls.cast(candidate));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves the actors of a class whose motion during the current tick meets the subject's motion.
+     * The search covers the subject's bounds from its sweep start to its current position.
+     *
+     * @param subject The actor to test against.
+     * @param cls     The class of actors to retrieve.
+     * @param <A>     The type of actors to retrieve.
+     * @return A list of actors hit by the swept bounds.
+     */
+    public <A> List<A> querySwept(Actor subject, Class<A> cls) {
+        double startX = subject.getSweepStartX();
+        double startY = subject.getSweepStartY();
+        if (Math.abs(subject.getMinX() - startX) > Actor.MAX_SWEEP_DISTANCE
+                || Math.abs(subject.getMinY() - startY) > Actor.MAX_SWEEP_DISTANCE) {
+            startX = subject.getMinX(); // Teleported, so only the current bounds count
+            startY = subject.getMinY();
+        }
+        double left = Math.min(subject.getMinX(), startX);
+        double right = Math.max(subject.getMaxX(), startX + subject.getWidth());
+        double top = Math.min(subject.getMinY(), startY);
+        double bottom = Math.max(subject.getMaxY(), startY + subject.getHeight());
+
+        List<A> results = new ArrayList<>();
+        for (Lane lane : lanes.subMap(top - maxHeight, true, bottom, true).values()) {
+            lane.collectSwept(subject, left, right, cls, results);
+        }
+        for (Actor candidate : freeActors) {
+            if (candidate != subject && cls.isInstance(candidate) && subject.sweptIntersects(candidate)) {
+                results.add(cls.cast(candidate));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Raises the tallest actor height. Lanes updated in parallel share this bound, so it is raised under a lock
+     * and kept volatile, so a lane checking it without the lock sees the latest height.
+     *
+     * @param height The height of an actor that grew.
+     */
+    private synchronized void raiseMaxHeight(double height) {
+        maxHeight = Math.max(maxHeight, height);
+    }
+
+    /**
+     * Copies the actors of each lane, so the lanes can be advanced independently of one another.
+     * Actors in different lanes share no state in the index, while actors of one lane reorder it as they move.
+     *
+     * @return One array per lane, in row order.
+     */
+    List<Actor[]> copyLanes() {
+        List<Actor[]> copies = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            copies.add(lane.actors.toArray(new Actor[0]));
+        }
+        return copies;
+    }
+
+    /**
+     * Gets the number of lanes currently in the index.
+     *
+     * @return The number of lanes.
+     */
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    private Lane laneFor(double y) {
+        return lanes.computeIfAbsent(y, row -> new Lane(this, row));
+    }
+}
@@ -0,0 +1,113 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Recycles instances of short-lived objects such as spiders and overlay nodes.
+ * Released instances are reset and kept idle until the next acquisition, so once a session has
+ * created as many instances as it ever uses at once, spawning allocates nothing.
+ * Pools are not thread-safe and are meant to be used from the thread that owns the objects.
+ *
+ * @param <T> The type of pooled object.
+ */
+public class ObjectPool<T> {
+
+    /**
+     * Snapshot of the pool counters.
+     *
+     * @param created  Instances created by the factory.
+     * @param acquired Acquisitions, whether served from the pool or newly created.
+     * @param released Instances handed back to the pool.
+     * @param idle     Instances currently waiting in the pool.
+     */
+    public record Stats(long created, long acquired, long released, int idle) {
+
+        /**
+         * Gets the number of instances acquired and not yet released.
+         *
+         * @return The number of instances in use.
+         */
+        public long inUse() {
+            return acquired - released;
+        }
+    }
+
+    private final Supplier<? extends T> factory; // Creates an instance when the pool is empty
+    private final Consumer<? super T> reset; // Clears an instance's state on release
+    private final int maxIdle; // Idle instances beyond this are dropped
+    private final ArrayDeque<T> idle = new ArrayDeque<>(); // Instances ready for reuse
+    private final Set<T> idleSet = Collections.newSetFromMap(new IdentityHashMap<>()); // Guards against double release
+    private long created;
+    private long acquired;
+    private long released;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param factory Creates a new instance when no idle one is available.
+     * @param reset   Resets an instance as it is released, or null if no reset is needed.
+     * @param maxIdle The largest number of idle instances kept for reuse.
+     * @throws IllegalArgumentException If the idle limit is negative.
+     */
+    public ObjectPool(Supplier<? extends T> factory, Consumer<? super T> reset, int maxIdle) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("Idle limit must not be negative: " + maxIdle);
+        }
+        this.factory = factory;
+        this.reset = reset;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Takes an idle instance from the pool, creating one if the pool is empty.
+     *
+     * @return An instance ready to be configured for use.
+     */
+    public T acquire() {
+        acquired++;
+        T instance = idle.pollLast();
+        if (instance != null) {
+            idleSet.remove(instance);
+            return instance;
+        }
+        created++;
+        return factory.get();
+    }
+
+    /**
+     * Resets an instance and returns it to the pool.
+     *
+     * @param instance The instance no longer in use.
+     * @throws IllegalArgumentException If the instance is null.
+     * @throws IllegalStateException    If the instance is already idle in the pool.
+     */
+    public void release(T instance) {
+        if (instance == null) {
+            throw new IllegalArgumentException("Cannot release a null instance");
+        }
+        if (idleSet.contains(instance)) {
+            throw new IllegalStateException("Instance released twice: " + instance);
+        }
+        released++;
+        if (reset != null) {
+            reset.accept(instance);
+        }
+        if (idle.size() < maxIdle) {
+            idle.addLast(instance);
+            idleSet.add(instance);
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public Stats getStats() {
+        return new Stats(created, acquired, released, idle.size());
+    }
+}
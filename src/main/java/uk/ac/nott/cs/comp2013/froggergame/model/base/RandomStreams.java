@@ -0,0 +1,70 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random streams of a world, one for each subsystem drawing chance events.
+ * All streams are split from a single root generator in a fixed order, so a run is fully determined
+ * by its seed, and a subsystem drawing more or fewer numbers leaves the sequences of the others unchanged.
+ * Streams are not thread-safe and are meant to be used from the thread ticking the world.
+ * Game code draws chance events from these streams only, never from a shared or thread-local generator.
+ */
+public class RandomStreams {
+    public static final String SEED_PROPERTY = "frogger.seed"; // System property fixing the seed of runs started without one
+
+    /**
+     * Subsystems drawing from a stream of their own.
+     */
+    public enum Stream {
+        SPIDERS, // Whether a log carries a spider
+        EASTER_EGGS // When and whether Easter eggs appear at the endpoints
+    }
+
+    private final long seed; // Seed of the root generator
+    private final Map<Stream, SplittableRandom> streams = new EnumMap<>(Stream.class);
+
+    /**
+     * Constructs the streams of a run from a seed.
+     *
+     * @param seed The seed of the root generator.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, root.split());
+        }
+    }
+
+    /**
+     * Picks the seed of a run that was not given one: the value of {@code -Dfrogger.seed} if set,
+     * otherwise a fresh random seed, so unseeded games differ from run to run. The chosen seed is kept
+     * by the streams and recorded in replays, so any run can be reproduced.
+     *
+     * @return The seed for a new run.
+     */
+    public static long defaultSeed() {
+        return Long.getLong(SEED_PROPERTY, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Gets the generator of a subsystem.
+     *
+     * @param stream The subsystem.
+     * @return The subsystem's generator.
+     */
+    public SplittableRandom get(Stream stream) {
+        return streams.get(stream);
+    }
+
+    /**
+     * Gets the seed the streams were built from, so a run can be reproduced.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,92 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.base;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+
+/**
+ * Displayed size of a sprite.
+ * Sizes are computed from the PNG header of the image resource, so the simulation knows
+ * an actor's bounds without decoding the image or starting a UI toolkit.
+ *
+ * @param width  The displayed width of the sprite.
+ * @param height The displayed height of the sprite.
+ */
+public record SpriteSize(double width, double height) {
+    private static final String BASE_PATH = "/images/"; // Base path for all image resources
+    private static final int PNG_HEADER_SKIP = 16; // Signature (8 bytes), IHDR length (4) and type (4)
+    private static final Map<String, SpriteSize> NATURAL_SIZES = new ConcurrentHashMap<>(); // Cached image dimensions
+    private static final SpriteSize UNKNOWN = new SpriteSize(-1, -1);
+    private static final SpriteSize[] ID_SIZES = new SpriteSize[SpriteId.values().length]; // Fitted size of each sprite id
+
+    static {
+        for (SpriteId id : SpriteId.values()) {
+            ID_SIZES[id.ordinal()] = fit(id.getFileName(), SpriteId.SIZE, SpriteId.SIZE);
+        }
+    }
+
+    /**
+     * Gets the displayed size of a character sprite, computed once when the class is loaded.
+     *
+     * @param id The sprite handle.
+     * @return The size of the sprite fitted into the character sprite box.
+     */
+    public static SpriteSize of(SpriteId id) {
+        return ID_SIZES[id.ordinal()];
+    }
+
+    /**
+     * Fits a sprite into the given box while preserving its aspect ratio.
+     * Falls back to the box itself when the image cannot be read.
+     *
+     * @param sprite    The image name, relative to the images folder.
+     * @param maxWidth  The width of the box.
+     * @param maxHeight The height of the box.
+     * @return The displayed size of the sprite.
+     */
+    public static SpriteSize fit(String sprite, double maxWidth, double maxHeight) {
+        SpriteSize natural = naturalSize(sprite);
+        if (natural == UNKNOWN) {
+            return new SpriteSize(maxWidth, maxHeight);
+        }
+        double scale = Math.min(maxWidth / natural.width(), maxHeight / natural.height());
+        return new SpriteSize(Math.round(natural.width() * scale), Math.round(natural.height() * scale));
+    }
+
+    /**
+     * Reads the dimensions of a sprite image, caching the result.
+     *
+     * @param sprite The image name, relative to the images folder.
+     * @return The dimensions of the image, or an unknown marker if the image cannot be read.
+     */
+    private static SpriteSize naturalSize(String sprite) {
+        if (sprite == null) {
+            return UNKNOWN;
+        }
+        return NATURAL_SIZES.computeIfAbsent(sprite, SpriteSize::readPngHeader);
+    }
+
+    /**
+     * Reads the width and height fields from the IHDR chunk of a PNG resource.
+     *
+     * @param sprite The image name, relative to the images folder.
+     * @return The dimensions of the image, or an unknown marker if the image cannot be read.
+     */
+    private static SpriteSize readPngHeader(String sprite) {
+        String path = sprite.startsWith("/") ? sprite : BASE_PATH + sprite;
+        try (InputStream resource = SpriteSize.class.getResourceAsStream(path)) {
+            if (resource == null) {
+                return UNKNOWN;
+            }
+            DataInputStream in = new DataInputStream(resource);
+            in.skipNBytes(PNG_HEADER_SKIP);
+            return new SpriteSize(in.readInt(), in.readInt());
+        } catch (IOException e) {
+            return UNKNOWN;
+        }
+    }
+}
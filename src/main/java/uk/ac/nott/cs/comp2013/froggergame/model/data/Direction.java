@@ -0,0 +1,22 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.data;
+
+/**
+ * Directions in which the player's character can move.
+ * Each direction carries the name fragment used by its sprite images.
+ */
+public enum Direction {
+    UP("Up"),
+    LEFT("Left"),
+    DOWN("Down"),
+    RIGHT("Right");
+
+    private final String spriteName; // Name fragment used in the sprite file names
+
+    Direction(String spriteName) {
+        this.spriteName = spriteName;
+    }
+
+    public String getSpriteName() {
+        return spriteName;
+    }
+}
@@ -1,47 +1,48 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.data;
 
 public class GameObjectData {
+    // Speeds in the tables below are expressed in units per second
     public static final Object[][] LOG_DATA = {
-            {"log2.png", 200, 200, 200, 0, 176, 1.0},
-            {"log2.png", 200, 200, 200, 220, 176, 1.0},
-            {"log2.png", 200, 200, 200, 440, 176, 1.0},
-            {"logs.png", 300, 300, 300, 0, 276, 1.5},
-            {"logs.png", 300, 300, 300, 400, 276, 1.5},
-            {"log3.png", 150, 150, 150, 50, 329, 0.75},
-            {"log3.png", 150, 150, 150, 270, 329, 0.75},
-            {"log3.png", 150, 150, 150, 490, 329, 0.75}
+            {"log2.png", 200, 200, 200, 0, 176, 60.0},
+            {"log2.png", 200, 200, 200, 220, 176, 60.0},
+            {"log2.png", 200, 200, 200, 440, 176, 60.0},
+            {"logs.png", 300, 300, 300, 0, 276, 90.0},
+            {"logs.png", 300, 300, 300, 400, 276, 90.0},
+            {"log3.png", 150, 150, 150, 50, 329, 45.0},
+            {"log3.png", 150, 150, 150, 270, 329, 45.0},
+            {"log3.png", 150, 150, 150, 490, 329, 45.0}
     };
 
     public static final Object[][] TURTLE_DATA = {
-            {500, 376, -1, 130, 130, false},
-            {300, 376, -1, 130, 130, false},
-            {700, 376, -1, 130, 130, false},
-            {600, 217, -1, 130, 130, true},
-            {400, 217, -1, 130, 130, true},
-            {200, 217, -1, 130, 130, true}
+            {500, 376, -60, 130, 130, false},
+            {300, 376, -60, 130, 130, false},
+            {700, 376, -60, 130, 130, false},
+            {600, 217, -60, 130, 130, true},
+            {400, 217, -60, 130, 130, true},
+            {200, 217, -60, 130, 130, true}
     };
 
     public static final Object[][] OBSTACLE_DATA = {
-            {"truck1Right.png", 120, 120, 0, 649, 1},
-            {"truck1Right.png", 120, 120, 300, 649, 1},
-            {"truck1Right.png", 120, 120, 600, 649, 1},
-            {"truck1Right.png", 120, 120, 720, 649, 1},
-
-            {"car1Left.png", 50, 50, 100, 597, -1},
-            {"car1Left.png", 50, 50, 250, 597, -1},
-            {"car1Left.png", 50, 50, 400, 597, -1},
-            {"car1Left.png", 50, 50, 550, 597, -1},
-
-            {"truck2Right.png", 200, 200, 0, 540, 1},
-            {"truck2Right.png", 200, 200, 500, 540, 1},
-
-            {"redcar.png", 50, 50, 100, 490, -1},
-            {"redcar.png", 50, 50, 400, 490, -1},
-            {"redcar.png", 50, 50, 600, 490, -1},
-
-            {"car1Left.png", 50, 50, 100, 700, -1},
-            {"car1Left.png", 50, 50, 400, 700, -1},
-            {"car1Left.png", 50, 50, 600, 700, -1}
+            {"truck1Right.png", 120, 120, 0, 649, 60},
+            {"truck1Right.png", 120, 120, 300, 649, 60},
+            {"truck1Right.png", 120, 120, 600, 649, 60},
+            {"truck1Right.png", 120, 120, 720, 649, 60},
+
+            {"car1Left.png", 50, 50, 100, 597, -60},
+            {"car1Left.png", 50, 50, 250, 597, -60},
+            {"car1Left.png", 50, 50, 400, 597, -60},
+            {"car1Left.png", 50, 50, 550, 597, -60},
+
+            {"truck2Right.png", 200, 200, 0, 540, 60},
+            {"truck2Right.png", 200, 200, 500, 540, 60},
+
+            {"redcar.png", 50, 50, 100, 490, -60},
+            {"redcar.png", 50, 50, 400, 490, -60},
+            {"redcar.png", 50, 50, 600, 490, -60},
+
+            {"car1Left.png", 50, 50, 100, 700, -60},
+            {"car1Left.png", 50, 50, 400, 700, -60},
+            {"car1Left.png", 50, 50, 600, 700, -60}
     };
 
     public static final int[][] END_POINT_DATA = {
@@ -51,4 +52,13 @@ public class GameObjectData {
             {403, 96},
             {536, 96}
     };
+
+    // Horizontal terrain bands: terrain, top y (inclusive), bottom y (exclusive).
+    // Rows outside every band are safe ground.
+    public static final Object[][] TERRAIN_DATA = {
+            {Terrain.WATER, 0, 413},
+            {Terrain.SAFE, 413, 460},
+            {Terrain.ROAD, 460, 750},
+            {Terrain.SAFE, 750, 800}
+    };
 }
@@ -0,0 +1,79 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact handles for the player's character sprites, which change the most often during play.
+ * Movement sprites are picked by indexing a table with the direction and jump state instead of
+ * building their file names, and renderers resolve a handle to its image by array index.
+ */
+public enum SpriteId {
+    FROG_UP("froggerUp.png"),
+    FROG_LEFT("froggerLeft.png"),
+    FROG_DOWN("froggerDown.png"),
+    FROG_RIGHT("froggerRight.png"),
+    FROG_UP_JUMP("froggerUpJump.png"),
+    FROG_LEFT_JUMP("froggerLeftJump.png"),
+    FROG_DOWN_JUMP("froggerDownJump.png"),
+    FROG_RIGHT_JUMP("froggerRightJump.png"),
+    CARDEATH_1("cardeath1.png"),
+    CARDEATH_2("cardeath2.png"),
+    CARDEATH_3("cardeath3.png"),
+    WATERDEATH_1("waterdeath1.png"),
+    WATERDEATH_2("waterdeath2.png"),
+    WATERDEATH_3("waterdeath3.png"),
+    WATERDEATH_4("waterdeath4.png");
+
+    public static final int SIZE = 40; // Box every character sprite is fitted into
+
+    private static final SpriteId[][] MOVEMENT = { // Indexed by direction, then jump state
+            {FROG_UP, FROG_UP_JUMP},
+            {FROG_LEFT, FROG_LEFT_JUMP},
+            {FROG_DOWN, FROG_DOWN_JUMP},
+            {FROG_RIGHT, FROG_RIGHT_JUMP}
+    };
+    private static final Map<String, SpriteId> BY_FILE_NAME = new HashMap<>();
+
+    static {
+        for (SpriteId id : values()) {
+            BY_FILE_NAME.put(id.fileName, id);
+        }
+    }
+
+    private final String fileName; // Image name, relative to the images folder
+
+    SpriteId(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Gets the movement sprite for a direction.
+     *
+     * @param direction The direction the character faces.
+     * @param jumping   Whether the character is mid-jump.
+     * @return The sprite handle.
+     */
+    public static SpriteId movement(Direction direction, boolean jumping) {
+        return MOVEMENT[direction.ordinal()][jumping ? 1 : 0];
+    }
+
+    /**
+     * Finds the handle of a sprite shown at the character sprite size.
+     *
+     * @param fileName The image name.
+     * @param width    The width of the box the sprite is fitted into.
+     * @param height   The height of the box the sprite is fitted into.
+     * @return The handle, or null if the sprite has none at that size.
+     */
+    public static SpriteId forSprite(String fileName, double width, double height) {
+        if (width != SIZE || height != SIZE || fileName == null) {
+            return null;
+        }
+        return BY_FILE_NAME.get(fileName);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.data;
+
+/**
+ * Kinds of ground the player's character can stand on.
+ */
+public enum Terrain {
+    SAFE(false),
+    ROAD(false),
+    WATER(true),
+    GOAL(true); // Goal slots sit in the river, so missing the slot itself still drowns
+
+    private final boolean water; // Whether standing here without a platform drowns
+
+    Terrain(boolean water) {
+        this.water = water;
+    }
+
+    public boolean isWater() {
+        return water;
+    }
+}
@@ -1,48 +1,43 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
-import javafx.scene.image.Image;
-import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageLoader;
-import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.AnimationHandler;
+import java.util.List;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.LaneActor;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.SpriteClip;
 
 /**
  * Abstract base class for turtles, providing shared animation and movement logic.
  * Subclasses must implement specific behavior through {@link #updateStateBasedOnFrame(int)}.
  */
-public abstract class AbstractTurtle extends Actor {
+public abstract class AbstractTurtle extends LaneActor {
     private static final long ANIMATION_INTERVAL = 900_000_000; // Time interval for frame updates
-    protected final Image[] animationFrames; // Array of images used for animation
+    protected final SpriteClip clip; // Shared animation frames
+    private int currentFrame; // Frame currently shown
 
     /**
      * Constructor for initializing the turtle's position, speed, size, and animation frames.
      *
      * @param xpos       The initial x position
      * @param ypos       The initial y position
-     * @param speed      The movement speed of the turtle
+     * @param speed      The movement speed of the turtle in units per second
      * @param width      The width of the turtle's image
      * @param height     The height of the turtle's image
+     * @param clipName   Name of the animation, shared by turtles of the same kind and size
      * @param framePaths Array of file paths for animation frames
      */
-    public AbstractTurtle(int xpos, int ypos, int speed, int width, int height, String[] framePaths) {
-        super(xpos, ypos, speed);
-        this.animationFrames = loadAnimationFrames(framePaths, width, height);
-        configureBounds(-75, 600, 600, -200); // Default boundaries for movement
+    public AbstractTurtle(int xpos, int ypos, int speed, int width, int height, String clipName, String[] framePaths) {
+        super(xpos, ypos, speed, -75, 600, 600, -200); // Default boundaries for movement
+        this.clip = SpriteClip.of(clipName, List.of(framePaths), ANIMATION_INTERVAL, width, height);
+        setSprite(clip.frame(0), width, height);
     }
 
     /**
-     * Loads the animation frames from file paths, resizing them to the specified dimensions.
+     * Gets the sprites the turtle cycles through.
      *
-     * @param framePaths Array of file paths for the animation frames
-     * @param width      The width to resize the frames
-     * @param height     The height to resize the frames
-     * @return Array of loaded and resized images
+     * @return The animation frame sprites, in order
      */
-    private Image[] loadAnimationFrames(String[] framePaths, int width, int height) {
-        Image[] frames = new Image[framePaths.length];
-        for (int i = 0; i < framePaths.length; i++) {
-            frames[i] = ImageLoader.loadImage(framePaths[i], width, height);
-        }
-        return frames;
+    public List<String> getAnimationFrames() {
+        return clip.getFrames();
     }
 
     /**
@@ -55,15 +50,18 @@ public abstract class AbstractTurtle extends Actor {
 
     /**
      * Defines the behavior of the turtle for each game tick, including animation updates and movement.
+     * The sprite and frame state are only updated when the clip moves on to another frame.
      *
      * @param now The current time in nanoseconds
      */
     @Override
     public void act(long now) {
-        int frame = AnimationHandler.getCurrentFrameIndex(now, ANIMATION_INTERVAL, animationFrames.length);
-        updateStateBasedOnFrame(frame);
-        setImage(animationFrames[frame]); // Set the current frame image
-        move(speed, 0); // Move the turtle horizontally
-        resetPositionIfOutOfBounds(speed); // Reset position if out of screen bounds
+        int frame = hasWorld() ? getWorld().getAnimator().frameAt(clip, now) : clip.frameAt(now);
+        if (frame != currentFrame) {
+            currentFrame = frame;
+            updateStateBasedOnFrame(frame);
+            setSprite(clip.frame(frame)); // Set the current frame sprite
+        }
+        scroll(now); // Move the turtle along its lane, wrapping round at the ends
     }
 }
@@ -1,14 +1,13 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
-import javafx.scene.image.Image;
-import javafx.scene.input.KeyCode;
-
 import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.AnimalCollisionHandler;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.CollisionHandler;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.TerrainMap;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.AnimalStateManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 
 /**
  * Represents the player-controlled animal in the game, handling movement, collisions, and state management.
@@ -16,12 +15,13 @@ import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 public class Animal extends Actor {
 
     // Constants for default values
+    public static final String DEFAULT_SPRITE = "froggerUp.png"; // Sprite shown when the animal is idle
     private static final double INITIAL_HIGHEST_Y = 800.0;
-    private static final double MOVEMENT_Y = 26.6667; // Vertical movement step
-    private static final double MOVEMENT_X = 21.3333; // Horizontal movement step
-    private static final int IMAGE_SIZE = 40; // Size of the animal image
-    private static final double DEFAULT_X = 300; // Default X position
-    private static final double DEFAULT_Y = 733 + MOVEMENT_Y; // Default Y position
+    public static final double MOVEMENT_Y = 26.6667; // Vertical movement step
+    public static final double MOVEMENT_X = 21.3333; // Horizontal movement step
+    public static final int IMAGE_SIZE = 40; // Size of the animal image
+    public static final double DEFAULT_X = 300; // Default X position
+    public static final double DEFAULT_Y = 733 + MOVEMENT_Y; // Default Y position
     private static final double DEFAULT_SPEED = 0.0; // Default speed
 
     // Instance variables
@@ -31,22 +31,20 @@ public class Animal extends Actor {
     private final CollisionHandler collisionHandler; // Handles collision logic
     private boolean carDeath = false; // Whether the animal died due to a car collision
     private boolean waterDeath = false; // Whether the animal died in water
-    private Score scoreDisplay; // Displays the score
+    private double sweepStartX; // Position at the end of the last collision check, so hops between ticks are swept
+    private double sweepStartY;
+    private TerrainMap terrainMap = TerrainMap.bake(LevelConfig.createDefault(1.0)); // Ground under each hop position
 
     /**
      * Constructs an animal with the specified image.
      *
-     * @param imageLink The path to the animal's image
+     * @param imageLink The name of the animal's image
      */
     public Animal(String imageLink) {
         super((int) DEFAULT_X, (int) DEFAULT_Y, DEFAULT_SPEED);
-        try {
-            setImage(new Image(imageLink, IMAGE_SIZE, IMAGE_SIZE, true, true));
-        } catch (RuntimeException ignored) {
-        }
+        setSprite(imageLink, IMAGE_SIZE, IMAGE_SIZE);
         this.stateManager = createDefaultStateManager();
         this.collisionHandler = createDefaultCollisionHandler();
-        this.scoreDisplay = new Score();
         resetPosition();
     }
 
@@ -69,10 +67,7 @@ public class Animal extends Actor {
      * @return The default CollisionHandler instance
      */
     private CollisionHandler createDefaultCollisionHandler() {
-        if (scoreDisplay == null) {
-            scoreDisplay = new Score();
-        }
-        return new AnimalCollisionHandler(this, stateManager, scoreDisplay);
+        return new AnimalCollisionHandler(this, stateManager);
     }
 
     /**
@@ -81,11 +76,42 @@ public class Animal extends Actor {
     public void resetPosition() {
         setX(DEFAULT_X);
         setY(DEFAULT_Y);
+        markSweepStart(); // A reset is a teleport, not a move to sweep across
+        collisionHandler.resetContacts(); // Anything touched at the start position is a new contact
         carDeath = false;
         waterDeath = false;
         stateManager.reset();
     }
 
+    /**
+     * Records the current position as the start of the next swept collision check.
+     */
+    private void markSweepStart() {
+        sweepStartX = getX();
+        sweepStartY = getY();
+    }
+
+    /**
+     * Gets the position the next collision check sweeps from. Unlike other actors, the animal also
+     * moves between ticks when it hops, so its sweep starts where the previous check left it.
+     *
+     * @return The x position at the start of the swept motion
+     */
+    @Override
+    public double getSweepStartX() {
+        return sweepStartX;
+    }
+
+    /**
+     * Gets the position the next collision check sweeps from.
+     *
+     * @return The y position at the start of the swept motion
+     */
+    @Override
+    public double getSweepStartY() {
+        return sweepStartY;
+    }
+
     public void setCurrentPlatform(Actor platform) {
         this.currentPlatform = platform;
     }
@@ -106,34 +132,50 @@ public class Animal extends Actor {
         this.waterDeath = waterDeath;
     }
 
+    /**
+     * Sets the terrain the animal moves over, e.g. when a new level layout is loaded.
+     *
+     * @param terrainMap The baked terrain of the current level
+     */
+    public void setTerrainMap(TerrainMap terrainMap) {
+        if (terrainMap == null) {
+            throw new IllegalArgumentException("Terrain map cannot be null");
+        }
+        this.terrainMap = terrainMap;
+    }
+
+    public TerrainMap getTerrainMap() {
+        return terrainMap;
+    }
+
     public StateManager getStateManager() {
         return stateManager;
     }
 
     /**
-     * Calculates the horizontal movement based on the pressed key.
+     * Calculates the horizontal movement for the given direction.
      *
-     * @param key The key code
+     * @param direction The direction of movement
      * @return The horizontal movement distance
      */
-    public double getMovementX(KeyCode key) {
-        return switch (key) {
-            case A -> -MOVEMENT_X;
-            case D -> MOVEMENT_X;
+    public double getMovementX(Direction direction) {
+        return switch (direction) {
+            case LEFT -> -MOVEMENT_X;
+            case RIGHT -> MOVEMENT_X;
             default -> 0;
         };
     }
 
     /**
-     * Calculates the vertical movement based on the pressed key.
+     * Calculates the vertical movement for the given direction.
      *
-     * @param key The key code
+     * @param direction The direction of movement
      * @return The vertical movement distance
      */
-    public double getMovementY(KeyCode key) {
-        return switch (key) {
-            case W -> -MOVEMENT_Y;
-            case S -> MOVEMENT_Y;
+    public double getMovementY(Direction direction) {
+        return switch (direction) {
+            case UP -> -MOVEMENT_Y;
+            case DOWN -> MOVEMENT_Y;
             default -> 0;
         };
     }
@@ -148,7 +190,7 @@ public class Animal extends Actor {
     private void applyPlatformMovement() {
         if (isOnPlatform() && currentPlatform != null) {
             double platformSpeed = currentPlatform.getSpeed();
-            setX(getX() + platformSpeed);
+            setX(getX() + stepDistance(platformSpeed));
         }
     }
 
@@ -180,7 +222,7 @@ public class Animal extends Actor {
      * @return True if in water without a platform, false otherwise
      */
     public boolean isInWaterWithoutPlatform() {
-        return !isOnPlatform() && getY() < 413.0;
+        return !isOnPlatform() && terrainMap.terrainAt(getX(), getY()).isWater();
     }
 
     public boolean isActive() {
@@ -190,6 +232,7 @@ public class Animal extends Actor {
     @Override
     public void act(long now) {
         if (!active) {
+            markSweepStart();
             return;
         }
         if (isDead()) {
@@ -198,5 +241,6 @@ public class Animal extends Actor {
             updateState();
         }
         stateManager.update(now);
+        markSweepStart();
     }
 }
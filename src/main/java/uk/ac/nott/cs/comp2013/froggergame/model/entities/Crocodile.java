@@ -9,7 +9,9 @@ public class Crocodile extends Actor {
     private static final double MOVE_DISTANCE = 400; // Maximum horizontal distance the crocodile can move
     private final double initialX; // Initial X position of the crocodile
     private boolean movingRight = true; // Indicates whether the crocodile is moving to the right
-    private static final double SPEED = 1.0; // Speed of the crocodile's movement
+    private static final double SPEED = 60.0; // Speed of the crocodile's movement in units per second
+    private static final String SPRITE = "crocodile.png"; // Image representing the crocodile
+    private static final int IMAGE_SIZE = 80; // Size of the crocodile image
 
     /**
      * Constructs a crocodile at the specified position with the given speed.
@@ -21,6 +23,7 @@ public class Crocodile extends Actor {
     public Crocodile(double x, double y, double speed) {
         super((int) x, (int) y, speed);
         this.initialX = x;
+        setSprite(SPRITE, IMAGE_SIZE, IMAGE_SIZE);
     }
 
     /**
@@ -41,6 +44,16 @@ public class Crocodile extends Actor {
         this.movingRight = movingRight;
     }
 
+    /**
+     * Crocodiles patrol back and forth along their row.
+     *
+     * @return Always true
+     */
+    @Override
+    public boolean isLaneBound() {
+        return true;
+    }
+
     /**
      * Defines the crocodile's behavior during each game tick.
      * The crocodile moves horizontally within a predefined range, reversing direction at the boundaries.
@@ -50,12 +63,12 @@ public class Crocodile extends Actor {
     @Override
     public void act(long now) {
         if (movingRight) {
-            move(SPEED, 0); // Move to the right
+            move(stepDistance(SPEED), 0); // Move to the right
             if (getX() >= initialX + MOVE_DISTANCE) {
                 movingRight = false; // Reverse direction when reaching the right boundary
             }
         } else {
-            move(-SPEED, 0); // Move to the left
+            move(-stepDistance(SPEED), 0); // Move to the left
             if (getX() <= initialX) {
                 movingRight = true; // Reverse direction when reaching the left boundary
             }
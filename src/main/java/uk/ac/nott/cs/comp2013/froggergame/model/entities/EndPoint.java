@@ -0,0 +1,189 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.entities;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.RandomStreams;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.timing.TimingWheel;
+
+/**
+ * Represents an endpoint the player can reach to complete objectives.
+ * Manages the activation state and the timing of Easter egg spawns, which runs on the world's
+ * {@link TimingWheel} while the endpoint is in a world.
+ */
+public class EndPoint extends Actor {
+	// Sprites for the default and activated states
+	private static final String DEFAULT_SPRITE = "End.png";
+	private static final String ACTIVATED_SPRITE = "FrogEnd.png";
+
+	// Constants for size and timings
+	public static final int IMAGE_SIZE = 60;
+	private static final double EASTER_EGG_DURATION_SECONDS = 5.0;
+	private static final double EASTER_EGG_SPAWN_CHANCE = 0.3;
+	private static final double MIN_RANDOM_DELAY_SECONDS = 1.0;
+	private static final double MAX_RANDOM_DELAY_SECONDS = 10.0;
+
+	/**
+	 * Listener interface to handle activation events.
+	 */
+	public interface ActivationListener {
+		void onActivated(EndPoint endPoint);
+	}
+
+	private boolean isActivated; // Whether the endpoint has been activated
+	private boolean hasEasterEgg; // Whether an Easter egg is currently present
+	private TimingWheel.Timer spawnTimer; // Fires the next Easter egg spawn attempt
+	private TimingWheel.Timer expiryTimer; // Fires when the current Easter egg disappears
+	private ActivationListener activationListener; // Callback for activation events
+
+	/**
+	 * Constructor to initialize the endpoint at the given position.
+	 *
+	 * @param x The x-coordinate of the endpoint.
+	 * @param y The y-coordinate of the endpoint.
+	 */
+	public EndPoint(int x, int y) {
+		super(x, y, 0);
+		setSprite(DEFAULT_SPRITE, IMAGE_SIZE, IMAGE_SIZE); // Easter eggs are scheduled once the endpoint joins a world
+	}
+
+	/**
+	 * Sets the listener for activation events.
+	 *
+	 * @param listener The listener to be notified when the endpoint is activated.
+	 */
+	public void setActivationListener(ActivationListener listener) {
+		this.activationListener = listener;
+	}
+
+	/**
+	 * Activates the endpoint, changing its appearance and clearing any Easter egg.
+	 */
+	public void setEnd() {
+		if (!isActivated) {
+			clearEasterEgg();
+			cancelTimers();
+			setSprite(ACTIVATED_SPRITE);
+			isActivated = true;
+			if (activationListener != null) {
+				activationListener.onActivated(this);
+			}
+		}
+	}
+
+	/**
+	 * Resets the endpoint to its default state, clearing any activation or Easter egg.
+	 */
+	public void reset() {
+		setSprite(DEFAULT_SPRITE);
+		isActivated = false;
+		hasEasterEgg = false;
+		cancelTimers();
+		scheduleNextEasterEgg();
+	}
+
+	/**
+	 * Checks if the endpoint has been activated.
+	 *
+	 * @return True if the endpoint is activated, false otherwise.
+	 */
+	public boolean isActivated() {
+		return isActivated;
+	}
+
+	/**
+	 * Checks if the endpoint currently has an Easter egg.
+	 *
+	 * @return True if an Easter egg is present, false otherwise.
+	 */
+	public boolean hasEasterEgg() {
+		return hasEasterEgg;
+	}
+
+	/**
+	 * Clears the Easter egg from the endpoint if it exists.
+	 */
+	public void clearEasterEgg() {
+		hasEasterEgg = false;
+		if (expiryTimer != null) {
+			expiryTimer.cancel();
+		}
+	}
+
+	/**
+	 * Attaches the endpoint to a world, moving its Easter egg timers onto the world's timing wheel.
+	 *
+	 * @param world The world the endpoint joins, or null when it leaves.
+	 */
+	@Override
+	public void setWorld(GameWorld world) {
+		cancelTimers();
+		super.setWorld(world);
+		if (world == null) {
+			spawnTimer = null;
+			expiryTimer = null;
+			return;
+		}
+		spawnTimer = world.getTimers().newTimer(this::trySpawnEasterEgg);
+		expiryTimer = world.getTimers().newTimer(this::expireEasterEgg);
+		if (!isActivated) {
+			scheduleNextEasterEgg();
+		}
+	}
+
+	/**
+	 * Schedules the next attempt to spawn an Easter egg after a random delay.
+	 */
+	private void scheduleNextEasterEgg() {
+		if (spawnTimer != null) {
+			spawnTimer.start(MIN_RANDOM_DELAY_SECONDS + getWorld().getRandom(RandomStreams.Stream.EASTER_EGGS).nextDouble() * (MAX_RANDOM_DELAY_SECONDS - MIN_RANDOM_DELAY_SECONDS));
+		}
+	}
+
+	/**
+	 * Attempts to spawn an Easter egg at the endpoint based on a random chance.
+	 */
+	private void trySpawnEasterEgg() {
+		if (getWorld().getRandom(RandomStreams.Stream.EASTER_EGGS).nextDouble() < EASTER_EGG_SPAWN_CHANCE) {
+			hasEasterEgg = true;
+			expiryTimer.start(EASTER_EGG_DURATION_SECONDS);
+		} else {
+			scheduleNextEasterEgg();
+		}
+	}
+
+	/**
+	 * Removes an Easter egg whose time is up and schedules the next spawn attempt.
+	 */
+	private void expireEasterEgg() {
+		hasEasterEgg = false;
+		scheduleNextEasterEgg();
+	}
+
+	private void cancelTimers() {
+		if (spawnTimer != null) {
+			spawnTimer.cancel();
+		}
+		if (expiryTimer != null) {
+			expiryTimer.cancel();
+		}
+	}
+
+	/**
+	 * Endpoints never move.
+	 *
+	 * @return Always true
+	 */
+	@Override
+	public boolean isLaneBound() {
+		return true;
+	}
+
+	/**
+	 * Endpoints have no per-tick behavior; their Easter egg timers fire from the world's timing wheel.
+	 *
+	 * @param now The current time in nanoseconds.
+	 */
+	@Override
+	public void act(long now) {
+	}
+}
@@ -1,45 +1,60 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
-import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
-import uk.ac.nott.cs.comp2013.froggergame.view.scenes.World;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.LaneActor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.RandomStreams;
 
 /**
  * Represents a log in the game that moves horizontally and can randomly generate spiders on it.
  */
-public class Log extends Actor {
+public class Log extends LaneActor {
 	private Spider spider; // Spider associated with the log
-	private static final Random RANDOM = new Random(); // Random generator for spider appearance
 
 	/**
 	 * Constructs a log with the specified image, size, position, and speed.
 	 *
-	 * @param imageLink Path to the log image
+	 * @param imageLink Name of the log image
 	 * @param size      Size of the log image
 	 * @param xPos      Initial X position
 	 * @param yPos      Initial Y position
-	 * @param speed     Movement speed of the log
+	 * @param speed     Movement speed of the log in units per second
 	 */
 	public Log(String imageLink, int size, int xPos, int yPos, double speed) {
-		super(xPos, yPos, speed);
-		try {
-			setImage(new javafx.scene.image.Image(imageLink, size, size, true, true));
-		} catch (RuntimeException ignored) {
-		}
-		configureBounds(-300, 600, 700, -180);
+		super(xPos, yPos, speed, -300, 600, 700, -180);
+		setSprite(imageLink, size, size);
 	}
 
 	/**
-	 * Randomly adds a spider to the log with a 50% chance.
+	 * Randomly adds a spider to the log with a 50% chance, drawn from the world's spider stream,
+	 * so the spiders of a run follow from the world's seed.
+	 * Spiders are taken from the world's spider pool.
 	 *
-	 * @param spiderImagePath Path to the spider image
+	 * @param spiderImagePath Name of the spider image
+	 * @throws IllegalStateException If the log is not in a world
 	 */
 	public void addRandomSpider(String spiderImagePath) {
-		if (spider == null && RANDOM.nextBoolean()) { // 50% chance
-			spider = new Spider(this, spiderImagePath);
-			if (this.getParent() instanceof World world) {
-				world.addActor(spider); // Add spider to the game world
+		if (!hasWorld()) {
+			throw new IllegalStateException("A log outside a world needs a random stream to add a spider.");
+		}
+		addRandomSpider(spiderImagePath, getWorld().getRandom(RandomStreams.Stream.SPIDERS));
+	}
+
+	/**
+	 * Randomly adds a spider to the log with a 50% chance, drawn from the given stream.
+	 * Spiders are taken from the world's spider pool when the log is in a world.
+	 *
+	 * @param spiderImagePath Name of the spider image
+	 * @param random          The stream the chance is drawn from
+	 */
+	public void addRandomSpider(String spiderImagePath, SplittableRandom random) {
+		if (spider == null && random.nextBoolean()) { // 50% chance
+			if (hasWorld()) {
+				spider = Spider.pool(getWorld()).acquire();
+				spider.attach(this, spiderImagePath);
+				getWorld().addActor(spider); // Add spider to the game world
+			} else {
+				spider = new Spider(this, spiderImagePath);
 			}
 		}
 	}
@@ -54,10 +69,18 @@ public class Log extends Actor {
 	}
 
 	/**
-	 * Clears the spider from the log.
+	 * Clears the spider from the log, removing it from the world and returning it to the spider pool.
 	 */
 	public void clearSpider() {
+		Spider cleared = spider;
 		this.spider = null;
+		if (cleared == null) {
+			return;
+		}
+		cleared.removeFromWorld();
+		if (hasWorld()) {
+			Spider.pool(getWorld()).release(cleared);
+		}
 	}
 
 	/**
@@ -68,8 +91,7 @@ public class Log extends Actor {
 	 */
 	@Override
 	public void act(long now) {
-		move(speed, 0); // Move the log horizontally
-		resetPositionIfOutOfBounds(speed); // Reset position if the log goes out of bounds
+		scroll(now); // Move the log along its lane, wrapping round at the ends
 		if (spider != null) {
 			spider.updatePosition(); // Update spider's position to match the log
 		}
@@ -1,41 +1,34 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
-import javafx.scene.image.Image;
-
-import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.LaneActor;
 
 /**
  * Represents a moving obstacle in the game.
  */
-public class Obstacle extends Actor {
+public class Obstacle extends LaneActor {
 
 	/**
 	 * Constructs an obstacle with the given properties.
 	 *
-	 * @param imageLink Path to the obstacle image.
+	 * @param imageLink Name of the obstacle image.
 	 * @param xpos      Initial X position.
 	 * @param ypos      Initial Y position.
-	 * @param speed     Movement speed.
+	 * @param speed     Movement speed in units per second.
 	 * @param width     Width of the image.
 	 * @param height    Height of the image.
 	 */
 	public Obstacle(String imageLink, int xpos, int ypos, double speed, int width, int height) {
-		super(xpos, ypos, speed);
-		try {
-			setImage(new Image(imageLink, width, height, true, true));
-		} catch (RuntimeException ignored) {
-		}
-		configureBounds(-50, 600, 600, -200);
+		super(xpos, ypos, speed, -50, 600, 600, -200);
+		setSprite(imageLink, width, height);
 	}
 
 	/**
-	 * Moves the obstacle and resets its position if out of bounds.
+	 * Moves the obstacle along its lane, wrapping round at the ends.
 	 *
 	 * @param now Current game time in nanoseconds.
 	 */
 	@Override
 	public void act(long now) {
-		move(speed, 0);
-		resetPositionIfOutOfBounds(speed);
+		scroll(now);
 	}
 }
@@ -1,29 +1,67 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
-import javafx.scene.image.Image;
-import javafx.scene.layout.Pane;
-
 import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.ObjectPool;
 
 /**
  * Represents a spider that appears on a log and moves along with it.
+ * The spider is moved by its log rather than by itself, so it is not filed in a lane of its own:
+ * its row differs from the log's, and lanes advanced in parallel must not move each other's actors.
  */
 public class Spider extends Actor {
-    private final Log parentLog; // The log to which this spider is attached
+    private static final int SIZE = 30; // Width and height of the spider image
+    private static final double X_OFFSET = 50; // Horizontal offset from the log
+    private static final double Y_OFFSET = 2; // Vertical offset from the log
+
+    private Log parentLog; // The log to which this spider is attached, or null while pooled
+
+    /**
+     * Constructs a detached spider, to be attached to a log with {@link #attach(Log, String)}.
+     */
+    public Spider() {
+        super(0, 0, 0);
+    }
 
     /**
      * Constructs a spider attached to a specific log with the given image.
      *
      * @param parentLog The log the spider is attached to.
-     * @param imagePath Path to the spider's image.
+     * @param imagePath Name of the spider's image.
      */
     public Spider(Log parentLog, String imagePath) {
         super((int) parentLog.getX(), (int) parentLog.getY(), 0);
         this.parentLog = parentLog;
-        try {
-            setImage(new Image(imagePath, 30, 30, true, true));
-        } catch (RuntimeException ignored) {
-        }
+        setSprite(imagePath, SIZE, SIZE);
+    }
+
+    /**
+     * Gets the pool recycling the spiders of a world.
+     *
+     * @param world The world the spiders appear in.
+     * @return The world's spider pool.
+     */
+    public static ObjectPool<Spider> pool(GameWorld world) {
+        return world.getPool(Spider.class, Spider::new, Spider::detach);
+    }
+
+    /**
+     * Attaches the spider to a log and moves it onto the log.
+     *
+     * @param log       The log to ride on.
+     * @param imagePath Name of the spider's image.
+     */
+    public void attach(Log log, String imagePath) {
+        this.parentLog = log;
+        setSprite(imagePath, SIZE, SIZE);
+        relocate(log.getX() + X_OFFSET, log.getY() + Y_OFFSET);
+    }
+
+    /**
+     * Detaches the spider from its log, ready to be pooled.
+     */
+    public void detach() {
+        this.parentLog = null;
     }
 
     /**
@@ -36,25 +74,26 @@ public class Spider extends Actor {
     }
 
     /**
-     * Gets the parent pane containing this spider, if any.
-     *
-     * @return The parent pane or null if not present.
+     * Updates the position of the spider based on the parent log's position.
+     * Called by the log once per tick, so the position before the move is kept as the start of the
+     * spider's motion for interpolation and swept collisions.
      */
-    public Pane getParentPane() {
-        if (this.getParent() instanceof Pane pane) {
-            return pane;
-        }
-        return null;
+    public void updatePosition() {
+        markTickStart();
+        setX(parentLog.getX() + X_OFFSET);
+        setY(parentLog.getY() + Y_OFFSET);
     }
 
     /**
-     * Updates the position of the spider based on the parent log's position.
+     * Runs the spider's own behaviour without recording the start of its motion, which the log does
+     * when it moves the spider; the log may already have moved it earlier in the tick.
+     *
+     * @param now          The simulated time of the tick in nanoseconds
+     * @param deltaSeconds The duration of the tick in seconds
      */
-    public void updatePosition() {
-        double xOffset = 50; // Horizontal offset from the log
-        setX(parentLog.getX() + xOffset);
-        double yOffset = 2; // Vertical offset from the log
-        setY(parentLog.getY() + yOffset);
+    @Override
+    public void tick(long now, double deltaSeconds) {
+        act(now);
     }
 
     /**
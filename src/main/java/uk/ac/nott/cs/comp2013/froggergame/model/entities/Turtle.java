@@ -2,7 +2,7 @@ package uk.ac.nott.cs.comp2013.froggergame.model.entities;
 
 public class Turtle extends AbstractTurtle {
     public Turtle(int xpos, int ypos, int speed, int width, int height) {
-        super(xpos, ypos, speed, width, height, new String[]{
+        super(xpos, ypos, speed, width, height, "turtle", new String[]{
                 "TurtleAnimation1.png",
                 "TurtleAnimation2.png",
                 "TurtleAnimation3.png"
@@ -11,12 +11,12 @@ public class WetTurtle extends AbstractTurtle {
 	 *
 	 * @param xpos   The initial X position.
 	 * @param ypos   The initial Y position.
-	 * @param speed  The movement speed.
+	 * @param speed  The movement speed in units per second.
 	 * @param width  The width of the turtle's image.
 	 * @param height The height of the turtle's image.
 	 */
 	public WetTurtle(int xpos, int ypos, int speed, int width, int height) {
-		super(xpos, ypos, speed, width, height, new String[]{
+		super(xpos, ypos, speed, width, height, "wetTurtle", new String[]{
 				"TurtleAnimation1.png",
 				"TurtleAnimation2Wet.png",
 				"TurtleAnimation3Wet.png",
@@ -41,6 +41,6 @@ public class WetTurtle extends AbstractTurtle {
 	 */
 	@Override
 	public void updateStateBasedOnFrame(int frame) {
-		sunk = (frame == animationFrames.length - 1);
+		sunk = (frame == clip.getFrameCount() - 1);
 	}
 }
@@ -1,27 +1,29 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.factory;
 
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageLoader;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.*;
-import uk.ac.nott.cs.comp2013.froggergame.view.scenes.MyStage;
 
 public class GameObjectFactory {
-    private static final String FROG_IMAGE = "froggerUp.png";
+    private static final String FROG_IMAGE = Animal.DEFAULT_SPRITE;
 
     // Creates an animal (frog) for the game.
     public Animal createAnimal() {
-        return new Animal(ImageLoader.loadImage(FROG_IMAGE, 40, 40).getUrl());
+        return new Animal(FROG_IMAGE);
     }
 
     // Creates a log with specified properties.
     public Log createLog(String imageName, int width, int height, int xpos, int ypos, int yLevel, double speed) {
-        String imageUrl = ImageLoader.loadImage(imageName, width, height).getUrl();
-        return new Log(imageUrl, xpos, ypos, yLevel, speed);
+        return new Log(imageName, xpos, ypos, yLevel, speed);
     }
 
     // Creates an obstacle with specified properties.
     public Obstacle createObstacle(String imageName, int width, int height, int xpos, int ypos, int speed) {
-        String imageUrl = ImageLoader.loadImage(imageName, width, height).getUrl();
-        return new Obstacle(imageUrl, xpos, ypos, speed, width, height);
+        return new Obstacle(imageName, xpos, ypos, speed, width, height);
+    }
+
+    // Creates an endpoint at the specified position.
+    public EndPoint createEndPoint(int xpos, int ypos) {
+        return new EndPoint(xpos, ypos);
     }
 
     // Creates a turtle or wet turtle based on the "isWet" flag.
@@ -36,20 +38,20 @@ public class GameObjectFactory {
     // Interface for mapping and setting up game objects.
     public interface GameObjectSetup<T> {
         T map(Object[] rawData);
-        void setup(MyStage background, T gameObject);
+        void setup(GameWorld world, T gameObject);
     }
 
-    // Generalized setup method for adding game objects to the stage.
-    public <T> void setupGameObjects(MyStage background, Object[][] data, GameObjectSetup<T> setup) {
+    // Generalized setup method for adding game objects to the world.
+    public <T> void setupGameObjects(GameWorld world, Object[][] data, GameObjectSetup<T> setup) {
         for (Object[] rawData : data) {
             T gameObject = setup.map(rawData);
-            setup.setup(background, gameObject);
+            setup.setup(world, gameObject);
         }
     }
 
-    // Sets up logs on the game stage using log data.
-    public void setupLogs(MyStage background, Object[][] logData) {
-        setupGameObjects(background, logData, new GameObjectSetup<Log>() {
+    // Sets up logs in the world using log data.
+    public void setupLogs(GameWorld world, Object[][] logData) {
+        setupGameObjects(world, logData, new GameObjectSetup<Log>() {
             @Override
             public Log map(Object[] rawData) {
                 return createLog(
@@ -59,15 +61,15 @@ public class GameObjectFactory {
             }
 
             @Override
-            public void setup(MyStage background, Log gameObject) {
-                background.addActor(gameObject);
+            public void setup(GameWorld world, Log gameObject) {
+                world.addActor(gameObject);
             }
         });
     }
 
-    // Sets up obstacles on the game stage using obstacle data.
-    public void setupObstacles(MyStage background, Object[][] obstacleData) {
-        setupGameObjects(background, obstacleData, new GameObjectSetup<Obstacle>() {
+    // Sets up obstacles in the world using obstacle data.
+    public void setupObstacles(GameWorld world, Object[][] obstacleData) {
+        setupGameObjects(world, obstacleData, new GameObjectSetup<Obstacle>() {
             @Override
             public Obstacle map(Object[] rawData) {
                 return createObstacle(
@@ -77,15 +79,15 @@ public class GameObjectFactory {
             }
 
             @Override
-            public void setup(MyStage background, Obstacle gameObject) {
-                background.addActor(gameObject);
+            public void setup(GameWorld world, Obstacle gameObject) {
+                world.addActor(gameObject);
             }
         });
     }
 
-    // Sets up turtles on the game stage using turtle data.
-    public void setupTurtles(MyStage background, Object[][] turtleData) {
-        setupGameObjects(background, turtleData, new GameObjectSetup<AbstractTurtle>() {
+    // Sets up turtles in the world using turtle data.
+    public void setupTurtles(GameWorld world, Object[][] turtleData) {
+        setupGameObjects(world, turtleData, new GameObjectSetup<AbstractTurtle>() {
             @Override
             public AbstractTurtle map(Object[] rawData) {
                 return createTurtle(
@@ -95,8 +97,8 @@ public class GameObjectFactory {
             }
 
             @Override
-            public void setup(MyStage background, AbstractTurtle gameObject) {
-                background.addActor(gameObject);
+            public void setup(GameWorld world, AbstractTurtle gameObject) {
+                world.addActor(gameObject);
             }
         });
     }
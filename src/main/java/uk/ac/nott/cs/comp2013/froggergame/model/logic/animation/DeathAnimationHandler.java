@@ -1,17 +1,20 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.animation;
 
-import javafx.scene.image.Image;
-
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
 
 /**
  * Handles the animation logic for an animal's death, including updating frames and resetting states.
+ * Frames advance at a fixed interval of simulation time, so the animation runs at the same pace at
+ * any tick rate and follows the game clock when it is paused or scaled.
  */
 public class DeathAnimationHandler {
     private int deathAnimationFrame = 0;
-    private static final int DEFAULT_FRAME_INTERVAL = 5;
-    private final int frameInterval;
+    private static final long DEFAULT_FRAME_INTERVAL = 83_000_000L; // About five 60 Hz frames per sprite
+    private final long frameInterval; // Simulated nanoseconds each frame is shown for
+    private long nextFrameTime = Long.MIN_VALUE; // Time of the next frame step; the first call steps at once
+    private SpriteClip clip; // Shared frames of the death animation last played
+    private int shownFrame = 0; // Frame currently shown on the animal, or 0 if none
 
     /**
      * Default constructor using the default frame interval.
@@ -23,9 +26,9 @@ public class DeathAnimationHandler {
     /**
      * Constructor that allows customizing the frame interval.
      *
-     * @param frameInterval The interval between animation frames.
+     * @param frameInterval The interval between animation frames, in simulated nanoseconds.
      */
-    public DeathAnimationHandler(int frameInterval) {
+    public DeathAnimationHandler(long frameInterval) {
         this.frameInterval = frameInterval;
     }
 
@@ -33,7 +36,7 @@ public class DeathAnimationHandler {
      * Animates the death of an animal based on the provided context.
      *
      * @param now     The current time in nanoseconds.
-     * @param context The animation context containing the animal, image manager, type, and frame limit.
+     * @param context The animation context containing the animal, type, and frame limit.
      * @return The current state of the animation: IN_PROGRESS or COMPLETE.
      */
     public AnimationState animateDeath(long now, DeathAnimationContext context) {
@@ -42,11 +45,14 @@ public class DeathAnimationHandler {
         }
 
         if (deathAnimationFrame < context.frameLimit()) {
-            updateDeathImage(context.animal(), context.imageManager(), context.type());
+            if (deathAnimationFrame != shownFrame) {
+                updateDeathImage(context.animal(), clipFor(context));
+                shownFrame = deathAnimationFrame;
+            }
             return AnimationState.IN_PROGRESS;
         }
 
-        resetAfterDeath(context.animal(), context.imageManager());
+        resetAfterDeath(context.animal());
         return AnimationState.COMPLETE;
     }
 
@@ -54,34 +60,56 @@ public class DeathAnimationHandler {
      * Determines whether the frame should be updated based on the current time.
      *
      * @param now The current time in nanoseconds.
-     * @return True if the frame should be updated, false otherwise.
+     * @return True if the frame interval has elapsed since the last frame step, false otherwise.
      */
     private boolean shouldUpdateFrame(long now) {
-        return now % frameInterval == 0;
+        if (now < nextFrameTime) {
+            return false;
+        }
+        nextFrameTime = now + frameInterval;
+        return true;
+    }
+
+    /**
+     * Gets the shared frames of the death animation described by the context, reusing the last clip if it matches.
+     *
+     * @param context The animation context.
+     * @return The clip holding the numbered death frames.
+     */
+    private SpriteClip clipFor(DeathAnimationContext context) {
+        int frameCount = context.frameLimit() - 1; // Frame 0 is the living sprite
+        if (clip == null || clip.getFrameCount() != frameCount || !clip.getName().equals(context.type())) {
+            Animal animal = context.animal();
+            clip = SpriteClip.numbered(context.type(), frameCount, frameInterval,
+                    animal.getRequestedWidth(), animal.getRequestedHeight());
+        }
+        return clip;
     }
 
     /**
-     * Updates the animal's image to the current death animation frame.
+     * Updates the animal's sprite to the current death animation frame.
      *
-     * @param animal       The animal to update.
-     * @param imageManager The image manager for retrieving death images.
-     * @param type         The type of death animation.
+     * @param animal The animal to update.
+     * @param clip   The frames of the death animation.
      */
-    private void updateDeathImage(Animal animal, ImageManager imageManager, String type) {
-        Image deathImage = imageManager.getDeathImage(type, deathAnimationFrame);
-        animal.setImage(deathImage);
+    private void updateDeathImage(Animal animal, SpriteClip clip) {
+        SpriteId id = clip.frameId(deathAnimationFrame - 1);
+        if (id != null) {
+            animal.setSprite(id);
+        } else {
+            animal.setSprite(clip.frame(deathAnimationFrame - 1));
+        }
     }
 
     /**
-     * Resets the animal's state and image after the death animation is complete.
+     * Resets the animal's state and sprite after the death animation is complete.
      *
-     * @param animal       The animal to reset.
-     * @param imageManager The image manager for retrieving the default image.
+     * @param animal The animal to reset.
      */
-    private void resetAfterDeath(Animal animal, ImageManager imageManager) {
+    private void resetAfterDeath(Animal animal) {
         animal.resetPosition();
-        animal.setImage(imageManager.getDefaultImage());
-        deathAnimationFrame = 0;
+        animal.setSprite(SpriteId.FROG_UP);
+        reset();
     }
 
     /**
@@ -89,6 +117,8 @@ public class DeathAnimationHandler {
      */
     public void reset() {
         deathAnimationFrame = 0;
+        shownFrame = 0;
+        nextFrameTime = Long.MIN_VALUE;
     }
 
     /**
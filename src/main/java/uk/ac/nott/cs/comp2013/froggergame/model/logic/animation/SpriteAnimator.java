@@ -0,0 +1,44 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.animation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates looping sprite clips for a world.
+ * The current frame of each clip is worked out once per tick and shared by every actor playing
+ * that clip, so actors only need to compare it with the frame they last showed.
+ * Lanes updated in parallel may play the same clip, so the cache is safe to share between threads.
+ */
+public class SpriteAnimator {
+
+    /**
+     * The frame of a clip at one tick, replaced as a whole so readers never see a half-updated pair.
+     *
+     * @param time  The tick the frame was evaluated for.
+     * @param frame The frame shown at that tick.
+     */
+    private record Evaluation(long time, int frame) {
+    }
+
+    private final Map<SpriteClip, Evaluation> evaluations = new ConcurrentHashMap<>(); // Latest frame of each clip; clips are interned, so keys compare by identity
+
+    /**
+     * Gets the frame a looping clip shows at the given tick.
+     *
+     * @param clip The clip being played.
+     * @param now  The simulation time of the tick in nanoseconds.
+     * @return The index of the current frame.
+     */
+    public int frameAt(SpriteClip clip, long now) {
+        Evaluation evaluation = evaluations.get(clip);
+        if (evaluation == null || evaluation.time() != now) {
+            evaluation = new Evaluation(now, clip.frameAt(now));
+            evaluations.put(clip, evaluation);
+        }
+        return evaluation.frame();
+    }
+
+    public int getClipCount() {
+        return evaluations.size();
+    }
+}
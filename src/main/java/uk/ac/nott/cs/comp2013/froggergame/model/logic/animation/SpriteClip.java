@@ -0,0 +1,136 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+
+/**
+ * Immutable set of animation frames shown at a fixed rate.
+ * Clips are flyweights: a single instance exists for each clip name and sprite size, shared by every
+ * actor that plays it, so frame names are built once instead of per actor or per frame.
+ */
+public final class SpriteClip {
+
+    private record Key(String name, double width, double height) {
+    }
+
+    private static final Map<Key, SpriteClip> CLIPS = new ConcurrentHashMap<>(); // Shared clips
+
+    private final String name; // Name identifying the clip
+    private final List<String> frames; // Sprite names in playing order
+    private final SpriteId[] frameIds; // Handle of each frame, or null where a frame has none
+    private final long frameNanos; // Time each frame is shown for
+    private final double width; // Box the frames are fitted into
+    private final double height;
+
+    private SpriteClip(String name, List<String> frames, long frameNanos, double width, double height) {
+        this.name = name;
+        this.frames = frames;
+        this.frameNanos = frameNanos;
+        this.width = width;
+        this.height = height;
+        this.frameIds = new SpriteId[frames.size()];
+        for (int i = 0; i < frameIds.length; i++) {
+            frameIds[i] = SpriteId.forSprite(frames.get(i), width, height);
+        }
+    }
+
+    /**
+     * Gets the shared clip with the given name and size, defining it on first use.
+     *
+     * @param name       The name of the clip.
+     * @param frames     The sprite names of the frames, in order.
+     * @param frameNanos The time each frame is shown for, in nanoseconds.
+     * @param width      The width of the box the frames are fitted into.
+     * @param height     The height of the box the frames are fitted into.
+     * @return The shared clip.
+     * @throws IllegalArgumentException If the clip has no frames, a non-positive frame time, or was
+     *                                  already defined with different frames.
+     */
+    public static SpriteClip of(String name, List<String> frames, long frameNanos, double width, double height) {
+        if (frames.isEmpty() || frameNanos <= 0) {
+            throw new IllegalArgumentException("Clip " + name + " needs frames and a positive frame time.");
+        }
+        SpriteClip clip = CLIPS.computeIfAbsent(new Key(name, width, height),
+                key -> new SpriteClip(name, List.copyOf(frames), frameNanos, width, height));
+        if (clip.frameNanos != frameNanos || !clip.frames.equals(frames)) {
+            throw new IllegalArgumentException("Clip " + name + " is already defined with different frames.");
+        }
+        return clip;
+    }
+
+    /**
+     * Gets the shared clip whose frames are numbered images, such as {@code cardeath1.png} to {@code cardeath3.png}.
+     *
+     * @param prefix     The image name before the frame number, also used as the clip name.
+     * @param count      The number of frames.
+     * @param frameNanos The time each frame is shown for, in nanoseconds.
+     * @param width      The width of the box the frames are fitted into.
+     * @param height     The height of the box the frames are fitted into.
+     * @return The shared clip.
+     */
+    public static SpriteClip numbered(String prefix, int count, long frameNanos, double width, double height) {
+        List<String> frames = new ArrayList<>(count);
+        for (int frame = 1; frame <= count; frame++) {
+            frames.add(prefix + frame + ".png");
+        }
+        return of(prefix, frames, frameNanos, width, height);
+    }
+
+    /**
+     * Calculates the frame shown at the given time for a clip looping since time zero.
+     *
+     * @param time The simulation time in nanoseconds.
+     * @return The index of the frame.
+     */
+    public int frameAt(long time) {
+        return AnimationHandler.getCurrentFrameIndex(time, frameNanos, frames.size());
+    }
+
+    /**
+     * Gets the sprite name of a frame.
+     *
+     * @param index The index of the frame.
+     * @return The sprite name.
+     */
+    public String frame(int index) {
+        return frames.get(index);
+    }
+
+    /**
+     * Gets the sprite handle of a frame.
+     *
+     * @param index The index of the frame.
+     * @return The sprite handle, or null if the frame has none.
+     */
+    public SpriteId frameId(int index) {
+        return frameIds[index];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getFrames() {
+        return frames;
+    }
+
+    public int getFrameCount() {
+        return frames.size();
+    }
+
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -1,66 +1,202 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.*;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 
 /**
  * Handles collision logic for the Animal entity with various game objects.
  * Registers and processes specific actions for each type of collision.
+ * A single swept broadphase query supplies every candidate. One pass classifies the candidates; the
+ * kinds to handle are then dispatched in {@link CollisionKind} priority order, one pass over the
+ * candidates per kind, up to and including the first kind that is not an overlay, so the outcome does
+ * not depend on query order. A last pass renews the contacts of the lower-priority kinds still touched,
+ * so they do not end and begin again once the higher-priority contact clears. Handling stops early when
+ * a strategy resets the animal.
+ * Handled contacts are remembered in a {@link ContactCache}, so each strategy reacts once when a
+ * contact begins rather than on every tick the overlap lasts.
  */
 public class AnimalCollisionHandler implements CollisionHandler {
     private final Animal animal;
     private final StateManager stateManager;
-    private final Score scoreDisplay;
-    private final Map<Class<?>, CollisionStrategy> collisionStrategies = new HashMap<>();
+    private final Binding<?>[] collisionStrategies = new Binding<?>[CollisionKind.count()]; // Strategies indexed by kind ordinal
+    private final ContactCache contacts = new ContactCache(); // Contacts handled during the previous tick
+    private final ContactCache.EndListener contactEndListener = this::endContact; // Reused for every tick
+    private boolean reset; // Whether the contacts were reset since the current check began
+    private CollisionKind[] candidateKinds = new CollisionKind[16]; // Kind of each candidate of the current check, reused
 
     /**
-     * Initializes the collision handler for the specified animal with state management and score display.
+     * Pairs a strategy with the entity class it accepts, so dispatch is checked rather than blindly cast.
+     *
+     * @param type     The entity class handled by the strategy.
+     * @param strategy The strategy to apply.
+     * @param <T>      The entity type.
+     */
+    private record Binding<T extends Actor>(Class<T> type, CollisionStrategy<T> strategy) {
+        void begin(Animal animal, Actor collider, StateManager stateManager) {
+            strategy.handleCollision(animal, type.cast(collider), stateManager);
+        }
+
+        void persist(Animal animal, Actor collider, StateManager stateManager) {
+            strategy.handleContactPersist(animal, type.cast(collider), stateManager);
+        }
+
+        void end(Animal animal, Actor collider, StateManager stateManager) {
+            strategy.handleContactEnd(animal, type.cast(collider), stateManager);
+        }
+    }
+
+    /**
+     * Initializes the collision handler for the specified animal with state management.
      *
      * @param animal       The Animal entity to handle collisions for.
      * @param stateManager Manages the state of the animal.
-     * @param scoreDisplay Updates the displayed score.
      */
-    public AnimalCollisionHandler(Animal animal, StateManager stateManager, Score scoreDisplay) {
+    public AnimalCollisionHandler(Animal animal, StateManager stateManager) {
         this.animal = animal;
         this.stateManager = stateManager;
-        this.scoreDisplay = scoreDisplay;
         registerStrategies();
     }
 
     /**
-     * Checks for collisions and invokes the appropriate actions for detected collisions.
+     * Registers the strategy used for each kind of collision.
      */
     private void registerStrategies() {
-        collisionStrategies.put(Obstacle.class, new ObstacleCollisionStrategy());
-        collisionStrategies.put(Log.class, new LogCollisionStrategy());
-        collisionStrategies.put(WetTurtle.class, new WetTurtleCollisionStrategy());
-        collisionStrategies.put(End.class, new EndCollisionStrategy());
-        collisionStrategies.put(Spider.class, new SpiderCollisionStrategy());
-        collisionStrategies.put(Turtle.class, new TurtleCollisionStrategy());
+        register(CollisionKind.OBSTACLE, Obstacle.class, new ObstacleCollisionStrategy());
+        register(CollisionKind.END, EndPoint.class, new EndCollisionStrategy());
+        register(CollisionKind.SPIDER, Spider.class, new SpiderCollisionStrategy());
+        register(CollisionKind.WET_TURTLE, WetTurtle.class, new WetTurtleCollisionStrategy());
+        register(CollisionKind.TURTLE, Turtle.class, new TurtleCollisionStrategy());
+        register(CollisionKind.LOG, Log.class, new LogCollisionStrategy());
+    }
+
+    private <T extends Actor> void register(CollisionKind kind, Class<T> type, CollisionStrategy<T> strategy) {
+        if (kind.getType() != type) {
+            throw new IllegalArgumentException("Strategy for " + type.getSimpleName() + " cannot handle " + kind);
+        }
+        collisionStrategies[kind.ordinal()] = new Binding<>(type, strategy);
     }
 
     @Override
     public void checkCollisions() {
-        for (Class<?> colliderType : collisionStrategies.keySet()) {
-            List<?> collisions = animal.getIntersectingObjects(colliderType);
-            if (!collisions.isEmpty()) {
-                for (Object collider : collisions) {
-                    CollisionStrategy strategy = collisionStrategies.get(colliderType);
-                    if (strategy != null) {
-                        strategy.handleCollision(animal, collider, stateManager, scoreDisplay);
-                    }
-                }
-                return;
+        List<Actor> candidates = animal.getSweptIntersectingObjects(Actor.class);
+        int count = candidates.size();
+        if (candidateKinds.length < count) {
+            candidateKinds = new CollisionKind[Math.max(count, candidateKinds.length * 2)];
+        }
+        int touched = 0; // Bit set of the kinds among the candidates, by ordinal
+        for (int i = 0; i < count; i++) {
+            CollisionKind kind = kindOf(candidates.get(i));
+            candidateKinds[i] = kind;
+            if (kind != null) {
+                touched |= 1 << kind.ordinal();
             }
         }
-        if (animal.isOnPlatform()) {
+
+        if (animal.isOnPlatform() && !touchesPlatform(touched)) {
             animal.clearCurrentPlatform();
         }
+
+        reset = false;
+        int handled = 0; // Bit set of the kinds dispatched to their strategies
+        for (CollisionKind kind : CollisionKind.values()) {
+            int bit = 1 << kind.ordinal();
+            if ((touched & bit) == 0) {
+                continue;
+            }
+            handled |= bit;
+            if (!dispatch(kind, candidates)) {
+                return; // The animal was reset, so the remaining candidates no longer apply
+            }
+            if (!kind.isOverlay()) {
+                break;
+            }
+        }
+        if ((touched & ~handled) != 0) {
+            renew(candidates, handled);
+        }
+        contacts.endTick(contactEndListener);
+    }
+
+    /**
+     * Hands the candidates of one kind to the kind's strategy.
+     *
+     * @param kind       The kind to handle.
+     * @param candidates Every actor touched during the tick.
+     * @return False if a strategy reset the animal, which also cleared the contacts.
+     */
+    private boolean dispatch(CollisionKind kind, List<Actor> candidates) {
+        Binding<?> binding = collisionStrategies[kind.ordinal()];
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidateKinds[i] != kind) {
+                continue;
+            }
+            Actor candidate = candidates.get(i);
+            if (contacts.touch(candidate)) {
+                binding.begin(animal, candidate, stateManager);
+            } else {
+                binding.persist(animal, candidate, stateManager);
+            }
+            if (reset) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the contacts of candidates outranked this tick without handling them, so a contact that
+     * lasts through a higher-priority one is not reported as ended and begun again.
+     *
+     * @param candidates Every actor touched during the tick.
+     * @param handled    Bit set of the kinds already dispatched, by ordinal.
+     */
+    private void renew(List<Actor> candidates, int handled) {
+        for (int i = 0; i < candidates.size(); i++) {
+            CollisionKind kind = candidateKinds[i];
+            if (kind != null && (handled & 1 << kind.ordinal()) == 0) {
+                contacts.touch(candidates.get(i));
+            }
+        }
+    }
+
+    private static boolean touchesPlatform(int touched) {
+        return (touched & (1 << CollisionKind.WET_TURTLE.ordinal()
+                | 1 << CollisionKind.TURTLE.ordinal()
+                | 1 << CollisionKind.LOG.ordinal())) != 0;
+    }
+
+    @Override
+    public void resetContacts() {
+        contacts.clear();
+        reset = true;
+    }
+
+    /**
+     * Notifies the strategy of a contact that was not renewed this tick.
+     *
+     * @param actor The actor the animal stopped touching.
+     */
+    private void endContact(Actor actor) {
+        CollisionKind kind = CollisionKind.of(actor);
+        if (kind != null) {
+            collisionStrategies[kind.ordinal()].end(animal, actor, stateManager);
+        }
+    }
+
+    /**
+     * Classifies a candidate, ignoring kinds that only count when the animal ends the tick touching them.
+     *
+     * @param candidate An actor touched at some time during the tick.
+     * @return The kind to resolve the candidate as, or null if it does not count.
+     */
+    private CollisionKind kindOf(Actor candidate) {
+        CollisionKind kind = CollisionKind.of(candidate);
+        if (kind == null || kind.isSwept() || animal.intersects(candidate)) {
+            return kind;
+        }
+        return null;
     }
 }
@@ -2,4 +2,10 @@ package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
 
 public interface CollisionHandler {
     void checkCollisions();
+
+    /**
+     * Forgets ongoing contacts, e.g. after the subject has been teleported. Does nothing by default.
+     */
+    default void resetContacts() {
+    }
 }
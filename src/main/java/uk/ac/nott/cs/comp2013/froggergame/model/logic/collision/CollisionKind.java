@@ -0,0 +1,81 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Obstacle;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Spider;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Turtle;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.WetTurtle;
+
+/**
+ * Kinds of actor the animal can collide with.
+ * The declaration order is the resolution priority: when the animal touches several kinds at once,
+ * they are handled from the earliest kind on, up to and including the first kind that is not an overlay.
+ * So lethal obstacles beat platforms and reaching an endpoint beats any water check, while a spider,
+ * an overlay riding on a log, is collected without keeping the log from carrying the animal.
+ * Impact kinds are matched against the animal's motion over the whole tick, so they cannot be
+ * skipped over; platforms and endpoints only count where the animal ends the tick.
+ */
+public enum CollisionKind {
+    OBSTACLE(Obstacle.class, true, false),
+    END(EndPoint.class, false, false),
+    SPIDER(Spider.class, true, true),
+    WET_TURTLE(WetTurtle.class, false, false),
+    TURTLE(Turtle.class, false, false),
+    LOG(Log.class, false, false);
+
+    private static final CollisionKind[] KINDS = values(); // Cached to avoid cloning on every lookup
+    private static final ClassValue<CollisionKind> KIND_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected CollisionKind computeValue(Class<?> type) {
+            for (CollisionKind kind : KINDS) {
+                if (kind.type.isAssignableFrom(type)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }; // Resolved once per class, including subclasses
+
+    private final Class<? extends Actor> type; // Entity class represented by this kind
+    private final boolean swept; // Whether a touch at any time during the tick counts
+    private final boolean overlay; // Whether lower-priority kinds are still handled after this one
+
+    CollisionKind(Class<? extends Actor> type, boolean swept, boolean overlay) {
+        this.type = type;
+        this.swept = swept;
+        this.overlay = overlay;
+    }
+
+    public Class<? extends Actor> getType() {
+        return type;
+    }
+
+    public boolean isSwept() {
+        return swept;
+    }
+
+    public boolean isOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Gets the number of collision kinds, for sizing tables indexed by ordinal.
+     *
+     * @return The number of kinds.
+     */
+    public static int count() {
+        return KINDS.length;
+    }
+
+    /**
+     * Resolves the collision kind of an actor.
+     *
+     * @param actor The actor to classify.
+     * @return The kind of the actor, or null if the animal does not react to it.
+     */
+    public static CollisionKind of(Actor actor) {
+        return KIND_BY_CLASS.get(actor.getClass());
+    }
+}
@@ -2,21 +2,43 @@ package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
 
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 
 /**
  * CollisionStrategy interface that defines the method for handling collisions.
  * Classes implementing this interface will define the specific collision handling logic.
+ * A collision is handled once when the contact begins; strategies that must keep reacting
+ * while the contact lasts override {@link #handleContactPersist}.
+ *
+ * @param <T> The type of object the strategy handles collisions with.
  */
-public interface CollisionStrategy {
+public interface CollisionStrategy<T> {
 
     /**
-     * Handles the collision between the animal and another object.
+     * Handles the start of a collision between the animal and another object.
      *
      * @param animal The animal object, representing the subject involved in the collision.
-     * @param collider The object the animal collides with, can be any type of object.
+     * @param collider The object the animal collides with.
      * @param stateManager The game state manager, used to manage changes in the game state.
-     * @param scoreDisplay The score display component, used to update and show the score.
      */
-    void handleCollision(Animal animal, Object collider, StateManager stateManager, Score scoreDisplay);
+    void handleCollision(Animal animal, T collider, StateManager stateManager);
+
+    /**
+     * Handles a collision that continues from the previous tick. Does nothing by default.
+     *
+     * @param animal The animal object, representing the subject involved in the collision.
+     * @param collider The object the animal is still touching.
+     * @param stateManager The game state manager, used to manage changes in the game state.
+     */
+    default void handleContactPersist(Animal animal, T collider, StateManager stateManager) {
+    }
+
+    /**
+     * Handles the end of a collision. Does nothing by default.
+     *
+     * @param animal The animal object, representing the subject involved in the collision.
+     * @param collider The object the animal stopped touching.
+     * @param stateManager The game state manager, used to manage changes in the game state.
+     */
+    default void handleContactEnd(Animal animal, T collider, StateManager stateManager) {
+    }
 }
@@ -0,0 +1,71 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+
+/**
+ * Remembers which actors were in contact during the previous tick, so that a contact lasting
+ * several ticks is reported as one begin, a run of persists and one end rather than a fresh
+ * collision every tick.
+ */
+public class ContactCache {
+
+    /**
+     * Listener interface for contacts that ended since the previous tick.
+     */
+    public interface EndListener {
+        void contactEnded(Actor actor);
+    }
+
+    private Set<Actor> previous = Collections.newSetFromMap(new IdentityHashMap<>()); // Contacts of the previous tick
+    private Set<Actor> current = Collections.newSetFromMap(new IdentityHashMap<>()); // Contacts seen so far this tick
+
+    /**
+     * Records a contact for the current tick.
+     *
+     * @param actor The actor in contact.
+     * @return True if the contact begins this tick, false if it persists from the previous tick.
+     */
+    public boolean touch(Actor actor) {
+        current.add(actor);
+        return !previous.contains(actor);
+    }
+
+    /**
+     * Finishes the current tick, reporting every contact of the previous tick that was not renewed.
+     *
+     * @param listener The listener notified of ended contacts.
+     */
+    public void endTick(EndListener listener) {
+        for (Actor actor : previous) {
+            if (!current.contains(actor)) {
+                listener.contactEnded(actor);
+            }
+        }
+        Set<Actor> recycled = previous; // Swap the sets so no tick allocates
+        previous = current;
+        current = recycled;
+        current.clear();
+    }
+
+    /**
+     * Forgets all contacts, so anything touched next is reported as a new contact.
+     */
+    public void clear() {
+        previous.clear();
+        current.clear();
+    }
+
+    /**
+     * Checks whether an actor was in contact during the previous tick.
+     *
+     * @param actor The actor to check.
+     * @return True if in contact, otherwise false.
+     */
+    public boolean isInContact(Actor actor) {
+        return previous.contains(actor);
+    }
+}
@@ -1,23 +1,18 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
 
-import javafx.application.Platform;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
 
-public class EndCollisionStrategy implements CollisionStrategy {
+public class EndCollisionStrategy implements CollisionStrategy<EndPoint> {
     @Override
-    public void handleCollision(Animal animal, Object collider, StateManager stateManager, Score scoreDisplay) {
-        End end = (End) collider;
-
+    public void handleCollision(Animal animal, EndPoint end, StateManager stateManager) {
         if (end.isActivated()) {
             stateManager.addPoints(-50);
         } else {
             end.setEnd();
             stateManager.addPoints(50);
         }
-        Platform.runLater(() -> scoreDisplay.updateScore(stateManager.getPoints()));
         animal.resetPosition();
     }
 }
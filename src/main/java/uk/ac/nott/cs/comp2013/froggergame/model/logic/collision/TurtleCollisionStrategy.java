@@ -3,14 +3,15 @@ package uk.ac.nott.cs.comp2013.froggergame.model.logic.collision;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Turtle;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 
-public class TurtleCollisionStrategy implements CollisionStrategy {
+public class TurtleCollisionStrategy implements CollisionStrategy<Turtle> {
     @Override
-    public void handleCollision(Animal animal, Object collider, StateManager stateManager, Score scoreDisplay) {
-        if (collider instanceof Turtle turtle) {
-            animal.setCurrentPlatform(turtle);
-        }
+    public void handleCollision(Animal animal, Turtle turtle, StateManager stateManager) {
+        animal.setCurrentPlatform(turtle);
     }
-}
 
+    @Override
+    public void handleContactPersist(Animal animal, Turtle turtle, StateManager stateManager) {
+        handleCollision(animal, turtle, stateManager); // Keep riding the turtle
+    }
+}
@@ -1,17 +1,15 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.level;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
-import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
 import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Crocodile;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Crocodile;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Level;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.TimeBar;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.ScrollingLane;
 
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Manages the progression and state of game levels.
@@ -32,29 +30,29 @@ public class LevelManager {
 
     private int totalEnds; // Total endpoints in the current level
     private final Animal animal; // The player's character
-    private final Level levelView; // UI component for level display
+    private final GameWorld world; // The world holding the level's actors
     private boolean levelChanged = false; // Indicates if the level has changed
-    private final TimeBar timeBar; // Time bar for the level
+    private final LevelTimer levelTimer; // Countdown timer for the level
     private boolean levelTransitioning = false; // Indicates if a level transition is in progress
+    private LevelConfig firstLevelConfig; // Layout and speed of the first level, or null for the default
 
     /**
      * Constructor to initialize the level manager.
      *
      * @param animal        The player's character
-     * @param levelView     The level UI component
+     * @param world         The world holding the level's actors
      * @param totalEnds     Total endpoints for the level
-     * @param timeBar       Time bar for the level
+     * @param levelTimer    Countdown timer for the level
      * @param eventListener Listener for game events
      */
-    public LevelManager(Animal animal, Level levelView, int totalEnds, TimeBar timeBar, GameEventListener eventListener) {
-        if (animal == null || levelView == null) {
-            throw new IllegalArgumentException("Animal and Level view cannot be null");
+    public LevelManager(Animal animal, GameWorld world, int totalEnds, LevelTimer levelTimer, GameEventListener eventListener) {
+        if (animal == null || world == null) {
+            throw new IllegalArgumentException("Animal and game world cannot be null");
         }
         this.animal = animal;
-        this.levelView = levelView;
+        this.world = world;
         this.totalEnds = totalEnds;
-        this.timeBar = timeBar;
-        this.levelView.updateLevelDisplay(this.level);
+        this.levelTimer = levelTimer;
         this.eventListener = eventListener;
     }
 
@@ -69,6 +67,7 @@ public class LevelManager {
     public void setLevel(int level) {
         this.level = level;
         this.levelChanged = true;
+        this.animal.setTerrainMap(TerrainMap.bake(getLevelConfig(level)));
     }
 
     public int getCurrentLevel() {
@@ -80,7 +79,7 @@ public class LevelManager {
      */
     public void increaseLevel() {
         this.level++;
-        this.levelView.updateLevelDisplay(this.level);
+        this.levelChanged = true;
         this.resetLevel();
     }
 
@@ -108,29 +107,25 @@ public class LevelManager {
                 if (animal != null) {
                     animal.resetPosition();
                 }
-                if (this.timeBar != null) {
-                    this.timeBar.reset();
+                if (this.levelTimer != null) {
+                    this.levelTimer.reset();
                 }
             }
         }
         levelTransitioning = false;
     }
 
-    public Level getLevelView() {
-        return this.levelView;
-    }
-
     /**
-     * Resets the level's state, including layout and actor speeds.
+     * Resets the level's state, including endpoints and actor speeds.
      */
     private void resetLevel() {
         this.reachedEnds = 0;
         LevelConfig config = this.getLevelConfig(this.level);
-        this.levelView.resetLevelLayout(config);
         this.resetAnimalPosition();
 
         resetEnds();
         this.totalEnds = config.totalEnds();
+        this.animal.setTerrainMap(TerrainMap.bake(config));
 
         if (this.level == MAX_LEVEL) {
             addLevelSpecificActors(this.level);
@@ -141,13 +136,13 @@ public class LevelManager {
     }
 
     private void resetEnds() {
-        for (End end : this.levelView.getEnds()) {
+        for (EndPoint end : this.world.getObjects(EndPoint.class)) {
             end.reset();
         }
     }
 
     private static final Map<Integer, LevelActorConfig> LEVEL_ACTOR_CONFIGS = Map.of(
-            MAX_LEVEL, new LevelActorConfig("/images/crocodile.png", 140, 440, 2.0, "/images/spider.png")
+            MAX_LEVEL, new LevelActorConfig("crocodile.png", 140, 440, 120.0, "spider.png")
     );
 
     private void addLevelSpecificActors(int level) {
@@ -156,22 +151,16 @@ public class LevelManager {
             return;
         }
 
-        String crocodileImagePath = Objects.requireNonNull(getClass().getResource(config.crocodileImagePath())).toExternalForm();
-        uk.ac.nott.cs.comp2013.froggergame.model.entities.Crocodile crocodile = new uk.ac.nott.cs.comp2013.froggergame.model.entities.Crocodile(
+        Crocodile crocodile = new Crocodile(
                 config.crocodileX(),
                 config.crocodileY(),
                 config.crocodileSpeed()
         );
+        crocodile.setSprite(config.crocodileImagePath());
+        this.world.addActor(crocodile);
 
-        Crocodile.initializeImage(crocodile, crocodileImagePath);
-
-        this.levelView.addActor(crocodile);
-
-        String spiderImagePath = Objects.requireNonNull(getClass().getResource(config.spiderImagePath())).toExternalForm();
-        for (Actor actor : levelView.getActors()) {
-            if (actor instanceof Log log) {
-                log.addRandomSpider(spiderImagePath);
-            }
+        for (Log log : world.getObjects(Log.class)) {
+            log.addRandomSpider(config.spiderImagePath());
         }
     }
 
@@ -183,18 +172,32 @@ public class LevelManager {
         this.animal.setY(DEFAULT_ANIMAL_START_Y);
     }
 
+    /**
+     * Replaces the default layout and speed of the first level, so sessions can start on a level of their own.
+     * Takes effect the next time the first level is set.
+     *
+     * @param config The configuration of the first level, or null to use the default.
+     */
+    public void setFirstLevelConfig(LevelConfig config) {
+        this.firstLevelConfig = config;
+    }
+
     public LevelConfig getLevelConfig(int currentLevel) {
+        if (currentLevel == MIN_LEVEL && firstLevelConfig != null) {
+            return firstLevelConfig;
+        }
         return LevelConfig.createDefault(currentLevel == MAX_LEVEL ? SPEED_FACTOR_ADVANCED : SPEED_FACTOR_NORMAL);
     }
 
     /**
-     * Updates the speed of all objects in the level based on the provided factor.
+     * Updates the speed of all moving objects in the level based on the provided factor.
+     * Objects share their lane's speed, so only the lanes need updating.
      *
      * @param speedFactor The factor to apply to object speeds
      */
     public void updateObjectsSpeed(double speedFactor) {
-        for (Actor actor : levelView.getActors()) {
-            actor.setSpeedFactor(speedFactor);
+        for (ScrollingLane lane : world.getLanes()) {
+            lane.setSpeedFactor(speedFactor);
         }
     }
 }
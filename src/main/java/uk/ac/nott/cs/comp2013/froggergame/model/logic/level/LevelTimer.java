@@ -0,0 +1,68 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.level;
+
+/**
+ * Countdown timer for a level, advanced by the simulation ticks.
+ */
+public class LevelTimer {
+    public static final double DEFAULT_TOTAL_TIME = 90.0; // Default total countdown time in seconds
+
+    private final double totalTime; // Total countdown time in seconds
+    private double remainingTime; // Remaining time in seconds
+    private boolean expired = false; // Whether the countdown has run out
+
+    /**
+     * Constructs a timer with the default countdown.
+     */
+    public LevelTimer() {
+        this(DEFAULT_TOTAL_TIME);
+    }
+
+    /**
+     * Constructs a timer with a custom countdown.
+     *
+     * @param totalTime The total countdown time in seconds.
+     * @throws IllegalArgumentException If the total time is not positive.
+     */
+    public LevelTimer(double totalTime) {
+        if (totalTime <= 0) {
+            throw new IllegalArgumentException("Total time must be positive.");
+        }
+        this.totalTime = totalTime;
+        this.remainingTime = totalTime;
+    }
+
+    /**
+     * Advances the countdown by the given duration.
+     *
+     * @param deltaSeconds The elapsed time in seconds.
+     * @return True if the countdown ran out during this call, otherwise false.
+     */
+    public boolean tick(double deltaSeconds) {
+        if (expired) {
+            return false;
+        }
+        remainingTime = Math.max(0.0, remainingTime - deltaSeconds);
+        expired = remainingTime == 0.0;
+        return expired;
+    }
+
+    /**
+     * Restarts the countdown from the total time.
+     */
+    public void reset() {
+        remainingTime = totalTime;
+        expired = false;
+    }
+
+    public double getRemainingTime() {
+        return remainingTime;
+    }
+
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public boolean isExpired() {
+        return expired;
+    }
+}
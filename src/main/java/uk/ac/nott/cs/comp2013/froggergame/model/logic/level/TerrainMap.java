@@ -0,0 +1,145 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.level;
+
+import java.util.Arrays;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.GameObjectData;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Terrain;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+
+/**
+ * Static grid describing the ground under the player's character.
+ * The grid has one cell per hop, anchored on the character's start position, so every position
+ * the character can hop to lies on a cell. Terrain and goal slots are baked once per level layout,
+ * making each lookup a single array index.
+ */
+public class TerrainMap {
+    private static final double SCREEN_WIDTH = 600; // Width of the playing field
+    private static final int NO_GOAL = -1; // Marks cells outside every goal slot
+
+    private final int columns; // Cells per row
+    private final int rows; // Rows from the start row up to the top of the screen
+    private final int startColumn; // Column holding the start position
+    private final Terrain[] terrain; // Terrain of each cell, row-major
+    private final int[] goalSlots; // Goal slot index of each cell, or NO_GOAL
+
+    private TerrainMap() {
+        startColumn = (int) Math.ceil(Animal.DEFAULT_X / Animal.MOVEMENT_X);
+        columns = startColumn + (int) Math.ceil((SCREEN_WIDTH - Animal.DEFAULT_X) / Animal.MOVEMENT_X) + 1;
+        rows = (int) Math.floor(Animal.DEFAULT_Y / Animal.MOVEMENT_Y) + 1;
+        terrain = new Terrain[columns * rows];
+        goalSlots = new int[columns * rows];
+        Arrays.fill(terrain, Terrain.SAFE);
+        Arrays.fill(goalSlots, NO_GOAL);
+    }
+
+    /**
+     * Bakes the terrain map for the default layout.
+     *
+     * @param config The level whose goal slots to mark.
+     * @return The baked map.
+     */
+    public static TerrainMap bake(LevelConfig config) {
+        return bake(config, GameObjectData.TERRAIN_DATA);
+    }
+
+    /**
+     * Bakes a terrain map from horizontal terrain bands and a level's goal slots.
+     * A cell takes the terrain of the band holding its row; a cell becomes a goal cell when the
+     * character standing on it would touch one of the level's endpoints.
+     *
+     * @param config      The level whose goal slots to mark.
+     * @param terrainData Rows of terrain, top y (inclusive) and bottom y (exclusive).
+     * @return The baked map.
+     */
+    public static TerrainMap bake(LevelConfig config, Object[][] terrainData) {
+        TerrainMap map = new TerrainMap();
+        for (int row = 0; row < map.rows; row++) {
+            Terrain band = bandAt(terrainData, map.rowY(row));
+            for (int column = 0; column < map.columns; column++) {
+                map.terrain[map.cell(column, row)] = band;
+            }
+        }
+        for (int slot = 0; slot < config.totalEnds(); slot++) {
+            map.markGoal(slot, config.startX() + slot * config.gap(), config.y());
+        }
+        return map;
+    }
+
+    private static Terrain bandAt(Object[][] terrainData, double y) {
+        for (Object[] band : terrainData) {
+            if (y >= (int) band[1] && y < (int) band[2]) {
+                return (Terrain) band[0];
+            }
+        }
+        return Terrain.SAFE;
+    }
+
+    private void markGoal(int slot, double endX, double endY) {
+        double endRight = endX + EndPoint.IMAGE_SIZE;
+        double endBottom = endY + EndPoint.IMAGE_SIZE;
+        for (int row = 0; row < rows; row++) {
+            double top = rowY(row);
+            if (top > endBottom || top + Animal.IMAGE_SIZE < endY) {
+                continue;
+            }
+            for (int column = 0; column < columns; column++) {
+                double left = columnX(column);
+                if (left <= endRight && left + Animal.IMAGE_SIZE >= endX) {
+                    terrain[cell(column, row)] = Terrain.GOAL;
+                    goalSlots[cell(column, row)] = slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the terrain under a position.
+     * Positions off the grid take the terrain of the nearest cell.
+     *
+     * @param x The x-coordinate of the character.
+     * @param y The y-coordinate of the character.
+     * @return The terrain of the cell holding the position.
+     */
+    public Terrain terrainAt(double x, double y) {
+        return terrain[cellAt(x, y)];
+    }
+
+    /**
+     * Gets the goal slot under a position.
+     *
+     * @param x The x-coordinate of the character.
+     * @param y The y-coordinate of the character.
+     * @return The index of the goal slot, or -1 if the position is not in a goal slot.
+     */
+    public int goalSlotAt(double x, double y) {
+        return goalSlots[cellAt(x, y)];
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private int cellAt(double x, double y) {
+        int column = (int) Math.round((x - Animal.DEFAULT_X) / Animal.MOVEMENT_X) + startColumn;
+        int row = (int) Math.round((Animal.DEFAULT_Y - y) / Animal.MOVEMENT_Y);
+        return cell(Math.max(0, Math.min(columns - 1, column)), Math.max(0, Math.min(rows - 1, row)));
+    }
+
+    private int cell(int column, int row) {
+        return row * columns + column;
+    }
+
+    private double columnX(int column) {
+        return Animal.DEFAULT_X + (column - startColumn) * Animal.MOVEMENT_X;
+    }
+
+    private double rowY(int row) {
+        return Animal.DEFAULT_Y - row * Animal.MOVEMENT_Y;
+    }
+}
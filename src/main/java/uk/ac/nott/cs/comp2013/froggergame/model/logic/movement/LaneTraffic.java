@@ -0,0 +1,65 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.movement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.LaneActor;
+
+/**
+ * Registry of the scrolling lanes in a world.
+ * Actors joining the same row with the same strip and speed are moved onto one shared lane,
+ * so level-wide speed changes cost one update per lane rather than per actor.
+ */
+public class LaneTraffic {
+    private final List<ScrollingLane> lanes = new ArrayList<>(); // Distinct lanes in order of creation
+    private final Map<ScrollingLane, Integer> riderCounts = new IdentityHashMap<>(); // Actors sharing each lane
+
+    /**
+     * Registers an actor, moving it onto an existing matching lane if there is one.
+     *
+     * @param actor The actor joining the traffic.
+     */
+    public void join(LaneActor actor) {
+        ScrollingLane own = actor.getScrollingLane();
+        for (ScrollingLane lane : lanes) {
+            if (lane.isSameLaneAs(own)) {
+                actor.joinLane(lane);
+                riderCounts.merge(lane, 1, Integer::sum);
+                return;
+            }
+        }
+        lanes.add(own);
+        riderCounts.put(own, 1);
+    }
+
+    /**
+     * Unregisters an actor, dropping its lane once no actor rides it.
+     *
+     * @param actor The actor leaving the traffic.
+     */
+    public void leave(LaneActor actor) {
+        ScrollingLane lane = actor.getScrollingLane();
+        Integer riders = riderCounts.get(lane);
+        if (riders == null) {
+            return;
+        }
+        if (riders == 1) {
+            riderCounts.remove(lane);
+            lanes.remove(lane);
+        } else {
+            riderCounts.put(lane, riders - 1);
+        }
+    }
+
+    /**
+     * Gets the distinct lanes currently in use.
+     *
+     * @return A read-only list of lanes.
+     */
+    public List<ScrollingLane> getLanes() {
+        return Collections.unmodifiableList(lanes);
+    }
+}
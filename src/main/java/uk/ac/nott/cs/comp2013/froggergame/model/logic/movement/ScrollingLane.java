@@ -0,0 +1,145 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.movement;
+
+/**
+ * A horizontal lane modelled as a circular strip that scrolls at a constant speed.
+ * Every actor in the lane sits at a fixed base position; its x at lane time {@code t} is
+ * {@code wrapStart + (baseX + offset(t) - wrapStart) mod span}, so positions can be evaluated
+ * at any time without stepping, and a speed change only re-anchors the lane's offset.
+ */
+public class ScrollingLane {
+    private final double row; // Y-coordinate of the row the lane occupies
+    private final double wrapStart; // Left edge of the strip
+    private final double span; // Length of the strip before positions wrap round
+    private final double baseSpeed; // Speed at a speed factor of one, in units per second
+    private double speed; // Current speed in units per second
+    private double time; // Lane time in seconds
+    private double anchorTime; // Lane time at which the current speed took effect
+    private double anchorOffset; // Offset accumulated up to the anchor time
+    private long lastTick = Long.MIN_VALUE; // Timestamp of the last tick that advanced the lane
+
+    /**
+     * Constructs a lane wrapping over the strip {@code [wrapStart, wrapEnd)}.
+     *
+     * @param row       The y-coordinate of the row.
+     * @param wrapStart The left edge of the strip.
+     * @param wrapEnd   The right edge of the strip.
+     * @param speed     The speed of the lane in units per second.
+     */
+    public ScrollingLane(double row, double wrapStart, double wrapEnd, double speed) {
+        if (wrapEnd <= wrapStart) {
+            throw new IllegalArgumentException("Lane strip must have a positive length");
+        }
+        this.row = row;
+        this.wrapStart = wrapStart;
+        this.span = wrapEnd - wrapStart;
+        this.baseSpeed = speed;
+        this.speed = speed;
+    }
+
+    /**
+     * Creates a lane from screen bounds and reset positions.
+     * Actors moving right leave at the right bound and re-enter at the right-mover reset position;
+     * actors moving left leave at the left bound and re-enter at the left-mover reset position.
+     *
+     * @param row                The y-coordinate of the row.
+     * @param screenLeftBound    The left boundary of the screen.
+     * @param screenRightBound   The right boundary of the screen.
+     * @param resetLeftPosition  Where actors moving left re-enter.
+     * @param resetRightPosition Where actors moving right re-enter.
+     * @param speed              The speed of the lane in units per second.
+     * @return The lane covering the strip travelled in the lane's direction.
+     */
+    public static ScrollingLane fromBounds(double row, int screenLeftBound, int screenRightBound,
+                                           int resetLeftPosition, int resetRightPosition, double speed) {
+        if (speed < 0) {
+            return new ScrollingLane(row, screenLeftBound, resetLeftPosition, speed);
+        }
+        return new ScrollingLane(row, resetRightPosition, screenRightBound, speed);
+    }
+
+    /**
+     * Advances the lane by one tick. Every actor in the lane calls this with the same timestamp,
+     * and only the first call of each tick moves the lane on.
+     *
+     * @param now          The simulated time of the tick in nanoseconds.
+     * @param deltaSeconds The duration of the tick in seconds.
+     */
+    public void advance(long now, double deltaSeconds) {
+        if (now != lastTick) {
+            lastTick = now;
+            time += deltaSeconds;
+        }
+    }
+
+    /**
+     * Gets the scroll offset at the given lane time.
+     *
+     * @param t The lane time in seconds.
+     * @return The distance the lane has scrolled.
+     */
+    public double offsetAt(double t) {
+        return anchorOffset + speed * (t - anchorTime);
+    }
+
+    /**
+     * Gets the current scroll offset.
+     *
+     * @return The distance the lane has scrolled.
+     */
+    public double getOffset() {
+        return offsetAt(time);
+    }
+
+    /**
+     * Evaluates the position of an actor in the lane at the given lane time.
+     *
+     * @param baseX The actor's base position at zero offset.
+     * @param t     The lane time in seconds.
+     * @return The wrapped x-coordinate.
+     */
+    public double positionAt(double baseX, double t) {
+        double shifted = baseX + offsetAt(t) - wrapStart;
+        return wrapStart + shifted - span * Math.floor(shifted / span);
+    }
+
+    /**
+     * Evaluates the current position of an actor in the lane.
+     *
+     * @param baseX The actor's base position at zero offset.
+     * @return The wrapped x-coordinate.
+     */
+    public double positionOf(double baseX) {
+        return positionAt(baseX, time);
+    }
+
+    /**
+     * Scales the lane's speed from now on, keeping every actor where it currently is.
+     *
+     * @param speedFactor The multiplier applied to the base speed.
+     */
+    public void setSpeedFactor(double speedFactor) {
+        anchorOffset = getOffset();
+        anchorTime = time;
+        speed = baseSpeed * speedFactor;
+    }
+
+    /**
+     * Checks whether another lane covers the same row and strip and moves the same way,
+     * so the actors of both can share one lane.
+     *
+     * @param other The lane to compare with.
+     * @return True if the lanes are interchangeable, otherwise false.
+     */
+    public boolean isSameLaneAs(ScrollingLane other) {
+        return row == other.row && wrapStart == other.wrapStart && span == other.span
+                && baseSpeed == other.baseSpeed;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getTime() {
+        return time;
+    }
+}
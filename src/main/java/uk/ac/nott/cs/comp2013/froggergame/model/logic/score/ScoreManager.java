@@ -85,4 +85,30 @@ public class ScoreManager {
         }
         return digits;
     }
+
+    /**
+     * Writes the digits of the score, most significant first, into a reusable array.
+     *
+     * @param score  The score to convert.
+     * @param digits The array receiving the digits.
+     * @return The number of digits written.
+     * @throws IllegalArgumentException If the score is negative or has more digits than the array holds.
+     */
+    public int fillDigits(int score, int[] digits) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Score cannot be negative.");
+        }
+        int count = 1;
+        for (int rest = score / 10; rest > 0; rest /= 10) {
+            count++;
+        }
+        if (count > digits.length) {
+            throw new IllegalArgumentException("Score " + score + " has more than " + digits.length + " digits.");
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            digits[i] = score % 10;
+            score /= 10;
+        }
+        return count;
+    }
 }
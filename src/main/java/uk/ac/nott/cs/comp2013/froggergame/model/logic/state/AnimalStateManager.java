@@ -1,13 +1,11 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.state;
 
-import javafx.scene.image.Image;
-import javafx.scene.input.KeyCode;
-
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.DeathAnimationContext;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.DeathAnimationHandler;
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
 
 /**
  * Manages the state of the player's character (Animal), including movement,
@@ -24,7 +22,6 @@ public class AnimalStateManager implements StateManager {
     private static final int DEFAULT_DEATH_FRAMES = 4; // Default death animation frame count
 
     private final int gameWinEndCount; // Configurable win condition
-    private final ImageManager imageManager; // Manages images for the character
     private final ScoreManager scoreManager; // Handles scoring logic
     private final DeathAnimationHandler deathAnimationHandler; // Handles death animations
 
@@ -46,7 +43,6 @@ public class AnimalStateManager implements StateManager {
     public AnimalStateManager(Animal animal, int gameWinEndCount) {
         this.animal = animal;
         this.gameWinEndCount = gameWinEndCount;
-        this.imageManager = new ImageManager();
         this.scoreManager = new ScoreManager();
         this.deathAnimationHandler = new DeathAnimationHandler();
     }
@@ -79,7 +75,7 @@ public class AnimalStateManager implements StateManager {
      */
     public void updateDeathAnimation(long now, String type, int frameLimit) {
         DeathAnimationHandler.AnimationState state = deathAnimationHandler.animateDeath(
-                now, new DeathAnimationContext(animal, imageManager, type, frameLimit)
+                now, new DeathAnimationContext(animal, type, frameLimit)
         );
         noMove = (state == DeathAnimationHandler.AnimationState.IN_PROGRESS);
     }
@@ -96,15 +92,14 @@ public class AnimalStateManager implements StateManager {
     /**
      * Handles the movement of the player's character and updates the score.
      *
-     * @param dx      Horizontal displacement.
-     * @param dy      Vertical displacement.
-     * @param key     The key associated with the movement.
-     * @param jumping Indicates if the character is jumping.
+     * @param dx        Horizontal displacement.
+     * @param dy        Vertical displacement.
+     * @param direction The direction of the movement.
+     * @param jumping   Indicates if the character is jumping.
      */
-    public void moveAnimal(double dx, double dy, KeyCode key, boolean jumping) {
-        Image img = imageManager.getImageForKey(key, jumping);
-        if (img != null) {
-            animal.setImage(img);
+    public void moveAnimal(double dx, double dy, Direction direction, boolean jumping) {
+        if (direction != null) {
+            animal.setSprite(SpriteId.movement(direction, jumping));
             animal.move(dx, dy);
             scoreManager.handleMovementScore(dy);
         }
@@ -153,7 +148,7 @@ public class AnimalStateManager implements StateManager {
     public void update(long now) {
         if (noMove) {
             DeathAnimationHandler.AnimationState state = deathAnimationHandler.animateDeath(
-                    now, new DeathAnimationContext(animal, imageManager, DEFAULT_DEATH_TYPE, DEFAULT_DEATH_FRAMES)
+                    now, new DeathAnimationContext(animal, DEFAULT_DEATH_TYPE, DEFAULT_DEATH_FRAMES)
             );
             noMove = (state == DeathAnimationHandler.AnimationState.IN_PROGRESS);
         }
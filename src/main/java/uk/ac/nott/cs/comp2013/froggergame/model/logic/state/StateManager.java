@@ -1,6 +1,6 @@
 package uk.ac.nott.cs.comp2013.froggergame.model.logic.state;
 
-import javafx.scene.input.KeyCode;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
 
 /**
  * Interface defining the state management operations for game entities, such as managing scores,
@@ -44,14 +44,14 @@ public interface StateManager {
     boolean isNoMove();
 
     /**
-     * Moves the entity based on the specified direction and key input.
+     * Moves the entity based on the specified displacement and direction.
      *
-     * @param dx      The change in x position.
-     * @param dy      The change in y position.
-     * @param key     The key triggering the movement.
-     * @param jumping Whether the movement involves jumping.
+     * @param dx        The change in x position.
+     * @param dy        The change in y position.
+     * @param direction The direction of the movement.
+     * @param jumping   Whether the movement involves jumping.
      */
-    void moveAnimal(double dx, double dy, KeyCode key, boolean jumping);
+    void moveAnimal(double dx, double dy, Direction direction, boolean jumping);
 
     /**
      * Adds points to the current score.
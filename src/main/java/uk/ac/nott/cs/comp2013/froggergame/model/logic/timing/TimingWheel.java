@@ -0,0 +1,207 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.logic.timing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel scheduling gameplay timers against simulation time.
+ * Time is split into slots of a fixed resolution and each pending timer is filed in the slot its
+ * deadline falls in, so advancing the wheel only visits the slots passed since the previous advance.
+ * Timers more than one revolution away stay in their slot until their deadline comes round.
+ * The wheel is driven by the simulation clock, so pausing or scaling the clock applies to every timer at once.
+ */
+public class TimingWheel {
+    public static final int DEFAULT_SLOT_COUNT = 256; // Slots per revolution
+    public static final long DEFAULT_RESOLUTION_NANOS = 10_000_000L; // Width of a slot: 10 ms
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * A reusable timer running a task once its delay has elapsed.
+     * A timer can be started again after it fires or is cancelled, so gameplay code creates its
+     * timers once and re-arms them instead of allocating new ones.
+     */
+    public final class Timer {
+        private final Runnable task; // Run when the timer fires
+        private long deadline; // Simulation time the timer fires at
+        private int slot = -1; // Slot the timer is filed in, or -1 when not filed
+        private boolean due; // Collected for firing during the current advance
+        private Timer previous; // Neighbours in the slot's list
+        private Timer next;
+
+        private Timer(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Starts the timer, replacing any pending deadline.
+         *
+         * @param delaySeconds Simulated seconds until the timer fires.
+         */
+        public void start(double delaySeconds) {
+            startNanos(Math.round(delaySeconds * NANOS_PER_SECOND));
+        }
+
+        /**
+         * Starts the timer, replacing any pending deadline.
+         *
+         * @param delayNanos Simulated nanoseconds until the timer fires.
+         */
+        public void startNanos(long delayNanos) {
+            cancel();
+            deadline = now + Math.max(0, delayNanos);
+            file(this);
+        }
+
+        /**
+         * Stops the timer if it is pending. Does nothing otherwise.
+         */
+        public void cancel() {
+            if (slot >= 0) {
+                unfile(this);
+            }
+            due = false;
+        }
+
+        /**
+         * Checks whether the timer is waiting to fire.
+         *
+         * @return True if started and neither fired nor cancelled since.
+         */
+        public boolean isPending() {
+            return slot >= 0 || due;
+        }
+
+        /**
+         * Gets the simulated time remaining until the timer fires.
+         *
+         * @return The remaining seconds, or 0 if the timer is not pending.
+         */
+        public double getRemainingSeconds() {
+            return isPending() ? Math.max(0, deadline - now) / NANOS_PER_SECOND : 0.0;
+        }
+    }
+
+    private final Timer[] slots; // Head of each slot's list of timers
+    private final int mask; // Maps an absolute slot number to an index
+    private final long resolutionNanos; // Width of a slot in nanoseconds
+    private final List<Timer> firing = new ArrayList<>(); // Timers due in the current advance, reused
+    private long now; // Simulation time the wheel has advanced to
+    private long currentSlot; // Absolute slot number of the current time
+    private int pendingCount; // Timers filed in the wheel
+
+    /**
+     * Constructs a wheel with the default slot count and resolution.
+     */
+    public TimingWheel() {
+        this(DEFAULT_SLOT_COUNT, DEFAULT_RESOLUTION_NANOS);
+    }
+
+    /**
+     * Constructs a wheel with a custom slot count and resolution.
+     *
+     * @param slotCount       The number of slots per revolution, a power of two.
+     * @param resolutionNanos The width of a slot in nanoseconds.
+     * @throws IllegalArgumentException If the slot count is not a positive power of two or the resolution is not positive.
+     */
+    public TimingWheel(int slotCount, long resolutionNanos) {
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("Slot count must be a positive power of two: " + slotCount);
+        }
+        if (resolutionNanos <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolutionNanos);
+        }
+        this.slots = new Timer[slotCount];
+        this.mask = slotCount - 1;
+        this.resolutionNanos = resolutionNanos;
+    }
+
+    /**
+     * Creates a timer on this wheel. The timer is idle until started.
+     *
+     * @param task The task run each time the timer fires.
+     * @return The new timer.
+     */
+    public Timer newTimer(Runnable task) {
+        return new Timer(task);
+    }
+
+    /**
+     * Advances the wheel to the given simulation time and fires every timer whose deadline has passed,
+     * in slot order. Tasks may start or cancel timers, including the one being fired.
+     *
+     * @param time The current simulation time in nanoseconds; earlier times are ignored.
+     */
+    public void advanceTo(long time) {
+        if (time <= now) {
+            return;
+        }
+        now = time;
+        long targetSlot = time / resolutionNanos;
+        long lastSlot = Math.min(targetSlot, currentSlot + mask); // A full revolution visits every slot
+        for (long slot = currentSlot; slot <= lastSlot; slot++) {
+            collectDue((int) (slot & mask));
+        }
+        currentSlot = targetSlot;
+        for (int i = 0; i < firing.size(); i++) {
+            Timer timer = firing.get(i);
+            if (timer.due) { // Skips timers cancelled by an earlier task
+                timer.due = false;
+                timer.task.run();
+            }
+        }
+        firing.clear();
+    }
+
+    /**
+     * Moves every timer of a slot whose deadline has passed onto the firing list.
+     *
+     * @param index The slot index.
+     */
+    private void collectDue(int index) {
+        Timer timer = slots[index];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadline <= now) {
+                unfile(timer);
+                timer.due = true;
+                firing.add(timer);
+            }
+            timer = next;
+        }
+    }
+
+    private void file(Timer timer) {
+        int index = (int) ((timer.deadline / resolutionNanos) & mask);
+        timer.slot = index;
+        timer.previous = null;
+        timer.next = slots[index];
+        if (slots[index] != null) {
+            slots[index].previous = timer;
+        }
+        slots[index] = timer;
+        pendingCount++;
+    }
+
+    private void unfile(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = -1;
+        pendingCount--;
+    }
+
+    public long getTime() {
+        return now;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+}
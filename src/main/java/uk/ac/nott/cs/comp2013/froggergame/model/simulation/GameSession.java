@@ -0,0 +1,198 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.controller.loop.GameClock;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
+
+/**
+ * A headless game played on simulated time, isolated from every other session.
+ * Each session owns its world, character, level timer and random generator, so sessions built from the
+ * same level and seed and given the same input play out identically, whichever thread steps them.
+ * Every session records a {@link Replay} of its input and state as it goes.
+ * A session is not thread-safe; it must be stepped by one thread at a time.
+ */
+public class GameSession {
+    private static final long TICK_NANOS = 1_000_000_000L / GameClock.DEFAULT_TICK_RATE; // Simulated duration of a tick
+    private static final double TICK_SECONDS = 1.0 / GameClock.DEFAULT_TICK_RATE;
+
+    /**
+     * Supplies the input of a session, such as a scripted player or a bot.
+     */
+    public interface Driver {
+        /**
+         * Called before every tick to press or release directions through {@link GameSession#press}.
+         *
+         * @param session The session about to tick.
+         */
+        void drive(GameSession session);
+    }
+
+    /**
+     * How a session ended, or stood when it was stopped.
+     */
+    public record Result(long seed, WorldSnapshot.Outcome outcome, int points, int level, long ticks) {
+    }
+
+    private final long seed; // Seed of the session's world
+    private final GameSimulation simulation; // The game being played
+    private final GameStateChecker gameStateChecker = new GameStateChecker(); // Detects the end of the game
+    private final GameEventListener events = new OutcomeRecorder(); // Records the end of the game
+    private final ReplayRecorder recorder; // Records the session's input and state for a replay
+    private Driver driver; // Input for each tick, or null for none
+    private WorldSnapshot.Outcome outcome = WorldSnapshot.Outcome.PLAYING; // How the game stands
+    private long ticks; // Ticks simulated so far
+
+    /**
+     * Constructs a session and sets up its first level.
+     *
+     * @param config The layout and speed of the first level.
+     * @param seed   The seed of the session's random generator.
+     */
+    public GameSession(LevelConfig config, long seed) {
+        this.seed = seed;
+        this.simulation = new GameSimulation(new GameWorld(seed), new GameObjectFactory());
+        this.recorder = new ReplayRecorder(seed, config);
+        simulation.initialize(events, config);
+    }
+
+    /**
+     * Sets the input of the session.
+     *
+     * @param driver Called before every tick, or null for no input.
+     */
+    public void setDriver(Driver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Runs a single tick, in the same order the game loop does: input, simulation, then the check
+     * for the end of the game. While the character is inactive the simulated time moves on without ticking
+     * and no input is taken, as in the game.
+     *
+     * @return Whether the game is still being played.
+     */
+    public boolean step() {
+        if (outcome != WorldSnapshot.Outcome.PLAYING) {
+            return false;
+        }
+        Animal animal = simulation.getAnimal();
+        if (animal.isActive() && driver != null) {
+            driver.drive(this); // Sees the ticks run so far, like input arriving between frames
+        }
+        ticks++;
+        if (animal.isActive()) {
+            simulation.tick(ticks * TICK_NANOS, TICK_SECONDS);
+            recorder.recordTick(ticks, simulation.stateHash());
+            gameStateChecker.checkGameState(animal, events);
+        }
+        return outcome == WorldSnapshot.Outcome.PLAYING;
+    }
+
+    /**
+     * Runs up to the given number of ticks, stopping early when the game ends.
+     *
+     * @param maxTicks The most ticks to run.
+     * @return The number of ticks run.
+     */
+    public int step(int maxTicks) {
+        int run = 0;
+        while (run < maxTicks && outcome == WorldSnapshot.Outcome.PLAYING) {
+            step();
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Presses or releases a direction, as a key would.
+     *
+     * @param direction The direction to move in.
+     * @param pressed   Whether the direction is pressed (true) or released (false).
+     */
+    public void press(Direction direction, boolean pressed) {
+        recorder.recordInput(ticks, direction, pressed);
+        Animal animal = simulation.getAnimal();
+        StateManager stateManager = animal.getStateManager();
+        if (stateManager.isNoMove()) {
+            return;
+        }
+        stateManager.moveAnimal(animal.getMovementX(direction), animal.getMovementY(direction), direction, pressed);
+    }
+
+    /**
+     * Reports how the session stands.
+     *
+     * @return The outcome, points, level and tick count of the session.
+     */
+    public Result result() {
+        return new Result(seed, outcome, simulation.getAnimal().getStateManager().getPoints(),
+                simulation.getLevelManager().getCurrentLevel(), ticks);
+    }
+
+    /**
+     * Takes the replay of the session so far.
+     *
+     * @return The replay.
+     */
+    public Replay getReplay() {
+        return recorder.toReplay(ticks);
+    }
+
+    public boolean isFinished() {
+        return outcome != WorldSnapshot.Outcome.PLAYING;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Records the first end of the game raised during a tick.
+     */
+    private class OutcomeRecorder implements GameEventListener {
+        @Override
+        public void onGameWon(int points) {
+            end(WorldSnapshot.Outcome.WON);
+        }
+
+        @Override
+        public void onGameOver() {
+            end(WorldSnapshot.Outcome.LOST);
+        }
+
+        private void end(WorldSnapshot.Outcome reached) {
+            if (outcome == WorldSnapshot.Outcome.PLAYING) {
+                outcome = reached;
+            }
+        }
+
+        @Override
+        public void update(long now) {
+            // Ticks are driven by the session
+        }
+
+        @Override
+        public void render(double alpha) {
+            // Sessions are headless
+        }
+
+        @Override
+        public void present(WorldSnapshot snapshot, double alpha) {
+            // Sessions are headless
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.GameObjectData;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.GameObjectType;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
+
+/**
+ * Headless core of a game session.
+ * Owns the world, the player's character, level progression and the level timer,
+ * and advances them one fixed tick at a time without depending on any UI toolkit.
+ */
+public class GameSimulation {
+    private static final int DEFAULT_INITIAL_LEVEL = 1; // Level the game starts on
+    private static final double DEFAULT_SPEED_FACTOR = 1.0; // Speed of the first level unless configured
+
+    private final GameWorld world; // Container for all simulated actors
+    private final GameObjectFactory gameObjectFactory; // Creates the game objects
+    private final LevelTimer levelTimer; // Countdown for the current level
+    private final Map<GameObjectType, BiConsumer<GameWorld, Object[][]>> setupMethods; // Maps object types to setup methods
+    private Animal animal; // The player's character
+    private LevelManager levelManager; // Manages level progression
+    private GameEventListener eventListener; // Listener notified of game events
+
+    /**
+     * Constructs a simulation with a default level timer.
+     *
+     * @param world             The world the simulated actors live in.
+     * @param gameObjectFactory The factory for creating game objects.
+     */
+    public GameSimulation(GameWorld world, GameObjectFactory gameObjectFactory) {
+        this(world, gameObjectFactory, new LevelTimer());
+    }
+
+    /**
+     * Constructs a simulation with a custom level timer.
+     *
+     * @param world             The world the simulated actors live in.
+     * @param gameObjectFactory The factory for creating game objects.
+     * @param levelTimer        The countdown timer for each level.
+     */
+    public GameSimulation(GameWorld world, GameObjectFactory gameObjectFactory, LevelTimer levelTimer) {
+        this.world = world;
+        this.gameObjectFactory = gameObjectFactory;
+        this.levelTimer = levelTimer;
+
+        // Map object types to their respective setup methods
+        this.setupMethods = new HashMap<>();
+        setupMethods.put(GameObjectType.LOG, gameObjectFactory::setupLogs);
+        setupMethods.put(GameObjectType.TURTLE, gameObjectFactory::setupTurtles);
+        setupMethods.put(GameObjectType.OBSTACLE, gameObjectFactory::setupObstacles);
+    }
+
+    /**
+     * Populates the world and prepares the first level.
+     *
+     * @param eventListener Listener notified when the game is won or lost.
+     */
+    public void initialize(GameEventListener eventListener) {
+        initialize(eventListener, null);
+    }
+
+    /**
+     * Populates the world and prepares a first level with the given layout and speed.
+     *
+     * @param eventListener    Listener notified when the game is won or lost.
+     * @param firstLevelConfig The configuration of the first level, or null for the default.
+     */
+    public void initialize(GameEventListener eventListener, LevelConfig firstLevelConfig) {
+        this.eventListener = eventListener;
+        initializeGameObjects(GameObjectType.LOG, GameObjectData.LOG_DATA);
+        initializeGameObjects(GameObjectType.TURTLE, GameObjectData.TURTLE_DATA);
+        initializeGameObjects(GameObjectType.OBSTACLE, GameObjectData.OBSTACLE_DATA);
+
+        animal = gameObjectFactory.createAnimal();
+        LevelConfig config = firstLevelConfig != null ? firstLevelConfig : LevelConfig.createDefault(DEFAULT_SPEED_FACTOR);
+        levelManager = new LevelManager(animal, world, config.totalEnds(), levelTimer, eventListener);
+        levelManager.setFirstLevelConfig(config);
+        levelManager.setLevel(DEFAULT_INITIAL_LEVEL);
+        levelManager.updateObjectsSpeed(config.speedFactor());
+        setupEndPoints(config);
+        world.addActor(animal); // Added last so the player is drawn above the scenery
+    }
+
+    /**
+     * Dynamically initializes game objects based on their type and associated data.
+     *
+     * @param type The type of the game object to initialize.
+     * @param data The data associated with the object type.
+     */
+    private void initializeGameObjects(GameObjectType type, Object[][] data) {
+        setupMethods.getOrDefault(type, (w, d) -> {}).accept(world, data);
+    }
+
+    /**
+     * Sets up the endpoint targets of the first level and links them to level progression.
+     *
+     * @param config The first level, giving the number and position of the endpoints.
+     */
+    private void setupEndPoints(LevelConfig config) {
+        for (int slot = 0; slot < config.totalEnds(); slot++) {
+            EndPoint end = gameObjectFactory.createEndPoint(config.startX() + slot * config.gap(), config.y());
+            end.setActivationListener(reached -> levelManager.onTargetReached());
+            world.addActor(end);
+        }
+    }
+
+    /**
+     * Advances the whole simulation by a single fixed tick.
+     *
+     * @param now          The simulated time of the tick in nanoseconds.
+     * @param deltaSeconds The duration of the tick in seconds.
+     */
+    public void tick(long now, double deltaSeconds) {
+        world.act(now, deltaSeconds);
+        if (animal == null || !animal.isActive()) {
+            return;
+        }
+        if (levelTimer.tick(deltaSeconds) && eventListener != null) {
+            eventListener.onGameOver();
+        }
+    }
+
+    /**
+     * Hashes the state that decides how the game plays on: the position and sprite of every actor,
+     * the score, the level and the time left. Runs whose hashes agree after every tick have played alike.
+     *
+     * @return The hash of the current state.
+     */
+    public long stateHash() {
+        long hash = 0;
+        for (Actor actor : world.getObjects(Actor.class)) {
+            hash = mix(hash, Double.doubleToLongBits(actor.getX()));
+            hash = mix(hash, Double.doubleToLongBits(actor.getY()));
+            hash = mix(hash, String.valueOf(actor.getSprite()).hashCode());
+        }
+        if (animal != null) {
+            hash = mix(hash, animal.getStateManager().getPoints());
+        }
+        if (levelManager != null) {
+            hash = mix(hash, levelManager.getCurrentLevel());
+        }
+        return mix(hash, Double.doubleToLongBits(levelTimer.getRemainingTime()));
+    }
+
+    /**
+     * Folds a value into a hash, so that every bit of either affects the result.
+     *
+     * @param hash  The hash so far.
+     * @param value The value to fold in.
+     * @return The new hash.
+     */
+    static long mix(long hash, long value) {
+        return (Long.rotateLeft(hash, 23) ^ value) * 0x9E3779B97F4A7C15L;
+    }
+
+    public GameWorld getWorld() {
+        return world;
+    }
+
+    public Animal getAnimal() {
+        return animal;
+    }
+
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    public LevelTimer getLevelTimer() {
+        return levelTimer;
+    }
+}
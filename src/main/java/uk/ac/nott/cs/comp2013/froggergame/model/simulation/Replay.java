@@ -0,0 +1,218 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+
+/**
+ * Everything needed to play a game again exactly: the seed and first level it started from, the
+ * input it received and hashes of its state along the way.
+ * Replays are stored in a compact binary form. Inputs and checkpoints are written as the number of
+ * ticks since the previous one, as variable-length integers, so a whole game takes a few kilobytes.
+ */
+public class Replay {
+    private static final int MAGIC = 0x46524750; // "FRGP", marks a replay file
+    private static final int VERSION = 1; // Format written by this class
+
+    /**
+     * A direction pressed or released before a tick.
+     *
+     * @param tick      The number of ticks run before the input was applied.
+     * @param direction The direction of the key.
+     * @param pressed   Whether the key was pressed (true) or released (false).
+     */
+    public record Input(long tick, Direction direction, boolean pressed) {
+    }
+
+    /**
+     * The running hash of the game state after a tick.
+     *
+     * @param tick The tick after which the hash was taken.
+     * @param hash The state hashes of all ticks up to this one, folded together.
+     */
+    public record Checkpoint(long tick, long hash) {
+    }
+
+    private final long seed; // Seed of the recorded world
+    private final LevelConfig config; // The first level of the recorded game
+    private final List<Input> inputs; // Inputs in the order they were applied
+    private final List<Checkpoint> checkpoints; // Running hashes in tick order
+    private final long ticks; // Ticks the recorded game ran
+    private final long finalHash; // Running hash after the last tick
+
+    /**
+     * Constructs a replay.
+     *
+     * @param seed        The seed of the recorded world.
+     * @param config      The first level of the recorded game.
+     * @param inputs      The inputs, in the order they were applied.
+     * @param checkpoints The running hashes, in tick order.
+     * @param ticks       The number of ticks the recorded game ran.
+     * @param finalHash   The running hash after the last tick.
+     */
+    public Replay(long seed, LevelConfig config, List<Input> inputs, List<Checkpoint> checkpoints, long ticks, long finalHash) {
+        this.seed = seed;
+        this.config = config;
+        this.inputs = List.copyOf(inputs);
+        this.checkpoints = List.copyOf(checkpoints);
+        this.ticks = ticks;
+        this.finalHash = finalHash;
+    }
+
+    /**
+     * Writes the replay in its binary form.
+     *
+     * @param out The stream to write to. Left open.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        writeVarLong(data, config.totalEnds());
+        writeVarLong(data, zigZag(config.startX()));
+        writeVarLong(data, zigZag(config.y()));
+        writeVarLong(data, zigZag(config.gap()));
+        data.writeDouble(config.speedFactor());
+
+        writeVarLong(data, inputs.size());
+        long previous = 0;
+        for (Input input : inputs) {
+            writeVarLong(data, input.tick() - previous);
+            data.writeByte(input.direction().ordinal() << 1 | (input.pressed() ? 1 : 0));
+            previous = input.tick();
+        }
+
+        writeVarLong(data, checkpoints.size());
+        previous = 0;
+        for (Checkpoint checkpoint : checkpoints) {
+            writeVarLong(data, checkpoint.tick() - previous);
+            data.writeLong(checkpoint.hash());
+            previous = checkpoint.tick();
+        }
+
+        writeVarLong(data, ticks);
+        data.writeLong(finalHash);
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write}.
+     *
+     * @param in The stream to read from. Left open.
+     * @return The replay.
+     * @throws IOException If the stream cannot be read or does not hold a replay.
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        long seed = data.readLong();
+        LevelConfig config = new LevelConfig((int) readVarLong(data), (int) unZigZag(readVarLong(data)),
+                (int) unZigZag(readVarLong(data)), (int) unZigZag(readVarLong(data)), data.readDouble());
+
+        Direction[] directions = Direction.values();
+        int inputCount = readCount(data);
+        List<Input> inputs = new ArrayList<>(inputCount);
+        long tick = 0;
+        for (int i = 0; i < inputCount; i++) {
+            tick += readVarLong(data);
+            int key = data.readUnsignedByte();
+            if (key >> 1 >= directions.length) {
+                throw new IOException("Unknown direction in replay: " + (key >> 1));
+            }
+            inputs.add(new Input(tick, directions[key >> 1], (key & 1) != 0));
+        }
+
+        int checkpointCount = readCount(data);
+        List<Checkpoint> checkpoints = new ArrayList<>(checkpointCount);
+        tick = 0;
+        for (int i = 0; i < checkpointCount; i++) {
+            tick += readVarLong(data);
+            checkpoints.add(new Checkpoint(tick, data.readLong()));
+        }
+
+        long ticks = readVarLong(data);
+        return new Replay(seed, config, inputs, checkpoints, ticks, data.readLong());
+    }
+
+    private static int readCount(DataInputStream data) throws IOException {
+        long count = readVarLong(data);
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Replay holds too many entries: " + count);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Writes a non-negative value seven bits at a time, low bits first, with the top bit of each byte
+     * telling whether more follow.
+     */
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in replay");
+    }
+
+    /**
+     * Maps signed values to unsigned ones so small negative values stay short: 0, -1, 1, -2 become 0, 1, 2, 3.
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LevelConfig getConfig() {
+        return config;
+    }
+
+    public List<Input> getInputs() {
+        return inputs;
+    }
+
+    public List<Checkpoint> getCheckpoints() {
+        return checkpoints;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getFinalHash() {
+        return finalHash;
+    }
+}
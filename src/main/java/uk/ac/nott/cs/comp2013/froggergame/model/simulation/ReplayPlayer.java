@@ -0,0 +1,91 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.List;
+
+/**
+ * Plays a {@link Replay} back headlessly, as fast as the simulation can tick.
+ * The recorded input is fed to a new session built from the replay's seed and first level, and the
+ * running state hash of the playback is compared with the recorded one at every checkpoint, so a
+ * replay doubles as a repro file and as a check that the simulation still plays the same.
+ */
+public final class ReplayPlayer {
+
+    /**
+     * The outcome of a playback.
+     *
+     * @param result       How the played-back session ended.
+     * @param divergedAt   The first checkpoint tick whose hash differed from the recording, or -1 if none did.
+     *                     The state first differed at some tick after the previous checkpoint.
+     * @param elapsedNanos The real time the playback took.
+     */
+    public record Playback(GameSession.Result result, long divergedAt, long elapsedNanos) {
+
+        /**
+         * Checks whether the playback reproduced the recorded game tick for tick.
+         *
+         * @return Whether no checkpoint diverged.
+         */
+        public boolean isFaithful() {
+            return divergedAt < 0;
+        }
+
+        /**
+         * Gets the number of ticks played back per second of real time.
+         *
+         * @return The tick throughput.
+         */
+        public double ticksPerSecond() {
+            return elapsedNanos > 0 ? result.ticks() * 1e9 / elapsedNanos : 0.0;
+        }
+    }
+
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Plays a replay back until its last recorded tick, or until the game ends.
+     *
+     * @param replay The replay to play.
+     * @return The outcome of the playback.
+     */
+    public static Playback play(Replay replay) {
+        GameSession session = new GameSession(replay.getConfig(), replay.getSeed());
+        List<Replay.Input> inputs = replay.getInputs();
+        int[] next = {0}; // Index of the next input to apply
+        session.setDriver(playing -> {
+            while (next[0] < inputs.size() && inputs.get(next[0]).tick() <= playing.getTicks()) {
+                Replay.Input input = inputs.get(next[0]++);
+                playing.press(input.direction(), input.pressed());
+            }
+        });
+
+        long start = System.nanoTime();
+        while (session.getTicks() < replay.getTicks() && !session.isFinished()) {
+            session.step();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Playback(session.result(), firstDivergence(replay, session.getReplay()), elapsed);
+    }
+
+    /**
+     * Finds the first checkpoint at which a playback differs from its recording.
+     *
+     * @param recorded The replay that was played.
+     * @param played   The replay recorded during playback.
+     * @return The tick of the first differing checkpoint, or -1 if the playback matched throughout.
+     */
+    private static long firstDivergence(Replay recorded, Replay played) {
+        List<Replay.Checkpoint> expected = recorded.getCheckpoints();
+        List<Replay.Checkpoint> actual = played.getCheckpoints();
+        for (int i = 0; i < expected.size(); i++) {
+            if (i >= actual.size() || !expected.get(i).equals(actual.get(i))) {
+                return expected.get(i).tick();
+            }
+        }
+        if (played.getTicks() != recorded.getTicks() || played.getFinalHash() != recorded.getFinalHash()) {
+            return played.getTicks();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,88 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+
+/**
+ * Records a game as it is played, for a {@link Replay}.
+ * Inputs are recorded with the number of ticks run before they were applied; the state hash of each
+ * tick is folded into a running hash, which is kept as a checkpoint once per checkpoint interval.
+ * Recording may happen on the thread running the simulation while the replay is taken on another.
+ */
+public class ReplayRecorder {
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 120; // Ticks between checkpoints, one second of play
+
+    private final long seed; // Seed of the recorded world
+    private final LevelConfig config; // The first level of the recorded game
+    private final int checkpointInterval;
+    private final List<Replay.Input> inputs = new ArrayList<>();
+    private final List<Replay.Checkpoint> checkpoints = new ArrayList<>();
+    private long runningHash; // State hashes of all recorded ticks, folded together
+    private long nextCheckpoint; // Tick from which the next checkpoint is kept
+
+    /**
+     * Constructs a recorder keeping a checkpoint every second of play.
+     *
+     * @param seed   The seed of the recorded world.
+     * @param config The first level of the recorded game.
+     */
+    public ReplayRecorder(long seed, LevelConfig config) {
+        this(seed, config, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a recorder with a custom checkpoint interval.
+     *
+     * @param seed               The seed of the recorded world.
+     * @param config             The first level of the recorded game.
+     * @param checkpointInterval The number of ticks between checkpoints.
+     * @throws IllegalArgumentException If the interval is not positive.
+     */
+    public ReplayRecorder(long seed, LevelConfig config, int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointInterval);
+        }
+        this.seed = seed;
+        this.config = config;
+        this.checkpointInterval = checkpointInterval;
+        this.nextCheckpoint = checkpointInterval;
+    }
+
+    /**
+     * Records a direction pressed or released before a tick.
+     *
+     * @param tick      The number of ticks run so far.
+     * @param direction The direction of the key.
+     * @param pressed   Whether the key is pressed (true) or released (false).
+     */
+    public synchronized void recordInput(long tick, Direction direction, boolean pressed) {
+        inputs.add(new Replay.Input(tick, direction, pressed));
+    }
+
+    /**
+     * Records the state reached by a tick.
+     *
+     * @param tick      The tick just run.
+     * @param stateHash The hash of the state after the tick, from {@link GameSimulation#stateHash()}.
+     */
+    public synchronized void recordTick(long tick, long stateHash) {
+        runningHash = GameSimulation.mix(runningHash, stateHash);
+        if (tick >= nextCheckpoint) {
+            checkpoints.add(new Replay.Checkpoint(tick, runningHash));
+            nextCheckpoint = (tick / checkpointInterval + 1) * checkpointInterval;
+        }
+    }
+
+    /**
+     * Takes the replay of everything recorded so far.
+     *
+     * @param ticks The number of ticks the game has run.
+     * @return The replay.
+     */
+    public synchronized Replay toReplay(long ticks) {
+        return new Replay(seed, config, inputs, checkpoints, ticks, runningHash);
+    }
+}
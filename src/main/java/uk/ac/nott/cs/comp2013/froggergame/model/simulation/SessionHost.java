@@ -0,0 +1,238 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+
+/**
+ * Plays many isolated {@link GameSession}s of the same level side by side and collects their results.
+ * Sessions either get a thread each, virtual where the runtime offers them, or are stepped in
+ * cooperative batches by a small set of worker threads that take turns between their sessions.
+ * The seed of every session follows from the host's seed, so a run can be repeated exactly.
+ */
+public class SessionHost {
+    public static final int DEFAULT_BATCH_TICKS = 120; // Ticks a session runs before a batched worker moves on
+
+    /**
+     * How the sessions are spread over threads.
+     */
+    public enum Mode {
+        THREAD_PER_SESSION, // Every session runs on its own thread until it ends
+        BATCHED // Each worker steps its sessions in turn, a batch of ticks at a time
+    }
+
+    /**
+     * Results of a run together with its throughput.
+     */
+    public record Report(List<GameSession.Result> results, long ticks, long elapsedNanos) {
+
+        /**
+         * Gets the number of sessions played per second of real time.
+         *
+         * @return The session throughput.
+         */
+        public double sessionsPerSecond() {
+            return perSecond(results.size());
+        }
+
+        /**
+         * Gets the number of ticks simulated per second of real time, across all sessions.
+         *
+         * @return The tick throughput.
+         */
+        public double ticksPerSecond() {
+            return perSecond(ticks);
+        }
+
+        private double perSecond(long count) {
+            return elapsedNanos > 0 ? count * 1e9 / elapsedNanos : 0.0;
+        }
+    }
+
+    private final LevelConfig config; // The level every session plays
+    private final long seed; // Seed the session seeds are drawn from
+    private final int maxTicks; // Ticks after which a session still playing is stopped
+    private int workers = Runtime.getRuntime().availableProcessors(); // Threads stepping batched sessions
+    private int batchTicks = DEFAULT_BATCH_TICKS;
+    private Supplier<? extends GameSession.Driver> drivers = () -> null; // Creates the input of each session
+
+    /**
+     * Constructs a host for sessions of a level.
+     *
+     * @param config   The layout and speed of the level every session starts on.
+     * @param seed     The seed the seeds of the sessions are drawn from.
+     * @param maxTicks The most ticks a session may run before it is stopped.
+     * @throws IllegalArgumentException If the level is missing or the tick limit is not positive.
+     */
+    public SessionHost(LevelConfig config, long seed, int maxTicks) {
+        if (config == null) {
+            throw new IllegalArgumentException("Level configuration cannot be null");
+        }
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("Tick limit must be positive: " + maxTicks);
+        }
+        this.config = config;
+        this.seed = seed;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Sets how the input of each session is created. Each session gets a driver of its own.
+     *
+     * @param drivers Creates the driver of a session, or returns null for none.
+     */
+    public void setDrivers(Supplier<? extends GameSession.Driver> drivers) {
+        this.drivers = drivers;
+    }
+
+    /**
+     * Sets the number of worker threads and the ticks per turn used in {@link Mode#BATCHED} runs.
+     *
+     * @param workers    The number of worker threads.
+     * @param batchTicks The ticks a session runs before its worker moves on to the next one.
+     * @throws IllegalArgumentException If either value is not positive.
+     */
+    public void setBatching(int workers, int batchTicks) {
+        if (workers <= 0 || batchTicks <= 0) {
+            throw new IllegalArgumentException("Workers and batch ticks must be positive: " + workers + ", " + batchTicks);
+        }
+        this.workers = workers;
+        this.batchTicks = batchTicks;
+    }
+
+    /**
+     * Creates the sessions of a run, each seeded from its own stream split off the host's seed.
+     *
+     * @param count The number of sessions.
+     * @return The sessions, in order.
+     */
+    public List<GameSession> createSessions(int count) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<GameSession> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            GameSession session = new GameSession(config, seeds.split().nextLong());
+            session.setDriver(drivers.get());
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    /**
+     * Plays a number of sessions until each has ended or reached the tick limit.
+     *
+     * @param count The number of sessions.
+     * @param mode  How the sessions are spread over threads.
+     * @return The results in session order, with the throughput of the run.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws IllegalStateException    If a session fails or the run is interrupted.
+     */
+    public Report run(int count, Mode mode) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Session count cannot be negative: " + count);
+        }
+        List<GameSession> sessions = createSessions(count);
+        long start = System.nanoTime();
+        if (mode == Mode.THREAD_PER_SESSION) {
+            try (Pool pool = new Pool(newSessionExecutor())) {
+                for (GameSession session : sessions) {
+                    pool.submit(() -> session.step(maxTicks));
+                }
+            }
+        } else {
+            try (Pool pool = new Pool(Executors.newFixedThreadPool(Math.min(workers, Math.max(count, 1))))) {
+                for (int worker = 0; worker < workers && worker < count; worker++) {
+                    List<GameSession> turn = new ArrayList<>();
+                    for (int i = worker; i < count; i += workers) {
+                        turn.add(sessions.get(i));
+                    }
+                    pool.submit(() -> stepInTurn(turn));
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<GameSession.Result> results = new ArrayList<>(count);
+        long ticks = 0;
+        for (GameSession session : sessions) {
+            GameSession.Result result = session.result();
+            results.add(result);
+            ticks += result.ticks();
+        }
+        return new Report(results, ticks, elapsed);
+    }
+
+    /**
+     * Steps sessions a batch of ticks each, in turn, until all of them have ended or reached the tick limit.
+     *
+     * @param sessions The sessions of one worker.
+     * @return The number of ticks run.
+     */
+    private long stepInTurn(List<GameSession> sessions) {
+        long run = 0;
+        List<GameSession> playing = new ArrayList<>(sessions);
+        while (!playing.isEmpty()) {
+            for (int i = playing.size() - 1; i >= 0; i--) {
+                GameSession session = playing.get(i);
+                run += session.step((int) Math.min(batchTicks, maxTicks - session.getTicks()));
+                if (session.isFinished() || session.getTicks() >= maxTicks) {
+                    playing.remove(i);
+                }
+            }
+        }
+        return run;
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per session. Virtual threads only exist from Java 21,
+     * so they are looked up at run time; older runtimes get one platform thread per processor instead.
+     *
+     * @return The executor for thread-per-session runs.
+     */
+    private ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * Executor whose tasks are all waited for, and their failures raised, when it is closed.
+     */
+    private static final class Pool implements AutoCloseable {
+        private final ExecutorService executor;
+        private final List<Future<?>> tasks = new ArrayList<>();
+
+        private Pool(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        private void submit(Callable<?> task) {
+            tasks.add(executor.submit(task));
+        }
+
+        @Override
+        public void close() {
+            try {
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for sessions", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Session failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
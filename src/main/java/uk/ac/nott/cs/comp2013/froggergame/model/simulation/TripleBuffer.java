@@ -0,0 +1,74 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free handoff of the newest value from one writer thread to one reader thread.
+ * The writer fills its back buffer and publishes it by swapping it with the shared middle buffer;
+ * the reader swaps the middle buffer with its front buffer whenever a newer one has been published.
+ * Neither side ever waits for the other, and a buffer is never written while the reader holds it.
+ *
+ * @param <T> The type of the buffered values.
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b011; // Bits of the shared state holding the middle buffer index
+    private static final int FRESH = 0b100; // Set while the middle buffer holds a value the reader has not taken
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1); // Index of the middle buffer, plus the fresh flag
+    private int back = 0; // Buffer owned by the writer
+    private int front = 2; // Buffer owned by the reader
+
+    /**
+     * Constructs a triple buffer over three values created up front.
+     *
+     * @param factory Creates each of the three buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the buffer the writer fills next. Only the writer thread may call this.
+     *
+     * @return The back buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publishes the back buffer as the newest value and takes over the previous middle buffer.
+     * A published value the reader never took is recycled. Only the writer thread may call this.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the newest published value, taking it over from the writer if it has not been read yet.
+     * The returned buffer stays unchanged until the next call. Only the reader thread may call this.
+     *
+     * @return The newest value, or the initial front buffer if nothing has been published.
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+
+    /**
+     * Checks whether a value has been published since the reader last took one.
+     *
+     * @return True if {@link #read()} would return a newer value.
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
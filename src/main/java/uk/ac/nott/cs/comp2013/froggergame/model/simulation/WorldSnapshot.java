@@ -0,0 +1,204 @@
+package uk.ac.nott.cs.comp2013.froggergame.model.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
+
+/**
+ * Copy of everything a frame needs to draw the game, taken after a simulation tick.
+ * Holds the position, sprite and sprite id of each actor in layer order together with the HUD values,
+ * so a renderer on another thread never reads the live model. Snapshots are recycled through a
+ * {@link TripleBuffer}: one is filled by {@link #capture} on the simulation thread and is not
+ * changed again while the render thread holds it.
+ */
+public class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 64; // Actors held before the arrays grow
+
+    /**
+     * How the game stood when the snapshot was taken.
+     */
+    public enum Outcome {
+        PLAYING, // The game is still running
+        WON, // All levels have been completed
+        LOST // The player ran out of lives or time
+    }
+
+    private Actor[] actors = new Actor[INITIAL_CAPACITY]; // Identity of each actor, for matching it with its renderer
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] requestedWidth = new double[INITIAL_CAPACITY];
+    private double[] requestedHeight = new double[INITIAL_CAPACITY];
+    private String[] sprites = new String[INITIAL_CAPACITY];
+    private SpriteId[] spriteIds = new SpriteId[INITIAL_CAPACITY];
+    private boolean[] easterEggs = new boolean[INITIAL_CAPACITY]; // Whether an endpoint holds an Easter egg
+    private int count; // Number of actors captured
+    private long tick = -1; // Tick the snapshot was taken after, or -1 if it holds nothing yet
+    private int points;
+    private int level;
+    private double remainingTime;
+    private double totalTime;
+    private Outcome outcome = Outcome.PLAYING;
+    private long capturedAt; // Real time of the capture in nanoseconds
+    private double alpha; // Interpolation factor at the time of the capture
+    private double alphaPerNano; // Growth of the interpolation factor per nanosecond of real time
+
+    /**
+     * Copies the state of a simulation into this snapshot, replacing whatever it held.
+     *
+     * @param simulation The simulation to copy. Must not be ticking while it is copied.
+     * @param tick       The number of ticks simulated so far.
+     * @param outcome    How the game stands.
+     */
+    public void capture(GameSimulation simulation, long tick, Outcome outcome) {
+        List<Actor> live = simulation.getWorld().getObjects(Actor.class);
+        ensureCapacity(live.size());
+        for (int i = 0; i < live.size(); i++) {
+            Actor actor = live.get(i);
+            actors[i] = actor;
+            x[i] = actor.getX();
+            y[i] = actor.getY();
+            previousX[i] = actor.getPreviousX();
+            previousY[i] = actor.getPreviousY();
+            requestedWidth[i] = actor.getRequestedWidth();
+            requestedHeight[i] = actor.getRequestedHeight();
+            sprites[i] = actor.getSprite();
+            spriteIds[i] = actor.getSpriteId();
+            easterEggs[i] = actor instanceof EndPoint endPoint && endPoint.hasEasterEgg();
+        }
+        if (count > live.size()) {
+            Arrays.fill(actors, live.size(), count, null); // Lets removed actors be collected
+        }
+        count = live.size();
+
+        this.tick = tick;
+        this.points = simulation.getAnimal() != null ? simulation.getAnimal().getStateManager().getPoints() : 0;
+        this.level = simulation.getLevelManager() != null ? simulation.getLevelManager().getCurrentLevel() : 0;
+        LevelTimer levelTimer = simulation.getLevelTimer();
+        this.remainingTime = levelTimer.getRemainingTime();
+        this.totalTime = levelTimer.getTotalTime();
+        this.outcome = outcome;
+    }
+
+    /**
+     * Records how the interpolation factor moves on after the capture, so frames drawn later can
+     * keep blending towards this state.
+     *
+     * @param capturedAt   The real time of the capture in nanoseconds.
+     * @param alpha        The interpolation factor at the time of the capture.
+     * @param alphaPerNano How fast the factor grows per nanosecond of real time.
+     */
+    public void setTiming(long capturedAt, double alpha, double alphaPerNano) {
+        this.capturedAt = capturedAt;
+        this.alpha = alpha;
+        this.alphaPerNano = alphaPerNano;
+    }
+
+    /**
+     * Gets the interpolation factor for a frame drawn at the given time.
+     * The factor stops at 1 when the next snapshot is late, holding the actors at their latest position.
+     *
+     * @param now The real time of the frame in nanoseconds.
+     * @return The interpolation factor in the range [0, 1].
+     */
+    public double alphaAt(long now) {
+        return Math.min(1.0, alpha + Math.max(0, now - capturedAt) * alphaPerNano);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= actors.length) {
+            return;
+        }
+        int capacity = Math.max(size, actors.length * 2);
+        actors = Arrays.copyOf(actors, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        requestedWidth = Arrays.copyOf(requestedWidth, capacity);
+        requestedHeight = Arrays.copyOf(requestedHeight, capacity);
+        sprites = Arrays.copyOf(sprites, capacity);
+        spriteIds = Arrays.copyOf(spriteIds, capacity);
+        easterEggs = Arrays.copyOf(easterEggs, capacity);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the actor captured at an index, to be used only as an identity and type key.
+     * Its live state may already have moved on from the snapshot.
+     *
+     * @param index The index of the actor, in layer order.
+     * @return The actor.
+     */
+    public Actor getActor(int index) {
+        return actors[index];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getPreviousX(int index) {
+        return previousX[index];
+    }
+
+    public double getPreviousY(int index) {
+        return previousY[index];
+    }
+
+    public double getRequestedWidth(int index) {
+        return requestedWidth[index];
+    }
+
+    public double getRequestedHeight(int index) {
+        return requestedHeight[index];
+    }
+
+    public String getSprite(int index) {
+        return sprites[index];
+    }
+
+    public SpriteId getSpriteId(int index) {
+        return spriteIds[index];
+    }
+
+    public boolean hasEasterEgg(int index) {
+        return easterEggs[index];
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public double getRemainingTime() {
+        return remainingTime;
+    }
+
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+}
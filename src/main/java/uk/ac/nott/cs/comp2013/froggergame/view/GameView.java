@@ -28,13 +28,6 @@ public class GameView extends Pane {
         staticBackground = new Background("background.png");
     }
 
-    /**
-     * Starts the game stage, enabling game logic and animations.
-     */
-    public void startBackground() {
-        background.start();
-    }
-
     /**
      * Plays the background music for the game.
      */
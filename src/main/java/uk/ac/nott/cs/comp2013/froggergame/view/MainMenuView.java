@@ -1,8 +1,10 @@
 package uk.ac.nott.cs.comp2013.froggergame.view;
 
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
@@ -14,6 +16,7 @@ import uk.ac.nott.cs.comp2013.froggergame.controller.menu.MainMenuController;
 
 /**
  * Main menu view for the Frogger game, providing options to play the game, view high scores, or quit.
+ * Game assets are loaded in the background while the menu is showing, with a progress bar below the buttons.
  */
 public class MainMenuView {
     private final Stage primaryStage; // The primary stage for displaying the menu
@@ -22,6 +25,7 @@ public class MainMenuView {
     private static final String MENU_IMAGE_PATH = "/images/menu.png"; // Path to the menu banner image
     private static final String FROG_ICON_PATH = "/images/froggerUp.png"; // Path to the frog icon image
     private final MainMenuController controller; // Controller handling the menu actions
+    private final ProgressBar loadingBar = new ProgressBar(0); // Shows how many game assets are loaded
 
     /**
      * Constructor to initialize the main menu view with the primary stage and controller.
@@ -45,6 +49,21 @@ public class MainMenuView {
         scene.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/styles/mainmenu.css")).toExternalForm());
         primaryStage.setScene(scene);
         primaryStage.show();
+        controller.preloadAssets(this::onAssetProgress);
+    }
+
+    /**
+     * Updates the progress bar on the FX thread as assets finish loading.
+     *
+     * @param loaded The number of assets loaded so far.
+     * @param total  The total number of assets.
+     */
+    private void onAssetProgress(int loaded, int total) {
+        double progress = total == 0 ? 1.0 : (double) loaded / total;
+        Platform.runLater(() -> {
+            loadingBar.setProgress(progress);
+            loadingBar.setVisible(progress < 1.0); // Hidden once everything is ready
+        });
     }
 
     /**
@@ -73,8 +92,10 @@ public class MainMenuView {
         VBox menuLayout = new VBox(
                 createButton("PLAY GAME", controller::startGame),
                 createButton("HIGH SCORES", controller::showHighScores),
-                createButton("QUIT GAME", controller::quitGame)
+                createButton("QUIT GAME", controller::quitGame),
+                loadingBar
         );
+        loadingBar.getStyleClass().add("loading-bar");
         menuLayout.getStyleClass().add("menu-layout");
         return menuLayout;
     }
@@ -0,0 +1,165 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.components;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.SpriteAtlas;
+
+/**
+ * Batched renderer drawing every simulated actor onto a single canvas.
+ * Each frame the canvas is cleared and the actors are painted straight from the model in the
+ * order they joined the world, so later actors are drawn on top as with one node per actor.
+ */
+public class ActorCanvas extends Canvas {
+    private static final String EASTER_EGG_SPRITE = "egg.png";
+    private static final int EASTER_EGG_SIZE = 40;
+
+    private final List<Actor> actors; // Live view of the world's actors, in layer order
+    private final ImageManager imageManager; // Supplies the sprite regions
+    private final Map<Actor, SpriteAtlas.Sprite> sprites = new IdentityHashMap<>(); // Region last resolved for each actor
+    private final Map<Actor, String> spriteNames = new IdentityHashMap<>(); // Sprite name the region was resolved for
+
+    /**
+     * Constructs a canvas drawing the actors of the given world.
+     *
+     * @param world        The simulated world to draw.
+     * @param imageManager The image manager supplying sprite images.
+     * @param width        The width of the canvas.
+     * @param height       The height of the canvas.
+     */
+    public ActorCanvas(GameWorld world, ImageManager imageManager, double width, double height) {
+        super(width, height);
+        this.actors = world.getObjects(Actor.class);
+        this.imageManager = imageManager;
+    }
+
+    /**
+     * Repaints every actor at its position interpolated between the last two ticks.
+     *
+     * @param alpha The interpolation factor between the previous and current tick, in [0, 1).
+     */
+    public void paint(double alpha) {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        for (Actor actor : actors) {
+            SpriteAtlas.Sprite sprite = spriteOf(actor, actor.getSpriteId(), actor.getSprite(),
+                    actor.getRequestedWidth(), actor.getRequestedHeight());
+            double x = ActorView.interpolate(actor.getPreviousX(), actor.getX(), alpha);
+            double y = ActorView.interpolate(actor.getPreviousY(), actor.getY(), alpha);
+            paintActor(gc, actor, sprite, x, y, actor instanceof EndPoint endPoint && endPoint.hasEasterEgg());
+        }
+    }
+
+    /**
+     * Repaints every actor recorded in a snapshot at its position interpolated between the last two ticks.
+     *
+     * @param snapshot The snapshot to draw.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    public void paint(WorldSnapshot snapshot, double alpha) {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            Actor actor = snapshot.getActor(i);
+            SpriteAtlas.Sprite sprite = spriteOf(actor, snapshot.getSpriteId(i), snapshot.getSprite(i),
+                    snapshot.getRequestedWidth(i), snapshot.getRequestedHeight(i));
+            double x = ActorView.interpolate(snapshot.getPreviousX(i), snapshot.getX(i), alpha);
+            double y = ActorView.interpolate(snapshot.getPreviousY(i), snapshot.getY(i), alpha);
+            paintActor(gc, actor, sprite, x, y, snapshot.hasEasterEgg(i));
+        }
+    }
+
+    private void paintActor(GraphicsContext gc, Actor actor, SpriteAtlas.Sprite sprite, double x, double y, boolean hasEasterEgg) {
+        if (sprite == null) {
+            return;
+        }
+        if (actor instanceof EndPoint) {
+            draw(gc, sprite, x, y, EndPoint.IMAGE_SIZE, EndPoint.IMAGE_SIZE);
+            if (hasEasterEgg) {
+                double inset = (EndPoint.IMAGE_SIZE - EASTER_EGG_SIZE) / 2.0;
+                draw(gc, imageManager.getSprite(EASTER_EGG_SPRITE, EASTER_EGG_SIZE, EASTER_EGG_SIZE),
+                        x + inset, y + inset, EASTER_EGG_SIZE, EASTER_EGG_SIZE);
+            }
+        } else {
+            Rectangle2D region = sprite.viewport();
+            double width = region != null ? region.getWidth() : sprite.image().getWidth();
+            double height = region != null ? region.getHeight() : sprite.image().getHeight();
+            draw(gc, sprite, x, y, width, height);
+        }
+    }
+
+    /**
+     * Resolves the region for an actor's current sprite, reusing it while the sprite is unchanged.
+     *
+     * @param actor           The actor to draw.
+     * @param id              The handle of the sprite, or null if it has none.
+     * @param name            The image name of the sprite.
+     * @param requestedWidth  The width of the box the sprite is fitted into.
+     * @param requestedHeight The height of the box the sprite is fitted into.
+     * @return The sprite region, or null if the actor has no drawable sprite.
+     */
+    private SpriteAtlas.Sprite spriteOf(Actor actor, SpriteId id, String name, double requestedWidth, double requestedHeight) {
+        if (id != null) {
+            try {
+                return imageManager.getSprite(id);
+            } catch (IllegalArgumentException e) {
+                return null; // Missing sprites are simply not drawn
+            }
+        }
+        if (name == null) {
+            return null;
+        }
+        if (!name.equals(spriteNames.get(actor))) {
+            SpriteAtlas.Sprite sprite;
+            try {
+                sprite = imageManager.getSprite(name, requestedWidth, requestedHeight);
+            } catch (IllegalArgumentException e) {
+                sprite = null; // Missing sprites are simply not drawn
+            }
+            sprites.put(actor, sprite);
+            spriteNames.put(actor, name);
+        }
+        return sprites.get(actor);
+    }
+
+    /**
+     * Removes the cached region of an actor that has left the world.
+     *
+     * @param actor The removed actor.
+     */
+    public void forget(Actor actor) {
+        sprites.remove(actor);
+        spriteNames.remove(actor);
+    }
+
+    /**
+     * Removes the cached regions of every actor not in the given set.
+     *
+     * @param present The actors still in the world.
+     */
+    public void retain(Set<Actor> present) {
+        sprites.keySet().retainAll(present);
+        spriteNames.keySet().retainAll(present);
+    }
+
+    private static void draw(GraphicsContext gc, SpriteAtlas.Sprite sprite, double x, double y, double width, double height) {
+        Rectangle2D region = sprite.viewport();
+        if (region == null) {
+            gc.drawImage(sprite.image(), x, y, width, height);
+        } else {
+            gc.drawImage(sprite.image(), region.getMinX(), region.getMinY(), region.getWidth(), region.getHeight(),
+                    x, y, width, height);
+        }
+    }
+}
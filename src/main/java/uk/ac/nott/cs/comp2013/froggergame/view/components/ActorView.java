@@ -0,0 +1,169 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.components;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+import uk.ac.nott.cs.comp2013.froggergame.view.managers.ActorRenderer;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.SpriteAtlas;
+
+/**
+ * Image-based renderer for a simulated actor.
+ * Draws the actor's current sprite at a position interpolated between its last two ticks.
+ */
+public class ActorView extends ImageView implements ActorRenderer {
+    private static final double MAX_INTERPOLATION_STEP = 10.0; // Larger jumps (wrap-arounds, resets) are not blended
+    private static final boolean VERIFY_BOUNDS = Boolean.getBoolean("frogger.debug.bounds"); // Cross-check cached bounds against the scene graph
+    private static final double BOUNDS_TOLERANCE = 1.0; // Allowed rounding difference between cached and rendered bounds
+
+    private Actor actor; // The actor being drawn, or null while the view is pooled
+    private final ImageManager imageManager; // Supplies the sprite images
+    private String renderedSprite; // Sprite currently shown by this view
+    private SpriteId renderedId; // Handle of the sprite currently shown, or null if it has none
+
+    /**
+     * Constructs a view for the given actor.
+     *
+     * @param actor        The actor to draw.
+     * @param imageManager The image manager supplying sprite images.
+     */
+    public ActorView(Actor actor, ImageManager imageManager) {
+        this(imageManager);
+        bind(actor);
+        sync(1.0);
+    }
+
+    /**
+     * Constructs an unbound view, to be bound to an actor with {@link #bind(Actor)}.
+     *
+     * @param imageManager The image manager supplying sprite images.
+     */
+    public ActorView(ImageManager imageManager) {
+        this.imageManager = imageManager;
+    }
+
+    /**
+     * Binds the view to an actor. The actor's state is shown from the next sync onwards.
+     *
+     * @param actor The actor to draw.
+     */
+    public void bind(Actor actor) {
+        this.actor = actor;
+    }
+
+    /**
+     * Unbinds the view from its actor and clears its image, ready to be pooled.
+     */
+    public void unbind() {
+        actor = null;
+        renderedSprite = null;
+        renderedId = null;
+        setImage(null);
+        setViewport(null);
+    }
+
+    @Override
+    public Node getNode() {
+        return this;
+    }
+
+    /**
+     * Updates the sprite image if it changed and moves the view to the interpolated position.
+     *
+     * @param alpha The interpolation factor between the previous and current tick, in [0, 1).
+     */
+    @Override
+    public void sync(double alpha) {
+        if (actor == null) {
+            return;
+        }
+        showSprite(actor.getSprite(), actor.getSpriteId(), actor.getRequestedWidth(), actor.getRequestedHeight());
+        setX(interpolate(actor.getPreviousX(), actor.getX(), alpha));
+        setY(interpolate(actor.getPreviousY(), actor.getY(), alpha));
+        if (VERIFY_BOUNDS && getImage() != null && getParent() != null) {
+            verifyBounds();
+        }
+    }
+
+    /**
+     * Updates the sprite image if it changed and moves the view to the interpolated position,
+     * reading the actor's state from a snapshot rather than from the actor.
+     *
+     * @param snapshot The snapshot holding the actor's state.
+     * @param index    The index of the actor within the snapshot.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    @Override
+    public void show(WorldSnapshot snapshot, int index, double alpha) {
+        showSprite(snapshot.getSprite(index), snapshot.getSpriteId(index),
+                snapshot.getRequestedWidth(index), snapshot.getRequestedHeight(index));
+        setX(interpolate(snapshot.getPreviousX(index), snapshot.getX(index), alpha));
+        setY(interpolate(snapshot.getPreviousY(index), snapshot.getY(index), alpha));
+    }
+
+    /**
+     * Swaps the image shown by the view when the sprite differs from the one last shown.
+     *
+     * @param sprite          The image name of the sprite.
+     * @param id              The handle of the sprite, or null if it has none.
+     * @param requestedWidth  The width of the box the sprite is fitted into.
+     * @param requestedHeight The height of the box the sprite is fitted into.
+     */
+    private void showSprite(String sprite, SpriteId id, double requestedWidth, double requestedHeight) {
+        boolean changed = id != null ? id != renderedId : sprite != null && !sprite.equals(renderedSprite);
+        if (changed) {
+            renderedSprite = sprite;
+            renderedId = id;
+            try {
+                SpriteAtlas.Sprite region = id != null
+                        ? imageManager.getSprite(id) // Array lookup for the frequently swapped character sprites
+                        : imageManager.getSprite(sprite, requestedWidth, requestedHeight);
+                setImage(region.image());
+                setViewport(region.viewport());
+            } catch (IllegalArgumentException e) {
+                setImage(null); // Missing sprites are simply not drawn
+            }
+        }
+    }
+
+    /**
+     * Checks the actor's cached bounds against the bounds computed by the scene graph.
+     * Enabled in debug runs with {@code -Dfrogger.debug.bounds=true}.
+     *
+     * @throws IllegalStateException If the cached bounds have drifted from the rendered ones.
+     */
+    private void verifyBounds() {
+        Bounds rendered = localToScene(getBoundsInLocal());
+        Point2D origin = getParent().localToScene(0, 0);
+        double expectedMinX = origin.getX() + actor.getMinX() + (getX() - actor.getX()); // Offset by the interpolation lag
+        double expectedMinY = origin.getY() + actor.getMinY() + (getY() - actor.getY());
+        if (Math.abs(rendered.getMinX() - expectedMinX) > BOUNDS_TOLERANCE
+                || Math.abs(rendered.getMinY() - expectedMinY) > BOUNDS_TOLERANCE
+                || Math.abs(rendered.getWidth() - (actor.getMaxX() - actor.getMinX())) > BOUNDS_TOLERANCE
+                || Math.abs(rendered.getHeight() - (actor.getMaxY() - actor.getMinY())) > BOUNDS_TOLERANCE) {
+            throw new IllegalStateException("Cached bounds of " + actor.getClass().getSimpleName()
+                    + " [" + actor.getMinX() + ", " + actor.getMinY() + ", " + actor.getMaxX() + ", " + actor.getMaxY()
+                    + "] do not match rendered bounds " + rendered);
+        }
+    }
+
+    /**
+     * Blends between two positions, snapping when the jump is too large to be continuous motion.
+     *
+     * @param previous The position at the previous tick.
+     * @param current  The position at the current tick.
+     * @param alpha    The interpolation factor.
+     * @return The position to draw at.
+     */
+    static double interpolate(double previous, double current, double alpha) {
+        if (Math.abs(current - previous) > MAX_INTERPOLATION_STEP) {
+            return current;
+        }
+        return previous + (current - previous) * alpha;
+    }
+}
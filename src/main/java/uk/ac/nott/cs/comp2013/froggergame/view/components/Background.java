@@ -23,6 +23,7 @@ public class Background extends ImageView {
 		ImageViewFactory.ConfiguredImageView configuredImage =
 				ImageViewFactory.createConfiguredImageView(imageLink, DEFAULT_WIDTH, DEFAULT_HEIGHT);
 		setImage(configuredImage.image());
+		setViewport(configuredImage.viewport());
 		setFitWidth(configuredImage.width());
 		setFitHeight(configuredImage.height());
 	}
@@ -9,6 +9,8 @@ import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageViewFactory;
  * This class is used to render a single digit with specific dimensions and position.
  */
 public class Digit extends ImageView {
+	private final int dimension; // Width and height of the digit image
+	private int value = -1; // Digit currently shown
 
 	/**
 	 * Constructs a Digit object to display a single digit in the UI.
@@ -21,16 +23,35 @@ public class Digit extends ImageView {
 	 */
 	public Digit(int value, int dimension, int x, int y) {
 		super();
+		this.dimension = dimension;
+		setValue(value);
+		setFitWidth(dimension);
+		setFitHeight(dimension);
+		setX(x);
+		setY(y);
+	}
+
+	/**
+	 * Shows a different digit, swapping only the glyph image.
+	 *
+	 * @param value The numeric value of the digit (must be between 0 and 9).
+	 * @throws IllegalArgumentException if the digit value is not between 0 and 9.
+	 */
+	public void setValue(int value) {
 		if (value < 0 || value > 9) {
 			throw new IllegalArgumentException("Digit value must be between 0 and 9.");
 		}
-
+		if (value == this.value) {
+			return;
+		}
 		ImageViewFactory.ConfiguredImageView configuredImage =
 				ImageViewFactory.createConfiguredImageView(value + ".png", dimension, dimension);
 		setImage(configuredImage.image());
-		setFitWidth(configuredImage.width());
-		setFitHeight(configuredImage.height());
-		setX(x);
-		setY(y);
+		setViewport(configuredImage.viewport());
+		this.value = value;
+	}
+
+	public int getValue() {
+		return value;
 	}
 }
@@ -1,172 +1,101 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.components;
 
-import javafx.animation.PauseTransition;
-import javafx.scene.image.Image;
+import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
-import javafx.util.Duration;
-import java.util.Objects;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.base.ObjectPool;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+import uk.ac.nott.cs.comp2013.froggergame.view.managers.ActorRenderer;
 import uk.ac.nott.cs.comp2013.froggergame.view.managers.GameComponent;
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageLoader;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.SpriteAtlas;
 
 /**
- * Represents an endpoint in the game where the player can reach to complete objectives.
- * This class manages activation states, Easter egg spawning, and rendering the endpoint.
+ * Renders an endpoint the player can reach to complete objectives.
+ * Displays the endpoint's activation state and any Easter egg it currently holds.
  */
-public class End extends Pane implements GameComponent {
-	// Image paths for the default, activated, and Easter egg states
-	private static final String DEFAULT_IMAGE_PATH = "End.png";
-	private static final String ACTIVATED_IMAGE_PATH = "FrogEnd.png";
-	private static final String EASTER_EGG_IMAGE_PATH = "/images/egg.png";
+public class End extends Pane implements GameComponent, ActorRenderer {
+	// Image path for the Easter egg
+	private static final String EASTER_EGG_IMAGE_PATH = "egg.png";
 
-	// Constants for size and timings
+	// Constants for size
 	private static final int IMAGE_SIZE = 60;
 	private static final int EASTER_EGG_SIZE = 40;
-	private static final double EASTER_EGG_DURATION_SECONDS = 5.0;
-	private static final double EASTER_EGG_SPAWN_CHANCE = 0.3;
-	private static final double MIN_RANDOM_DELAY_SECONDS = 1.0;
-	private static final double MAX_RANDOM_DELAY_SECONDS = 10.0;
 
 	// State and UI components
-	private boolean isActivated; // Whether the endpoint has been activated
+	private final EndPoint endPoint; // The endpoint being rendered
+	private final ImageManager imageManager; // Supplies the endpoint images
+	private final ObjectPool<ImageView> overlayPool; // Recycles the Easter egg image views
 	private final ImageView endImageView; // The image view for the endpoint
-	private boolean hasEasterEgg; // Whether an Easter egg is currently displayed
 	private ImageView easterEggImageView; // The image view for the Easter egg
-	private PauseTransition easterEggTimer; // Timer to handle Easter egg visibility duration
-	private PauseTransition spawnTimer; // Timer to handle scheduling of Easter egg spawns
+	private String renderedSprite; // Sprite currently shown by the endpoint image
 
 	/**
-	 * Constructor to initialize the endpoint at the given position.
+	 * Constructor to initialize the renderer for the given endpoint.
 	 *
-	 * @param x The x-coordinate of the endpoint.
-	 * @param y The y-coordinate of the endpoint.
+	 * @param endPoint     The endpoint to render.
+	 * @param imageManager The image manager supplying the endpoint images.
+	 * @param overlayPool  The pool the Easter egg image views are taken from and returned to.
 	 */
-	public End(int x, int y) {
-		// Load and set the default image for the endpoint
-		Image defaultImage = ImageLoader.loadImage(DEFAULT_IMAGE_PATH, IMAGE_SIZE, IMAGE_SIZE);
-		endImageView = new ImageView(defaultImage);
+	public End(EndPoint endPoint, ImageManager imageManager, ObjectPool<ImageView> overlayPool) {
+		this.endPoint = endPoint;
+		this.imageManager = imageManager;
+		this.overlayPool = overlayPool;
+		endImageView = new ImageView();
 		endImageView.setFitWidth(IMAGE_SIZE);
 		endImageView.setFitHeight(IMAGE_SIZE);
-		setLayoutX(x);
-		setLayoutY(y);
+		setLayoutX(endPoint.getX());
+		setLayoutY(endPoint.getY());
 		getChildren().add(endImageView);
-
-		// Initialize state and timers
-		this.isActivated = false;
-		this.hasEasterEgg = false;
-		initializeTimers();
-		scheduleNextEasterEgg();
-	}
-
-	/**
-	 * Activates the endpoint, changing its appearance and stopping any timers.
-	 */
-	public void setEnd() {
-		if (!isActivated) {
-			stopTimers();
-			clearEasterEgg();
-			Image activatedImage = ImageLoader.loadImage(ACTIVATED_IMAGE_PATH, IMAGE_SIZE, IMAGE_SIZE);
-			endImageView.setImage(activatedImage);
-			isActivated = true;
-		}
-	}
-
-	/**
-	 * Initializes timers for managing Easter egg visibility and spawning.
-	 */
-	private void initializeTimers() {
-		easterEggTimer = new PauseTransition(Duration.seconds(EASTER_EGG_DURATION_SECONDS));
-		easterEggTimer.setOnFinished(event -> {
-			clearEasterEgg();
-			scheduleNextEasterEgg();
-		});
-	}
-
-	/**
-	 * Resets the endpoint to its default state, clearing any activation or Easter egg.
-	 */
-	public void reset() {
-		stopTimers();
-		resetToDefaultImage();
-		isActivated = false;
-		hasEasterEgg = false;
-		if (easterEggImageView != null) {
-			getChildren().remove(easterEggImageView);
-			easterEggImageView = null;
-		}
-		initializeTimers();
-		scheduleNextEasterEgg();
 	}
 
-	/**
-	 * Stops all active timers for Easter egg visibility and spawning.
-	 */
-	private void stopTimers() {
-		if (easterEggTimer != null) {
-			easterEggTimer.stop();
-		}
-		if (spawnTimer != null) {
-			spawnTimer.stop();
-		}
+	@Override
+	public Node getNode() {
+		return this;
 	}
 
 	/**
-	 * Resets the endpoint's image to the default appearance.
+	 * Updates the endpoint image and Easter egg to match the endpoint's state.
+	 *
+	 * @param alpha The interpolation factor, unused as endpoints do not move.
 	 */
-	private void resetToDefaultImage() {
-		Image defaultImage = ImageLoader.loadImage(DEFAULT_IMAGE_PATH, IMAGE_SIZE, IMAGE_SIZE);
-		endImageView.setImage(defaultImage);
+	@Override
+	public void sync(double alpha) {
+		showState(endPoint.getSprite(), endPoint.hasEasterEgg());
 	}
 
 	/**
-	 * Checks if the endpoint has been activated.
+	 * Updates the endpoint image and Easter egg to match the endpoint's state recorded in a snapshot.
 	 *
-	 * @return True if the endpoint is activated, false otherwise.
+	 * @param snapshot The snapshot holding the endpoint's state.
+	 * @param index    The index of the endpoint within the snapshot.
+	 * @param alpha    The interpolation factor, unused as endpoints do not move.
 	 */
-	public boolean isActivated() {
-		return isActivated;
+	@Override
+	public void show(WorldSnapshot snapshot, int index, double alpha) {
+		showState(snapshot.getSprite(index), snapshot.hasEasterEgg(index));
 	}
 
-	/**
-	 * Schedules the next attempt to spawn an Easter egg after a random delay.
-	 */
-	private void scheduleNextEasterEgg() {
-		if (isActivated) return;
-
-		double randomDelay = MIN_RANDOM_DELAY_SECONDS + Math.random() * (MAX_RANDOM_DELAY_SECONDS - MIN_RANDOM_DELAY_SECONDS);
-		if (spawnTimer != null) {
-			spawnTimer.stop();
+	private void showState(String sprite, boolean hasEasterEgg) {
+		if (!sprite.equals(renderedSprite)) {
+			show(endImageView, imageManager.getSprite(sprite, IMAGE_SIZE, IMAGE_SIZE));
+			renderedSprite = sprite;
 		}
-		this.spawnTimer = new PauseTransition(Duration.seconds(randomDelay));
-		this.spawnTimer.setOnFinished(event -> {
-			if (!isActivated) {
-				trySpawnEasterEgg();
-			}
-		});
-		this.spawnTimer.play();
-	}
-
-	/**
-	 * Attempts to spawn an Easter egg at the endpoint based on a random chance.
-	 */
-	private void trySpawnEasterEgg() {
-		if (!hasEasterEgg && !isActivated && Math.random() < EASTER_EGG_SPAWN_CHANCE) {
+		if (hasEasterEgg && easterEggImageView == null) {
 			initializeEasterEgg();
-		} else {
-			scheduleNextEasterEgg();
+		} else if (!hasEasterEgg && easterEggImageView != null) {
+			clearEasterEgg();
 		}
 	}
 
 	/**
-	 * Initializes and displays an Easter egg at the endpoint.
+	 * Initializes and displays an Easter egg at the endpoint, using an image view from the overlay pool.
 	 */
 	private void initializeEasterEgg() {
-		if (isActivated) return;
-
-		String easterEggImagePath = Objects.requireNonNull(getClass().getResource(EASTER_EGG_IMAGE_PATH)).toExternalForm();
-		Image easterEggImage = new Image(easterEggImagePath, EASTER_EGG_SIZE, EASTER_EGG_SIZE, true, true);
-		easterEggImageView = new ImageView(easterEggImage);
+		easterEggImageView = overlayPool.acquire();
+		show(easterEggImageView, imageManager.getSprite(EASTER_EGG_IMAGE_PATH, EASTER_EGG_SIZE, EASTER_EGG_SIZE));
 		easterEggImageView.setFitWidth(EASTER_EGG_SIZE);
 		easterEggImageView.setFitHeight(EASTER_EGG_SIZE);
 		double centerX = (IMAGE_SIZE - EASTER_EGG_SIZE) / 2.0;
@@ -174,31 +103,20 @@ public class End extends Pane implements GameComponent {
 		easterEggImageView.setLayoutX(centerX);
 		easterEggImageView.setLayoutY(centerY);
 		getChildren().add(easterEggImageView);
-		hasEasterEgg = true;
-
-		if (easterEggTimer != null) {
-			easterEggTimer.playFromStart();
-		}
 	}
 
-	/**
-	 * Clears the Easter egg from the endpoint if it exists.
-	 */
-	public void clearEasterEgg() {
-		if (hasEasterEgg && easterEggImageView != null) {
-			getChildren().remove(easterEggImageView);
-			easterEggImageView = null;
-			hasEasterEgg = false;
-		}
+	private static void show(ImageView view, SpriteAtlas.Sprite sprite) {
+		view.setImage(sprite.image());
+		view.setViewport(sprite.viewport());
 	}
 
 	/**
-	 * Checks if the endpoint currently has an Easter egg.
-	 *
-	 * @return True if an Easter egg is present, false otherwise.
+	 * Removes the Easter egg image from the endpoint and returns its view to the overlay pool.
 	 */
-	public boolean hasEasterEgg() {
-		return hasEasterEgg;
+	private void clearEasterEgg() {
+		getChildren().remove(easterEggImageView);
+		overlayPool.release(easterEggImageView);
+		easterEggImageView = null;
 	}
 
 	/**
@@ -1,31 +1,31 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.components;
 
-import javafx.application.Platform;
 import javafx.scene.layout.Pane;
 import javafx.scene.text.Text;
 import java.util.Objects;
-import java.util.Stack;
 
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 
 /**
  * Handles the display and management of the game's score.
+ * The score is drawn by a fixed pool of digit slots; a change only swaps the glyphs that differ.
  */
 public class Score {
     private static final String SCORE_LABEL_CLASS = "score-label"; // CSS class for the score label
     private static final String DIGIT_CLASS = "score-digit"; // CSS class for score digits
+    private static final int MAX_DIGITS = 10; // Digits of the largest int score
+    private static final int DIGIT_SIZE = 30; // Width and height of each digit
+    private static final int DIGITS_X = 120; // Position of the most significant digit
+    private static final int DIGITS_Y = 5;
 
-    private final ScoreManager scoreManager; // Manages the game's score logic
-
-    /**
-     * Constructor to initialize the Score instance.
-     */
-    public Score() {
-        this.scoreManager = new ScoreManager();
-    }
+    private final int[] digits = new int[MAX_DIGITS]; // Reused buffer for the digits of the score
+    private final Digit[] slots = new Digit[MAX_DIGITS]; // Digit nodes, created once per pane
+    private Pane slotPane; // Pane holding the digit slots
+    private int shownDigits; // Number of slots currently visible
 
     /**
      * Updates the score display in the given pane.
+     * Must be called on the FX application thread.
      *
      * @param pane         The pane to update the score display on.
      * @param score        The current score value.
@@ -33,29 +33,39 @@ public class Score {
      */
     public void updateScoreDisplay(Pane pane, int score, ScoreManager scoreManager) {
         if (pane == null) return;
-        Platform.runLater(() -> {
-            // Remove existing digit nodes
-            pane.getChildren().removeIf(node -> node.getStyleClass().contains(DIGIT_CLASS));
-            // Add updated score digits
-            addScoreDigitsToPane(pane, scoreManager.getDigits(score));
-        });
+        if (pane != slotPane) {
+            createSlots(pane);
+        }
+        int count = scoreManager.fillDigits(score, digits);
+        for (int i = 0; i < count; i++) {
+            slots[i].setValue(digits[i]); // No-op when the glyph is unchanged
+        }
+        for (int i = count; i < shownDigits; i++) {
+            slots[i].setVisible(false);
+        }
+        for (int i = shownDigits; i < count; i++) {
+            slots[i].setVisible(true);
+        }
+        shownDigits = count;
     }
 
     /**
-     * Adds digit nodes representing the score to the given pane.
+     * Adds the pool of hidden digit slots to the given pane.
      *
-     * @param pane   The pane to add the digit nodes to.
-     * @param digits A stack of digits representing the score.
+     * @param pane The pane to show the score on.
      */
-    private void addScoreDigitsToPane(Pane pane, Stack<Integer> digits) {
-        int shift = 0;
-        while (!digits.isEmpty()) {
-            int digit = digits.pop();
-            Digit digitNode = new Digit(digit, 30, 120 + shift, 5);
-            digitNode.getStyleClass().add(DIGIT_CLASS);
-            pane.getChildren().add(digitNode);
-            shift += 30;
+    private void createSlots(Pane pane) {
+        if (slotPane != null) {
+            slotPane.getChildren().removeAll(slots);
+        }
+        for (int i = 0; i < MAX_DIGITS; i++) {
+            slots[i] = new Digit(0, DIGIT_SIZE, DIGITS_X + i * DIGIT_SIZE, DIGITS_Y);
+            slots[i].getStyleClass().add(DIGIT_CLASS);
+            slots[i].setVisible(false);
         }
+        pane.getChildren().addAll(slots);
+        slotPane = pane;
+        shownDigits = 0;
     }
 
     /**
@@ -73,13 +83,4 @@ public class Score {
                 Objects.requireNonNull(getClass().getResource("/styles/score.css")).toExternalForm()
         );
     }
-
-    /**
-     * Updates the score with a new value.
-     *
-     * @param newScore The new score value to display.
-     */
-    public void updateScore(int newScore) {
-        updateScoreDisplay(null, newScore, scoreManager);
-    }
 }
@@ -1,59 +1,52 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.components;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 import java.util.Objects;
 
 /**
- * Represents a time bar component with a countdown timer, visual updates,
- * and a timeout callback.
+ * Represents a time bar component displaying the countdown of the current level.
+ * The countdown itself is kept by the simulation; this component only reflects it.
+ * Colour changes toggle CSS pseudo-classes, and nodes are only touched when what they show changes.
  */
 public class TimeBar {
     private static final double DEFAULT_BAR_WIDTH = 100.0; // Default width of the time bar
     private static final double DEFAULT_BAR_HEIGHT = 20.0; // Default height of the time bar
-    private static final int DEFAULT_TOTAL_TIME = 90; // Default total countdown time in seconds
+    private static final double WARNING_TIME = 20.0; // Remaining seconds below which the bar shows a warning
+    private static final double DANGER_TIME = 10.0; // Remaining seconds below which the bar shows danger
 
     private final Rectangle timeBar; // The visual representation of the time bar
     private final Text timeLabel; // Label displaying time information
-    private Timeline timeline; // Animation timeline for the countdown
-    private double remainingTime; // Remaining time in seconds
     private final double barWidth; // Width of the time bar
-    private final double totalTime; // Total countdown time in seconds
+    private static final PseudoClass WARNING = PseudoClass.getPseudoClass("warning");
+    private static final PseudoClass DANGER = PseudoClass.getPseudoClass("danger");
+    private static final PseudoClass TIMEOUT = PseudoClass.getPseudoClass("timeout");
 
-    /**
-     * Listener interface to handle timeout events.
-     */
-    public interface TimeOutListener {
-        void onTimeOut();
-    }
-
-    private TimeOutListener timeOutListener; // Callback for timeout events
+    private PseudoClass currentState; // Pseudo-class currently set on the bar, or null for the default look
+    private double shownWidth = -1; // Bar width currently displayed, in whole pixels
 
     /**
-     * Constructor for TimeBar with default size and countdown settings.
+     * Constructor for TimeBar with default size settings.
      *
      * @param parentPane The parent pane to which the time bar will be added.
      */
     public TimeBar(Pane parentPane) {
-        this(parentPane, DEFAULT_BAR_WIDTH, DEFAULT_BAR_HEIGHT, DEFAULT_TOTAL_TIME);
+        this(parentPane, DEFAULT_BAR_WIDTH, DEFAULT_BAR_HEIGHT);
     }
 
     /**
-     * Constructor for TimeBar with custom size and countdown settings.
+     * Constructor for TimeBar with custom size settings.
      *
      * @param parentPane The parent pane to which the time bar will be added.
      * @param barWidth   The width of the time bar.
      * @param barHeight  The height of the time bar.
-     * @param totalTime  The total countdown time in seconds.
      */
-    public TimeBar(Pane parentPane, double barWidth, double barHeight, double totalTime) {
+    public TimeBar(Pane parentPane, double barWidth, double barHeight) {
         this.barWidth = barWidth;
-        this.totalTime = totalTime;
-        this.remainingTime = totalTime;
 
         // Initialize the time bar
         timeBar = new Rectangle(barWidth, barHeight);
@@ -72,15 +65,6 @@ public class TimeBar {
         );
     }
 
-    /**
-     * Sets the listener for timeout events.
-     *
-     * @param listener The listener to be notified on timeout.
-     */
-    public void setTimeOutListener(TimeOutListener listener) {
-        this.timeOutListener = listener;
-    }
-
     /**
      * Returns the rectangle representing the time bar.
      *
@@ -100,69 +84,52 @@ public class TimeBar {
     }
 
     /**
-     * Starts the countdown animation.
+     * Updates the time bar's width, label and colour to reflect the remaining time.
+     *
+     * @param remainingTime The remaining time in seconds.
+     * @param totalTime     The total countdown time in seconds.
      */
-    public void start() {
-        if (timeline == null) {
-            timeline = new Timeline(
-                    new KeyFrame(Duration.seconds(1), event -> updateTimeBar())
-            );
-            timeline.setCycleCount((int) totalTime);
-            timeline.setOnFinished(event -> onTimeOut());
+    public void update(double remainingTime, double totalTime) {
+        double width = Math.round((remainingTime / totalTime) * barWidth);
+        if (width != shownWidth) {
+            timeBar.setWidth(width);
+            shownWidth = width;
         }
-        timeline.play();
-    }
 
-    /**
-     * Updates the time bar's width and visual state based on the remaining time.
-     */
-    private void updateTimeBar() {
-        remainingTime--;
-
-        double newWidth = (remainingTime / totalTime) * barWidth;
-        timeBar.setWidth(newWidth);
-
-        if (remainingTime < 10) {
-            timeBar.getStyleClass().removeAll("time-bar", "time-bar-warning", "time-bar-danger");
-            timeBar.getStyleClass().add("time-bar-danger");
-        } else if (remainingTime < 20) {
-            timeBar.getStyleClass().removeAll("time-bar", "time-bar-warning", "time-bar-danger");
-            timeBar.getStyleClass().add("time-bar-warning");
+        PseudoClass state;
+        if (remainingTime <= 0) {
+            state = TIMEOUT;
+        } else if (remainingTime < DANGER_TIME) {
+            state = DANGER;
+        } else if (remainingTime < WARNING_TIME) {
+            state = WARNING;
+        } else {
+            state = null;
         }
-    }
-
-    /**
-     * Handles actions to be performed when the timer reaches zero.
-     */
-    private void onTimeOut() {
-        timeLabel.setText("TIME: 0");
-        timeBar.getStyleClass().removeAll("time-bar", "time-bar-warning", "time-bar-danger");
-        timeBar.getStyleClass().add("time-bar-timeout");
-
-        if (timeOutListener != null) {
-            timeOutListener.onTimeOut();
+        if (state != currentState) {
+            if (currentState != null) {
+                timeBar.pseudoClassStateChanged(currentState, false);
+            }
+            if (state != null) {
+                timeBar.pseudoClassStateChanged(state, true);
+            }
+            timeLabel.setText(state == TIMEOUT ? "TIME: 0" : "TIME");
+            currentState = state;
         }
     }
 
     /**
-     * Resets the time bar to its initial state.
-     */
-    public void reset() {
-        stop();
-        remainingTime = totalTime;
-        timeBar.setWidth(barWidth);
-        timeBar.getStyleClass().removeAll("time-bar-warning", "time-bar-danger", "time-bar-timeout");
-        timeBar.getStyleClass().add("time-bar");
-        timeLabel.setText("TIME");
-        start();
-    }
-
-    /**
-     * Stops the countdown animation.
+     * Moves the bar and label above any node added to the pane after them, such as new actors.
+     * Does nothing while they are already on top, so it is cheap to call every frame.
      */
-    public void stop() {
-        if (timeline != null) {
-            timeline.stop();
+    public void bringToFront() {
+        if (timeLabel.getParent() instanceof Pane parent) {
+            ObservableList<Node> children = parent.getChildren();
+            int size = children.size();
+            if (size < 2 || children.get(size - 2) != timeBar || children.get(size - 1) != timeLabel) {
+                timeBar.toFront();
+                timeLabel.toFront();
+            }
         }
     }
 }
@@ -0,0 +1,36 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.managers;
+
+import javafx.scene.Node;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+
+/**
+ * Represents the visual counterpart of a simulated actor.
+ * Renderers read the actor's state once per frame and update their scene graph node accordingly,
+ * either from the live actor or, when the simulation ticks on another thread, from a snapshot of it.
+ */
+public interface ActorRenderer {
+
+    /**
+     * Retrieves the scene graph node drawn for the actor.
+     *
+     * @return The node representing the actor.
+     */
+    Node getNode();
+
+    /**
+     * Synchronizes the node with the current state of the actor.
+     *
+     * @param alpha The interpolation factor between the previous and current tick, in [0, 1).
+     */
+    void sync(double alpha);
+
+    /**
+     * Synchronizes the node with the state of the actor recorded in a snapshot.
+     *
+     * @param snapshot The snapshot holding the actor's state.
+     * @param index    The index of the actor within the snapshot.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    void show(WorldSnapshot snapshot, int index, double alpha);
+}
@@ -12,6 +12,7 @@ import uk.ac.nott.cs.comp2013.froggergame.view.scenes.MyStage;
 
 /**
  * Utility class for creating and displaying alert messages such as "Game Won" or "Game Over" on the game stage.
+ * Each alert is built once and reused, so showing it again only updates its text and moves it onto the stage.
  */
 public class AlertManager {
 
@@ -26,6 +27,11 @@ public class AlertManager {
     private static final double GAME_OVER_LAYOUT_X = 200;
     private static final double GAME_OVER_LAYOUT_Y = 430;
 
+    private static final int SUBTITLE_INDEX = 2; // Position of the subtitle among the alert's children
+
+    private static StackPane gameWonAlert; // Built on first use, then reused
+    private static StackPane gameOverAlert; // Built on first use, then reused
+
     /**
      * Displays a "Game Won" alert with the player's score.
      *
@@ -33,16 +39,18 @@ public class AlertManager {
      * @param points       The player's final score to be displayed in the alert.
      */
     public static void showGameWonAlert(MyStage primaryStage, int points) {
-        StackPane alert = createAlert(
-                "YOU WON!",
-                "Your High Score: " + points,
-                Color.DARKGREEN,
-                Color.LIGHTYELLOW,
-                GAME_WON_LAYOUT_X,
-                GAME_WON_LAYOUT_Y
-        );
-        primaryStage.getChildren().add(alert);
-        primaryStage.requestLayout();
+        if (gameWonAlert == null) {
+            gameWonAlert = createAlert(
+                    "YOU WON!",
+                    "",
+                    Color.DARKGREEN,
+                    Color.LIGHTYELLOW,
+                    GAME_WON_LAYOUT_X,
+                    GAME_WON_LAYOUT_Y
+            );
+        }
+        ((Text) gameWonAlert.getChildren().get(SUBTITLE_INDEX)).setText("Your High Score: " + points);
+        show(primaryStage, gameWonAlert);
     }
 
     /**
@@ -51,15 +59,30 @@ public class AlertManager {
      * @param primaryStage The primary stage where the alert will be displayed.
      */
     public static void showGameOverAlert(MyStage primaryStage) {
-        StackPane alert = createAlert(
-                "GAME OVER",
-                null,
-                Color.BLACK,
-                Color.RED,
-                GAME_OVER_LAYOUT_X,
-                GAME_OVER_LAYOUT_Y
-        );
-        primaryStage.getChildren().add(alert);
+        if (gameOverAlert == null) {
+            gameOverAlert = createAlert(
+                    "GAME OVER",
+                    null,
+                    Color.BLACK,
+                    Color.RED,
+                    GAME_OVER_LAYOUT_X,
+                    GAME_OVER_LAYOUT_Y
+            );
+        }
+        show(primaryStage, gameOverAlert);
+    }
+
+    /**
+     * Adds an alert to the stage unless it is already shown there.
+     * An alert still attached to a previous stage is moved over by JavaFX when it is added.
+     *
+     * @param primaryStage The stage to show the alert on.
+     * @param alert        The alert to show.
+     */
+    private static void show(MyStage primaryStage, StackPane alert) {
+        if (alert.getParent() != primaryStage) {
+            primaryStage.getChildren().add(alert);
+        }
         primaryStage.requestLayout();
     }
 
@@ -0,0 +1,29 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.managers;
+
+import java.util.Locale;
+
+/**
+ * Ways of drawing the simulated actors.
+ * Selected at startup with {@code -Dfrogger.render=nodes} (the default) or {@code -Dfrogger.render=canvas}.
+ */
+public enum RenderMode {
+    NODES, // One image view node per actor
+    CANVAS; // All actors painted onto a single canvas each frame
+
+    private static final String PROPERTY = "frogger.render"; // System property selecting the mode
+
+    /**
+     * Reads the render mode chosen at startup.
+     *
+     * @return The selected render mode.
+     * @throws IllegalArgumentException If the property names an unknown mode.
+     */
+    public static RenderMode fromSystemProperty() {
+        String value = System.getProperty(PROPERTY, NODES.name());
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown render mode for " + PROPERTY + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.managers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffer of scene graph updates requested while the simulation ticks, applied once per frame.
+ * Each command is keyed by what it updates; submitting a command for a key that is still pending
+ * replaces the earlier one, so an update requested several times in one frame is applied once.
+ * Flushing right before rendering means the scene always shows the state after the frame's last tick.
+ */
+public class UiCommandBuffer {
+
+    /**
+     * Snapshot of the buffer counters.
+     *
+     * @param submitted Commands submitted.
+     * @param merged    Commands that replaced a pending command for the same key.
+     * @param flushed   Commands run.
+     */
+    public record Stats(long submitted, long merged, long flushed) {
+    }
+
+    private final Map<Object, Runnable> pending = new LinkedHashMap<>(); // Commands in first-submission order
+    private final List<Runnable> draining = new ArrayList<>(); // Commands being run, reused between flushes
+    private long submitted;
+    private long merged;
+    private long flushed;
+
+    /**
+     * Queues a command for the next flush, replacing any pending command for the same key.
+     * A replaced command keeps the position of the one it replaces.
+     *
+     * @param key     Identifies what the command updates.
+     * @param command The update to apply.
+     */
+    public void submit(Object key, Runnable command) {
+        submitted++;
+        if (pending.put(key, command) != null) {
+            merged++;
+        }
+    }
+
+    /**
+     * Runs every pending command in submission order.
+     * Commands submitted while flushing are kept for the next flush.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        draining.addAll(pending.values());
+        pending.clear();
+        try {
+            for (Runnable command : draining) {
+                command.run();
+            }
+            flushed += draining.size();
+        } finally {
+            draining.clear();
+        }
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public Stats getStats() {
+        return new Stats(submitted, merged, flushed);
+    }
+}
@@ -0,0 +1,84 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.resource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.AbstractTurtle;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+
+/**
+ * Lists the assets a game session displays, so they can be loaded before the session starts.
+ * Sprites of the starting world are read from a headless simulation built from the same data as
+ * the real game; sprites that only appear later (character animations, level two actors, HUD) are listed here.
+ */
+public final class AssetManifest {
+    private static final int DIGIT_SIZE = 30; // Size of the score digits
+
+    // Images shown after the game starts: name, width, height.
+    private static final Object[][] LATER_IMAGES = {
+            {"background.png", 600, 800},
+            {"FrogEnd.png", 60, 60},
+            {"egg.png", 40, 40},
+            {"crocodile.png", 80, 80},
+            {"spider.png", 30, 30}
+    };
+
+    private static final List<String> MEDIA = List.of("/music/Snake_Charmer.mp3");
+
+    private AssetManifest() {
+    }
+
+    /**
+     * Lists every sprite, at the size it is displayed at, used by a game session.
+     *
+     * @return The images to load, without duplicates.
+     */
+    public static List<ImageCache.Key> gameImages() {
+        Set<ImageCache.Key> keys = new LinkedHashSet<>();
+        GameSimulation simulation = new GameSimulation(new GameWorld(), new GameObjectFactory());
+        simulation.initialize(null);
+        GameWorld world = simulation.getWorld();
+
+        for (Actor actor : world.getObjects(Actor.class)) {
+            addSprite(keys, actor, actor.getSprite());
+        }
+        for (AbstractTurtle turtle : world.getObjects(AbstractTurtle.class)) {
+            for (String frame : turtle.getAnimationFrames()) {
+                addSprite(keys, turtle, frame);
+            }
+        }
+
+        for (SpriteId id : SpriteId.values()) { // Movement and death sprites of the player's character
+            keys.add(new ImageCache.Key(id.getFileName(), SpriteId.SIZE, SpriteId.SIZE));
+        }
+
+        for (Object[] image : LATER_IMAGES) {
+            keys.add(new ImageCache.Key((String) image[0], (int) image[1], (int) image[2]));
+        }
+        for (int digit = 0; digit <= 9; digit++) {
+            keys.add(new ImageCache.Key(digit + ".png", DIGIT_SIZE, DIGIT_SIZE));
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Lists the media played during a game session.
+     *
+     * @return The media resource paths.
+     */
+    public static List<String> gameMedia() {
+        return MEDIA;
+    }
+
+    private static void addSprite(Set<ImageCache.Key> keys, Actor actor, String sprite) {
+        if (sprite != null) {
+            keys.add(new ImageCache.Key(sprite, actor.getRequestedWidth(), actor.getRequestedHeight()));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes images and media on a bounded pool of background workers.
+ * Images are packed into the shared {@link SpriteAtlas} and media into the {@link MusicManager}
+ * cache, so a game session created afterwards finds every asset ready.
+ */
+public class AssetPreloader {
+    private static final int MAX_WORKERS = 4; // Decoding is I/O and memory bound, so a few threads suffice
+
+    /**
+     * Listener notified as assets finish loading. Called from worker threads.
+     */
+    public interface ProgressListener {
+        void onProgress(int loaded, int total);
+    }
+
+    private final int workers; // Number of worker threads
+
+    /**
+     * Constructs a preloader using up to one worker per processor, capped at {@value #MAX_WORKERS}.
+     */
+    public AssetPreloader() {
+        this(Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Constructs a preloader with the given number of workers.
+     *
+     * @param workers The number of worker threads.
+     * @throws IllegalArgumentException If the number of workers is not positive.
+     */
+    public AssetPreloader(int workers) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workers);
+        }
+        this.workers = workers;
+    }
+
+    /**
+     * Starts loading the given assets in the background.
+     * An asset that fails to load is reported and skipped, so one missing file does not hold up the game.
+     *
+     * @param images   The images to decode and pack.
+     * @param media    The media resource paths to load.
+     * @param listener Listener notified after each asset, or null.
+     * @return A future completed once every asset has been attempted.
+     */
+    public CompletableFuture<Void> start(List<ImageCache.Key> images, List<String> media, ProgressListener listener) {
+        ExecutorService executor = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "asset-preloader");
+            thread.setDaemon(true); // Never keeps the application alive
+            return thread;
+        });
+        int total = images.size() + media.size();
+        AtomicInteger loaded = new AtomicInteger();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(total);
+        for (ImageCache.Key key : images) {
+            tasks.add(submit(executor, () -> ImageLoader.loadSprite(key.path(), key.width(), key.height()),
+                    key.path(), loaded, total, listener));
+        }
+        for (String path : media) {
+            tasks.add(submit(executor, () -> MusicManager.preload(path), path, loaded, total, listener));
+        }
+        if (total == 0 && listener != null) {
+            listener.onProgress(0, 0);
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, error) -> executor.shutdown());
+    }
+
+    private CompletableFuture<Void> submit(ExecutorService executor, Runnable load, String name,
+                                           AtomicInteger loaded, int total, ProgressListener listener) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                load.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error preloading asset: " + name);
+            }
+            int done = loaded.incrementAndGet();
+            if (listener != null) {
+                listener.onProgress(done, total);
+            }
+        }, executor);
+    }
+}
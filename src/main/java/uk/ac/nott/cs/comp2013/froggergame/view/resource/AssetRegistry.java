@@ -0,0 +1,124 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.resource;
+
+import javafx.scene.image.Image;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+
+/**
+ * Process-wide table of loaded sprites addressed by compact int handles.
+ * A sprite is loaded once when it is registered and its handle is an index into an array, so
+ * resolving a handle is a single array read. {@link SpriteId} handles are registered up front
+ * and resolved by their ordinal.
+ */
+public class AssetRegistry {
+    private static final int BYTES_PER_PIXEL = 4; // Textures are held as 32-bit colour
+
+    private final Function<ImageCache.Key, SpriteAtlas.Sprite> loader; // Loads a sprite on registration
+    private final Map<ImageCache.Key, Integer> handles = new HashMap<>(); // Handle of each registered sprite
+    private final int[] idHandles = new int[SpriteId.values().length]; // Handle of each sprite id, or -1
+    private volatile SpriteAtlas.Sprite[] sprites = new SpriteAtlas.Sprite[64]; // Sprites by handle
+    private int count; // Number of registered sprites
+
+    /**
+     * Constructs an empty registry.
+     *
+     * @param loader Loads the sprite for a key when it is registered.
+     */
+    public AssetRegistry(Function<ImageCache.Key, SpriteAtlas.Sprite> loader) {
+        this.loader = loader;
+        Arrays.fill(idHandles, -1);
+    }
+
+    /**
+     * Registers a sprite, loading it on first registration.
+     *
+     * @param key The path and size of the sprite.
+     * @return The sprite's handle; registering the same key again returns the same handle.
+     * @throws IllegalArgumentException If the image resource cannot be found.
+     */
+    public synchronized int register(ImageCache.Key key) {
+        Integer handle = handles.get(key);
+        if (handle != null) {
+            return handle;
+        }
+        SpriteAtlas.Sprite sprite = loader.apply(key);
+        SpriteAtlas.Sprite[] table = sprites;
+        if (count == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[count] = sprite;
+        sprites = table; // Publishes the new entry to readers
+        handles.put(key, count);
+        return count++;
+    }
+
+    /**
+     * Registers every sprite id, so each can afterwards be resolved by its ordinal.
+     * Ids whose image cannot be found are left unregistered.
+     */
+    public synchronized void registerIds() {
+        for (SpriteId id : SpriteId.values()) {
+            if (idHandles[id.ordinal()] < 0) {
+                try {
+                    idHandles[id.ordinal()] = register(new ImageCache.Key(id.getFileName(), SpriteId.SIZE, SpriteId.SIZE));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Missing sprite: " + id.getFileName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves a handle to its sprite.
+     *
+     * @param handle A handle returned by {@link #register(ImageCache.Key)}.
+     * @return The registered sprite.
+     */
+    public SpriteAtlas.Sprite get(int handle) {
+        return sprites[handle];
+    }
+
+    /**
+     * Resolves a sprite id to its sprite.
+     *
+     * @param id The sprite id.
+     * @return The registered sprite.
+     * @throws IllegalArgumentException If the id has not been registered.
+     */
+    public SpriteAtlas.Sprite get(SpriteId id) {
+        int handle = idHandles[id.ordinal()];
+        if (handle < 0) {
+            throw new IllegalArgumentException("Sprite not registered: " + id);
+        }
+        return sprites[handle];
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Estimates the memory held by the textures behind the registered sprites.
+     * An atlas page shared by several sprites is counted once.
+     *
+     * @return The texture footprint in bytes.
+     */
+    public synchronized long getTextureBytes() {
+        Set<Image> textures = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (int handle = 0; handle < count; handle++) {
+            Image image = sprites[handle].image();
+            if (textures.add(image)) {
+                bytes += (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * BYTES_PER_PIXEL;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,122 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.resource;
+
+import javafx.scene.image.Image;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of decoded images, keyed by path and target size.
+ * The least recently used image is evicted once the cache is full. Images are decoded outside
+ * the lock, so several threads may warm the cache at once.
+ */
+public class ImageCache {
+
+    /**
+     * Identifies a decoded image.
+     *
+     * @param path   The image name, relative to the images folder.
+     * @param width  The width of the box the image is fitted into.
+     * @param height The height of the box the image is fitted into.
+     */
+    public record Key(String path, double width, double height) {
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits      Lookups served from the cache.
+     * @param misses    Lookups that had to decode the image.
+     * @param evictions Images dropped to stay within capacity.
+     * @param size      Images currently cached.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private final int capacity; // Maximum number of cached images
+    private final Function<Key, Image> decoder; // Decodes an image on a miss
+    private final LinkedHashMap<Key, Image> images; // Cached images in access order
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache holding up to the given number of images.
+     *
+     * @param capacity The maximum number of cached images.
+     * @param decoder  Decodes the image for a key on a miss.
+     * @throws IllegalArgumentException If the capacity is not positive.
+     */
+    public ImageCache(int capacity, Function<Key, Image> decoder) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.decoder = decoder;
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+                if (size() > ImageCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves an image, decoding it on first use.
+     *
+     * @param key The path and size of the image.
+     * @return The decoded image.
+     */
+    public Image get(Key key) {
+        synchronized (this) {
+            Image image = images.get(key);
+            if (image != null) {
+                hits++;
+                return image;
+            }
+            misses++;
+        }
+        Image decoded = decoder.apply(key);
+        synchronized (this) {
+            Image raced = images.putIfAbsent(key, decoded); // Another thread may have decoded it meanwhile
+            return raced != null ? raced : decoded;
+        }
+    }
+
+    /**
+     * Decodes the given images ahead of use so gameplay only ever hits the cache.
+     *
+     * @param keys The images to decode.
+     */
+    public void warmUp(Iterable<Key> keys) {
+        for (Key key : keys) {
+            get(key);
+        }
+    }
+
+    public synchronized boolean contains(Key key) {
+        return images.containsKey(key);
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, images.size());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Drops every cached image and resets the counters.
+     */
+    public synchronized void clear() {
+        images.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+}
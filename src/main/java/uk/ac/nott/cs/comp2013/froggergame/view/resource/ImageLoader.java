@@ -6,31 +6,99 @@ import java.util.Objects;
 /**
  * Utility class for loading images with a predefined base path.
  * This class helps streamline image loading for the game by appending a common base path to the file paths.
+ * Decoded images are shared through a bounded {@link ImageCache}, so each image is only decoded on first use,
+ * and small sprites are packed into a shared {@link SpriteAtlas}, which decodes them itself so a packed
+ * sprite is not also held by the cache.
  */
 public class ImageLoader {
 
     // Base path for all image resources.
     private static final String BASE_PATH = "/images/";
 
+    // Number of sized images kept decoded; comfortably above what a game session uses.
+    private static final int CACHE_CAPACITY = 128;
+
+    // Atlas page size, and the largest sprite packed into a page; the background stays a standalone image.
+    private static final int ATLAS_PAGE_SIZE = 1024;
+    private static final int ATLAS_MAX_SPRITE_SIZE = 512;
+
+    private static final ImageCache CACHE = new ImageCache(CACHE_CAPACITY, ImageLoader::decodeImage);
+    private static final SpriteAtlas ATLAS = new SpriteAtlas(ATLAS_PAGE_SIZE, ATLAS_MAX_SPRITE_SIZE, ImageLoader::decodeImage);
+    private static final AssetRegistry REGISTRY = new AssetRegistry(ATLAS::get);
+
     /**
      * Loads an image from the specified file path with the given dimensions.
      *
      * @param filePath The relative path to the image file, without the base path.
      * @param width    The desired width of the image.
      * @param height   The desired height of the image.
-     * @return A new Image object loaded from the specified file path and scaled to the given dimensions.
+     * @return The cached Image loaded from the specified file path and scaled to the given dimensions.
      * @throws NullPointerException     If the file path is null.
      * @throws IllegalArgumentException If the image resource cannot be found.
      */
     public static Image loadImage(String filePath, double width, double height) {
         // Ensure the file path is not null.
         Objects.requireNonNull(filePath, "Image file path cannot be null.");
-        String fullPath = BASE_PATH + filePath;
+        return CACHE.get(new ImageCache.Key(filePath, width, height));
+    }
+
+    /**
+     * Loads a sprite from the shared atlas, packing it on first use.
+     *
+     * @param filePath The relative path to the image file, without the base path.
+     * @param width    The desired width of the image.
+     * @param height   The desired height of the image.
+     * @return The atlas page and the viewport holding the sprite, or a standalone image for large sprites.
+     * @throws NullPointerException     If the file path is null.
+     * @throws IllegalArgumentException If the image resource cannot be found.
+     */
+    public static SpriteAtlas.Sprite loadSprite(String filePath, double width, double height) {
+        Objects.requireNonNull(filePath, "Image file path cannot be null.");
+        return ATLAS.get(new ImageCache.Key(filePath, width, height));
+    }
+
+    /**
+     * Gets the shared sprite atlas, e.g. to pack sprites ahead of use.
+     *
+     * @return The atlas behind {@link #loadSprite(String, double, double)}.
+     */
+    public static SpriteAtlas getAtlas() {
+        return ATLAS;
+    }
+
+    /**
+     * Gets the shared registry resolving sprite handles by array index.
+     *
+     * @return The process-wide asset registry, backed by the shared atlas.
+     */
+    public static AssetRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Gets the shared image cache, e.g. to warm it up or read its statistics.
+     *
+     * @return The cache behind {@link #loadImage(String, double, double)}.
+     */
+    public static ImageCache getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Decodes an image from the images folder.
+     * The image is loaded synchronously so its pixels can be copied into the atlas straight away.
+     *
+     * @param key The path and size of the image.
+     * @return A new Image object scaled to the given dimensions.
+     * @throws IllegalArgumentException If the image resource cannot be found.
+     */
+    private static Image decodeImage(ImageCache.Key key) {
+        String fullPath = BASE_PATH + key.path();
         try {
             // Load the image using the full path and specified dimensions.
             return new Image(
                     Objects.requireNonNull(ImageLoader.class.getResource(fullPath)).toExternalForm(),
-                    width, height, true, true
+                    key.width(), key.height(), true, true, false
             );
         } catch (NullPointerException e) {
             // Throw an exception if the image resource cannot be found.
@@ -1,105 +1,43 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.resource;
 
-import javafx.scene.image.Image;
-import javafx.scene.input.KeyCode;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
 
 /**
  * Manages and preloads images used in the game.
- * Provides methods to retrieve images for specific states or directions.
+ * Resolves the sprite names held by simulated actors into regions of the shared {@link SpriteAtlas},
+ * and sprite handles into the same regions through the shared {@link AssetRegistry}.
  */
 public class ImageManager {
 
-    // Constants for image dimensions and naming conventions.
-    private static final int IMAGE_WIDTH = 40;
-    private static final int IMAGE_HEIGHT = 40;
-    private static final String JUMP_SUFFIX = "Jump";
-
-    // Stores preloaded images mapped by their keys.
-    private final Map<String, Image> images = new HashMap<>();
-
     /**
-     * Initializes the ImageManager and preloads all necessary images.
+     * Initializes the ImageManager and registers the handles of the character sprites.
+     * The registry is process-wide, so the sprites are only loaded by the first instance.
      */
     public ImageManager() {
-        preloadImages();
-    }
-
-    /**
-     * Preloads images for all directional states (e.g., Up, Down, Left, Right) and jumping states.
-     */
-    private void preloadImages() {
-        loadDirectionalImages("frogger", ""); // Normal directional images
-        loadDirectionalImages("frogger", JUMP_SUFFIX); // Jumping directional images
-    }
-
-    /**
-     * Loads images for each direction (Up, Down, Left, Right) with the specified suffix.
-     *
-     * @param baseName The base name of the image (e.g., "frogger").
-     * @param suffix   The suffix to append to the image name (e.g., "Jump").
-     */
-    private void loadDirectionalImages(String baseName, String suffix) {
-        for (String direction : new String[]{"Up", "Left", "Down", "Right"}) {
-            String key = baseName + direction + suffix;
-            String filePath = key + ".png";
-            loadImage(key, filePath);
-        }
-    }
-
-    /**
-     * Loads an image into the manager's cache.
-     *
-     * @param key      The unique key for the image.
-     * @param filePath The file path to the image.
-     */
-    private void loadImage(String key, String filePath) {
-        images.put(key, ImageLoader.loadImage(filePath, IMAGE_WIDTH, IMAGE_HEIGHT));
-    }
-
-    /**
-     * Retrieves the image for a specific direction and jumping state.
-     *
-     * @param key     The KeyCode representing the direction (e.g., W, A, S, D).
-     * @param jumping Whether the frog is in a jumping state.
-     * @return The corresponding Image, or null if no image matches.
-     */
-    public Image getImageForKey(KeyCode key, boolean jumping) {
-        String direction = switch (key) {
-            case W -> "Up";
-            case A -> "Left";
-            case S -> "Down";
-            case D -> "Right";
-            default -> null;
-        };
-        if (direction == null) {
-            return null;
-        }
-        String imageKey = "frogger" + direction + (jumping ? JUMP_SUFFIX : "");
-        return images.get(imageKey);
+        ImageLoader.getRegistry().registerIds();
     }
 
     /**
-     * Retrieves the death animation image for a specific type and frame.
+     * Retrieves a sprite at the given size, packing it into the atlas on first use.
      *
-     * @param type  The type of death (e.g., "cardeath", "waterdeath").
-     * @param frame The animation frame number.
-     * @return The corresponding Image.
-     * @throws NullPointerException if the type is null.
+     * @param sprite The image name, relative to the images folder.
+     * @param width  The width of the box the image is fitted into.
+     * @param height The height of the box the image is fitted into.
+     * @return The image and viewport to display.
+     * @throws IllegalArgumentException If the image resource cannot be found.
      */
-    public Image getDeathImage(String type, int frame) {
-        Objects.requireNonNull(type, "Type cannot be null");
-        return ImageLoader.loadImage(type + frame + ".png", IMAGE_WIDTH, IMAGE_HEIGHT);
+    public SpriteAtlas.Sprite getSprite(String sprite, double width, double height) {
+        return ImageLoader.loadSprite(sprite, width, height);
     }
 
     /**
-     * Retrieves the default image for the frog.
+     * Retrieves the sprite behind a handle.
      *
-     * @return The default Image for the frog in the "Up" direction.
+     * @param id The sprite handle.
+     * @return The image and viewport to display.
+     * @throws IllegalArgumentException If the sprite's image could not be loaded.
      */
-    public Image getDefaultImage() {
-        return images.get("froggerUp");
+    public SpriteAtlas.Sprite getSprite(SpriteId id) {
+        return ImageLoader.getRegistry().get(id);
     }
 }
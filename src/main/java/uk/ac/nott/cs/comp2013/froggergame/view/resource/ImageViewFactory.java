@@ -1,5 +1,6 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.resource;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 
 /**
@@ -14,20 +15,21 @@ public class ImageViewFactory {
      * @param filePath The file path to the image resource.
      * @param width    The desired width of the image.
      * @param height   The desired height of the image.
-     * @return A ConfiguredImageView containing the loaded image and its dimensions.
+     * @return A ConfiguredImageView containing the loaded image, its atlas viewport and its dimensions.
      */
     public static ConfiguredImageView createConfiguredImageView(String filePath, double width, double height) {
-        Image image = ImageLoader.loadImage(filePath, width, height);
-        return new ConfiguredImageView(image, width, height);
+        SpriteAtlas.Sprite sprite = ImageLoader.loadSprite(filePath, width, height);
+        return new ConfiguredImageView(sprite.image(), sprite.viewport(), width, height);
     }
 
     /**
      * Record to encapsulate an Image along with its configured dimensions.
      *
-     * @param image  The loaded Image object.
-     * @param width  The configured width of the image.
-     * @param height The configured height of the image.
+     * @param image    The loaded Image object.
+     * @param viewport The region of the image to show, or null to show all of it.
+     * @param width    The configured width of the image.
+     * @param height   The configured height of the image.
      */
-    public record ConfiguredImageView(Image image, double width, double height) {
+    public record ConfiguredImageView(Image image, Rectangle2D viewport, double width, double height) {
     }
 }
@@ -1,15 +1,20 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.resource;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 /**
  * Manages background music playback for the game.
  * Handles music loading, playing, and stopping functionality.
+ * Loaded media are shared, so music preloaded in the background is not loaded again.
  */
 public class MusicManager {
 
+    private static final Map<String, Media> MEDIA = new ConcurrentHashMap<>(); // Loaded media by resource path
+
     private MediaPlayer mediaPlayer; // The media player instance
     private final String musicFilePath; // Path to the music file resource
 
@@ -28,15 +33,27 @@ public class MusicManager {
      */
     private void initializeMediaPlayer() {
         try {
-            String musicFile = Objects.requireNonNull(getClass().getResource(musicFilePath))
-                    .toExternalForm();
-            Media sound = new Media(musicFile);
-            mediaPlayer = new MediaPlayer(sound);
+            mediaPlayer = new MediaPlayer(preload(musicFilePath));
         } catch (NullPointerException | IllegalArgumentException e) {
             System.err.println("Error loading music file: " + musicFilePath);
         }
     }
 
+    /**
+     * Loads a music resource, reusing it if it has been loaded before.
+     * Safe to call from any thread.
+     *
+     * @param musicFilePath The relative path to the music file resource.
+     * @return The loaded media.
+     * @throws NullPointerException     If the resource cannot be found.
+     * @throws IllegalArgumentException If the resource cannot be loaded as media.
+     */
+    public static Media preload(String musicFilePath) {
+        return MEDIA.computeIfAbsent(musicFilePath, path -> new Media(
+                Objects.requireNonNull(MusicManager.class.getResource(path), "Music resource not found: " + path)
+                        .toExternalForm()));
+    }
+
     /**
      * Plays the music in a loop.
      */
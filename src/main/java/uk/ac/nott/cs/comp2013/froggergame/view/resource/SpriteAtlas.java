@@ -0,0 +1,164 @@
+package uk.ac.nott.cs.comp2013.froggergame.view.resource;
+
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Packs small sprite images into a few large atlas pages.
+ * Each sprite is decoded once at its target size and copied into the next free spot on a page;
+ * renderers then show a sub-rectangle of the page through an image view's viewport, so sprites
+ * on screen share a handful of textures instead of one texture each.
+ * Sprites too large to pack are handed out as standalone images with no viewport.
+ * Sprites may be packed from any thread: their pixels are read off the decoded image by the caller,
+ * and only the copy into the page, which may already be on screen, runs on the FX application thread.
+ */
+public class SpriteAtlas {
+
+    /**
+     * A packed sprite: the image to display and the region of it to show.
+     *
+     * @param image    The atlas page, or the standalone image.
+     * @param viewport The region of the page holding the sprite, or null to show the whole image.
+     */
+    public record Sprite(Image image, Rectangle2D viewport) {
+    }
+
+    private static final int PADDING = 1; // Transparent gap so filtering never samples a neighbour
+
+    private final int pageSize; // Width and height of each page
+    private final int maxSpriteSize; // Larger sprites are not packed
+    private final Function<ImageCache.Key, Image> decoder; // Decodes a sprite at its target size
+    private final Map<ImageCache.Key, Sprite> sprites = new ConcurrentHashMap<>(); // Region table, read without locking
+    private final List<WritableImage> pages = new ArrayList<>(); // Guarded by the atlas
+    private int shelfX; // Next free x on the current shelf
+    private int shelfY; // Top of the current shelf
+    private int shelfHeight; // Tallest sprite on the current shelf
+
+    /**
+     * Constructs an empty atlas.
+     *
+     * @param pageSize      The width and height of each atlas page.
+     * @param maxSpriteSize The largest width or height of a sprite that is packed.
+     * @param decoder       Decodes a sprite at its target size; the image must be fully loaded.
+     *                      The atlas keeps the packed pixels, so the decoder should not cache the image.
+     * @throws IllegalArgumentException If a sprite of the maximum size would not fit on a page.
+     */
+    public SpriteAtlas(int pageSize, int maxSpriteSize, Function<ImageCache.Key, Image> decoder) {
+        if (maxSpriteSize <= 0 || maxSpriteSize + PADDING > pageSize) {
+            throw new IllegalArgumentException("Sprites of size " + maxSpriteSize + " do not fit on a page of size " + pageSize);
+        }
+        this.pageSize = pageSize;
+        this.maxSpriteSize = maxSpriteSize;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Retrieves a sprite, decoding and packing it on first use.
+     *
+     * @param key The path and target size of the sprite.
+     * @return The sprite's image and viewport.
+     */
+    public Sprite get(ImageCache.Key key) {
+        Sprite sprite = sprites.get(key);
+        if (sprite != null) {
+            return sprite;
+        }
+        Image image = decoder.apply(key); // Decoded outside the lock so warm-up can run in parallel
+        synchronized (this) {
+            sprite = sprites.get(key); // Another thread may have packed it meanwhile
+            if (sprite == null) {
+                sprite = place(image);
+                sprites.put(key, sprite);
+            }
+            return sprite;
+        }
+    }
+
+    /**
+     * Packs the given sprites ahead of use, tallest first so shelves are filled tightly.
+     *
+     * @param keys The sprites to pack.
+     */
+    public void pack(List<ImageCache.Key> keys) {
+        List<ImageCache.Key> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparingDouble(ImageCache.Key::height).reversed());
+        for (ImageCache.Key key : sorted) {
+            get(key);
+        }
+    }
+
+    public synchronized int getPageCount() {
+        return pages.size();
+    }
+
+    public int getSpriteCount() {
+        return sprites.size();
+    }
+
+    /**
+     * Reserves the next free spot of the current page for an image, opening a new shelf or page as needed,
+     * and has the image's pixels copied there.
+     *
+     * @param image The decoded sprite.
+     * @return The packed sprite, or the standalone image if it cannot be packed.
+     */
+    private Sprite place(Image image) {
+        int width = (int) Math.ceil(image.getWidth());
+        int height = (int) Math.ceil(image.getHeight());
+        PixelReader reader = image.getPixelReader();
+        if (reader == null || image.isError() || width > maxSpriteSize || height > maxSpriteSize) {
+            return new Sprite(image, null);
+        }
+        if (pages.isEmpty() || shelfX + width > pageSize) {
+            shelfX = 0;
+            shelfY += shelfHeight + PADDING;
+            shelfHeight = 0;
+        }
+        if (pages.isEmpty() || shelfY + height > pageSize) {
+            pages.add(new WritableImage(pageSize, pageSize));
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+        WritableImage page = pages.get(pages.size() - 1);
+        copyOnFxThread(page, shelfX, shelfY, width, height, reader);
+        Sprite sprite = new Sprite(page, new Rectangle2D(shelfX, shelfY, width, height));
+        shelfX += width + PADDING;
+        shelfHeight = Math.max(shelfHeight, height);
+        return sprite;
+    }
+
+    /**
+     * Copies a sprite's pixels into a page. The pixels are read on the calling thread and written on the
+     * FX application thread, so a page is never modified while it is being rendered.
+     *
+     * @param page   The page to copy into.
+     * @param x      The left edge of the sprite's region.
+     * @param y      The top edge of the sprite's region.
+     * @param width  The width of the sprite.
+     * @param height The height of the sprite.
+     * @param reader Reads the decoded sprite.
+     */
+    private static void copyOnFxThread(WritableImage page, int x, int y, int width, int height, PixelReader reader) {
+        if (Platform.isFxApplicationThread()) {
+            page.getPixelWriter().setPixels(x, y, width, height, reader, 0, 0);
+            return;
+        }
+        WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbPreInstance();
+        int[] pixels = new int[width * height];
+        reader.getPixels(0, 0, width, height, format, pixels, 0, width);
+        Platform.runLater(() -> page.getPixelWriter().setPixels(x, y, width, height, format, pixels, 0, width));
+    }
+}
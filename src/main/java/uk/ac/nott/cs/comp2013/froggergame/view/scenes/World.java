@@ -1,76 +1,220 @@
 package uk.ac.nott.cs.comp2013.froggergame.view.scenes;
 
 import javafx.event.EventHandler;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.input.KeyEventHandlerProvider;
 import uk.ac.nott.cs.comp2013.froggergame.controller.input.KeyEventManager;
-import uk.ac.nott.cs.comp2013.froggergame.controller.timer.TimerManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.ObjectPool;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+import uk.ac.nott.cs.comp2013.froggergame.view.components.ActorCanvas;
+import uk.ac.nott.cs.comp2013.froggergame.view.components.ActorView;
+import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
+import uk.ac.nott.cs.comp2013.froggergame.view.managers.ActorRenderer;
+import uk.ac.nott.cs.comp2013.froggergame.view.managers.RenderMode;
+import uk.ac.nott.cs.comp2013.froggergame.view.managers.UiCommandBuffer;
+import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
 
 /**
  * Represents the main abstract world in the game.
- * This class manages actors, input events, and a game timer.
+ * This class renders the actors of a simulated {@link GameWorld} and manages input events;
+ * a renderer node is created or removed, at the next frame, whenever an actor joins or leaves the simulation.
+ * In {@link RenderMode#CANVAS} mode the actors are instead painted onto one canvas below any other nodes.
+ * When the simulation ticks on another thread, the view follows the snapshots it publishes instead.
  */
-public abstract class World extends Pane implements KeyEventHandlerProvider {
+public abstract class World extends Pane implements KeyEventHandlerProvider, GameWorld.Listener {
+    private static final double CANVAS_WIDTH = 600; // Size of the canvas in canvas render mode
+    private static final double CANVAS_HEIGHT = 800;
+    private static final int MAX_IDLE_VIEWS = 32; // Idle views kept for actors that come and go
 
-    private final List<Actor> actors = new ArrayList<>(); // List of actors in the world
-    private final TimerManager timerManager; // Manages the game's timer
+    private final GameWorld gameWorld; // The simulated world being rendered
+    private final ImageManager imageManager = new ImageManager(); // Shared sprite images for all renderers
+    private final Map<Actor, ActorRenderer> renderers = new LinkedHashMap<>(); // Renderer of each simulated actor
+    private final ObjectPool<ActorView> actorViews = new ObjectPool<>(
+            () -> new ActorView(imageManager), ActorView::unbind, MAX_IDLE_VIEWS); // Views of removed actors, reused for new ones
+    private final ObjectPool<ImageView> overlayViews = new ObjectPool<>(
+            ImageView::new, view -> view.setImage(null), MAX_IDLE_VIEWS); // Overlay image views, such as Easter eggs
+    private final UiCommandBuffer commands = new UiCommandBuffer(); // Scene graph updates requested during the frame's ticks
+    private final ActorCanvas actorCanvas; // Canvas all actors are painted onto, or null when each actor has a node
+    private final Set<Actor> snapshotActors = Collections.newSetFromMap(new IdentityHashMap<>()); // Actors in the last reconciled snapshot
+    private long reconciledTick = -1; // Tick of the last snapshot the renderers were matched to
     private EventHandler<? super KeyEvent> keyPressedHandler; // Handler for key pressed events
     private EventHandler<? super KeyEvent> keyReleasedHandler; // Handler for key released events
 
     /**
-     * Constructs a new World instance, initializing the timer and key event manager.
+     * Constructs a new World instance rendering a fresh simulated world.
      */
     public World() {
-        timerManager = new TimerManager(this, (now, actor) -> actor.act(now));
-        // Handles key events
-        KeyEventManager keyEventManager = new KeyEventManager(this);
+        this(new GameWorld());
+    }
+
+    /**
+     * Constructs a new World instance rendering the given simulated world.
+     *
+     * @param gameWorld The simulated world to render.
+     */
+    public World(GameWorld gameWorld) {
+        this(gameWorld, RenderMode.fromSystemProperty());
     }
 
     /**
-     * Retrieves all actors in the world.
+     * Constructs a new World instance rendering the given simulated world in the given mode.
      *
-     * @return A list of actors.
+     * @param gameWorld  The simulated world to render.
+     * @param renderMode How the actors are drawn.
      */
-    public List<Actor> getActors() {
-        return actors;
+    public World(GameWorld gameWorld, RenderMode renderMode) {
+        this.gameWorld = gameWorld;
+        if (renderMode == RenderMode.CANVAS) {
+            actorCanvas = new ActorCanvas(gameWorld, imageManager, CANVAS_WIDTH, CANVAS_HEIGHT);
+            getChildren().add(actorCanvas);
+        } else {
+            actorCanvas = null;
+        }
+        gameWorld.addListener(this);
+        // Handles key events
+        KeyEventManager keyEventManager = new KeyEventManager(this);
     }
 
     /**
-     * Starts the game timer.
+     * Retrieves the simulated world rendered by this view.
+     *
+     * @return The simulated world.
      */
-    public void start() {
-        timerManager.initializeTimer();
-        timerManager.startTimer();
+    public GameWorld getGameWorld() {
+        return gameWorld;
     }
 
     /**
-     * Adds an actor to the world.
+     * Adds an actor to the simulated world; its renderer is added to this view.
      *
      * @param actor The actor to be added.
      */
     public void addActor(Actor actor) {
-        actors.add(actor);
-        getChildren().add(actor);
-        actor.setWorld(this);
+        gameWorld.addActor(actor);
+    }
+
+    @Override
+    public void actorAdded(Actor actor) {
+        if (actorCanvas != null) {
+            return; // Painted straight from the world each frame
+        }
+        commands.submit(actor, () -> reconcile(actor));
+    }
+
+    @Override
+    public void actorRemoved(Actor actor) {
+        if (actorCanvas != null) {
+            actorCanvas.forget(actor);
+            return;
+        }
+        commands.submit(actor, () -> reconcile(actor));
     }
 
     /**
-     * Retrieves all objects of a specific class from the world.
+     * Adds or removes the renderer of an actor to match whether the actor is still in the world.
+     * An actor that joined and left within the same frame never gets a renderer.
      *
-     * @param cls The class of objects to retrieve.
-     * @param <A> The type of objects.
-     * @return A list of objects of the specified class.
+     * @param actor The actor whose membership changed.
      */
-    public <A> List<A> getObjects(Class<A> cls) {
-        return getChildren().stream()
-                .filter(cls::isInstance)
-                .map(cls::cast)
-                .toList();
+    private void reconcile(Actor actor) {
+        boolean inWorld = actor.hasWorld() && actor.getWorld() == gameWorld;
+        ActorRenderer renderer = renderers.get(actor);
+        if (inWorld && renderer == null) {
+            addRenderer(actor);
+        } else if (!inWorld && renderer != null) {
+            renderers.remove(actor);
+            removeRenderer(renderer);
+        }
+    }
+
+    /**
+     * Adds and removes renderers so that exactly the actors in a snapshot are drawn.
+     * New actors are added on top, in the order they appear in the snapshot.
+     *
+     * @param snapshot The snapshot to match.
+     */
+    private void reconcile(WorldSnapshot snapshot) {
+        snapshotActors.clear();
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            Actor actor = snapshot.getActor(i);
+            snapshotActors.add(actor);
+            if (actorCanvas == null && !renderers.containsKey(actor)) {
+                addRenderer(actor);
+            }
+        }
+        if (actorCanvas != null) {
+            actorCanvas.retain(snapshotActors);
+            return;
+        }
+        Iterator<Map.Entry<Actor, ActorRenderer>> entries = renderers.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Actor, ActorRenderer> entry = entries.next();
+            if (!snapshotActors.contains(entry.getKey())) {
+                entries.remove();
+                removeRenderer(entry.getValue());
+            }
+        }
+    }
+
+    private void addRenderer(Actor actor) {
+        ActorRenderer renderer = createRenderer(actor);
+        renderers.put(actor, renderer);
+        getChildren().add(renderer.getNode());
+    }
+
+    private void removeRenderer(ActorRenderer renderer) {
+        getChildren().remove(renderer.getNode());
+        if (renderer instanceof ActorView view) {
+            actorViews.release(view);
+        }
+    }
+
+    /**
+     * Stops following membership changes of the simulated world, so that world can be ticked on
+     * another thread. The renderers of the actors added so far are created now; from then on renderers
+     * are added and removed to match the snapshots passed to {@link #render(WorldSnapshot, double)}.
+     * Must be called before the other thread starts ticking.
+     */
+    public void followSnapshots() {
+        gameWorld.removeListener(this);
+        commands.flush();
+    }
+
+    /**
+     * Retrieves the buffer of scene graph updates applied at the start of the next {@link #render(double)}.
+     *
+     * @return The command buffer.
+     */
+    public UiCommandBuffer getCommands() {
+        return commands;
+    }
+
+    /**
+     * Creates the renderer used to draw the given actor.
+     * Image views are reused from actors that have left the world where possible.
+     *
+     * @param actor The actor to draw.
+     * @return The renderer for the actor.
+     */
+    protected ActorRenderer createRenderer(Actor actor) {
+        if (actor instanceof EndPoint endPoint) {
+            return new End(endPoint, imageManager, overlayViews);
+        }
+        ActorView view = actorViews.acquire();
+        view.bind(actor);
+        return view;
     }
 
     /**
@@ -94,9 +238,42 @@ public abstract class World extends Pane implements KeyEventHandlerProvider {
     }
 
     /**
-     * Abstract method to define the behavior of the world at each game tick.
+     * Applies the buffered scene graph updates, then synchronizes every renderer with its actor,
+     * blending positions between the last two simulated states.
      *
-     * @param now The current time in nanoseconds.
+     * @param alpha The interpolation factor between the previous and current tick, in [0, 1).
      */
-    public abstract void act(long now);
+    public void render(double alpha) {
+        commands.flush();
+        if (actorCanvas != null) {
+            actorCanvas.paint(alpha);
+            return;
+        }
+        for (ActorRenderer renderer : renderers.values()) {
+            renderer.sync(alpha);
+        }
+    }
+
+    /**
+     * Applies the buffered scene graph updates, then draws a snapshot published by the simulation thread.
+     * Renderers are matched to the actors in the snapshot once per new snapshot, and every renderer reads
+     * only the snapshot, never the live actors.
+     *
+     * @param snapshot The newest snapshot of the simulation.
+     * @param alpha    The interpolation factor between the previous and current tick, in [0, 1].
+     */
+    public void render(WorldSnapshot snapshot, double alpha) {
+        commands.flush();
+        if (snapshot.getTick() != reconciledTick) {
+            reconcile(snapshot);
+            reconciledTick = snapshot.getTick();
+        }
+        if (actorCanvas != null) {
+            actorCanvas.paint(snapshot, alpha);
+            return;
+        }
+        for (int i = 0; i < snapshot.getCount(); i++) {
+            renderers.get(snapshot.getActor(i)).show(snapshot, i, alpha);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package uk.ac.nott.cs.comp2013.froggergame.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.loop.GameClock;
+
+/**
+ * Unit tests for {@link GameClock}.
+ * Ensures ticks are produced at a fixed rate independent of the frame rate.
+ */
+class GameClockTest {
+    private GameClock clock;
+    private List<Long> ticks;
+
+    @BeforeEach
+    void setUp() {
+        clock = new GameClock(100, 5); // 10 ms ticks
+        ticks = new ArrayList<>();
+    }
+
+    @Test
+    void testFirstFrameOnlyEstablishesTimeBase() {
+        assertEquals(0, clock.advance(1_000_000_000L, ticks::add));
+        assertTrue(ticks.isEmpty());
+    }
+
+    @Test
+    void testFrameRateDoesNotChangeTickCount() {
+        GameClock slowDisplay = new GameClock(100, 5);
+        GameClock fastDisplay = new GameClock(100, 5);
+        slowDisplay.advance(0, now -> {});
+        fastDisplay.advance(0, now -> {});
+
+        for (long t = 1; t <= 60; t++) {
+            slowDisplay.advance(t * 1_000_000_000L / 60, now -> {});
+        }
+        for (long t = 1; t <= 144; t++) {
+            fastDisplay.advance(t * 1_000_000_000L / 144, now -> {});
+        }
+
+        assertEquals(100, slowDisplay.getTickCount());
+        assertEquals(100, fastDisplay.getTickCount());
+    }
+
+    @Test
+    void testTicksCarrySimulatedTime() {
+        clock.advance(0, ticks::add);
+        clock.advance(25_000_000L, ticks::add);
+
+        assertEquals(List.of(10_000_000L, 20_000_000L), ticks);
+        assertEquals(0.5, clock.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void testTimeScaleSlowsAndPausesSimulatedTime() {
+        clock.advance(0, ticks::add);
+        clock.setTimeScale(0.5);
+        clock.advance(40_000_000L, ticks::add);
+        assertEquals(2, ticks.size(), "Half speed should simulate half of the elapsed time.");
+
+        clock.setTimeScale(0);
+        clock.advance(1_000_000_000L, ticks::add);
+        assertEquals(2, ticks.size(), "A paused clock should not tick.");
+
+        assertThrows(IllegalArgumentException.class, () -> clock.setTimeScale(-1));
+    }
+
+    @Test
+    void testCatchUpLimitDropsBacklog() {
+        clock.advance(0, ticks::add);
+        int steps = clock.advance(2_000_000_000L, ticks::add); // A two second stall
+
+        assertEquals(5, steps);
+        assertTrue(clock.getAlpha() < 1.0);
+        assertEquals(1, clock.advance(2_010_000_000L, ticks::add));
+    }
+
+    @Test
+    void testInvalidConfigurationThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(60, 0));
+    }
+}
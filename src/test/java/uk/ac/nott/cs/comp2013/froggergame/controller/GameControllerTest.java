@@ -11,11 +11,11 @@ import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameControllerConfig;
 import uk.ac.nott.cs.comp2013.froggergame.controller.initializer.GameInitializer;
 import uk.ac.nott.cs.comp2013.froggergame.controller.loop.GameLoopManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
-import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.score.ScoreManager;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.GameStateChecker;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.Level;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 import uk.ac.nott.cs.comp2013.froggergame.view.components.TimeBar;
@@ -32,6 +32,7 @@ class GameControllerTest {
     private Animal mockAnimal;
     private Score mockScoreView;
     private GameLoopManager mockGameLoopManager;
+    private GameSimulation mockSimulation;
 
     /**
      * Sets up mock dependencies and initializes the GameController before each test.
@@ -41,13 +42,13 @@ class GameControllerTest {
         // Mock dependencies
         mockBackground = mock(MyStage.class);
         ScoreManager mockScoreManager = mock(ScoreManager.class);
-        GameObjectFactory mockGameObjectFactory = mock(GameObjectFactory.class);
+        mockSimulation = mock(GameSimulation.class);
         mockGameInitializer = mock(GameInitializer.class);
         GameStateChecker mockGameStateChecker = mock(GameStateChecker.class);
         mockScoreView = mock(Score.class);
         mockAnimal = mock(Animal.class);
 
-        when(mockGameObjectFactory.createAnimal()).thenReturn(mockAnimal);
+        when(mockSimulation.getAnimal()).thenReturn(mockAnimal);
 
         TimeBar mockTimeBar = mock(TimeBar.class);
         when(mockBackground.getTimeBar()).thenReturn(mockTimeBar);
@@ -58,7 +59,7 @@ class GameControllerTest {
         GameControllerConfig config = new GameControllerConfig(
                 mockBackground,
                 mockScoreManager,
-                mockGameObjectFactory,
+                mockSimulation,
                 mockGameStateChecker,
                 mockScoreView,
                 mockGameInitializer
@@ -79,9 +80,7 @@ class GameControllerTest {
 
         // Verify that components are initialized as expected
         verify(mockGameInitializer).initializeComponents(mockScoreView);
-        verify(mockBackground.getTimeBar()).setTimeOutListener(any());
-
-        assertNotNull(mockBackground.getTimeBar());
+        verify(mockSimulation).initialize(gameController);
     }
 
     /**
@@ -91,8 +90,7 @@ class GameControllerTest {
     void testStartGameLoop() {
         gameController.startGameLoop();
 
-        // Verify that the game loop and time bar are started
-        verify(mockBackground.getTimeBar()).start();
+        // Verify that the game loop is started
         verify(mockGameLoopManager).startGameLoopExecution();
     }
 
@@ -105,7 +103,6 @@ class GameControllerTest {
 
         // Verify that the game loop and other components are stopped
         verify(mockGameLoopManager).stopGameLoopExecution();
-        verify(mockBackground.getTimeBar()).stop();
         verify(mockBackground).stopMusic();
     }
 
@@ -136,7 +133,7 @@ class GameControllerTest {
         LevelManager mockLevelManager = mock(LevelManager.class);
         Level mockLevel = mock(Level.class);
         when(mockLevelManager.hasLevelChanged()).thenReturn(true);
-        when(mockLevelManager.getLevelView()).thenReturn(mockLevel);
+        when(mockBackground.getLevel()).thenReturn(mockLevel);
 
         // Inject mocks into GameController
         gameController.setAnimal(mockAnimal);
@@ -60,7 +60,6 @@ class GameLoopManagerTest extends JavaFXTestBase {
     @Test
     void testExecuteGameLoop() {
         long now = System.nanoTime();
-        setPrivateField(gameLoopManager, "lastUpdateTime", now);
 
         when(mockAnimal.isActive()).thenReturn(true);
 
@@ -82,16 +81,6 @@ class GameLoopManagerTest extends JavaFXTestBase {
         }
     }
 
-    private void setPrivateField(Object object, String fieldName, Object value) {
-        try {
-            var field = object.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(object, value);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     private void callPrivateMethod(Object object, String methodName, Object... args) {
         try {
             Class<?>[] parameterTypes = new Class<?>[args.length];
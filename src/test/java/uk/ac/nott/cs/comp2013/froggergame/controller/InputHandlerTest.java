@@ -2,13 +2,19 @@ package uk.ac.nott.cs.comp2013.froggergame.controller;
 
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import java.util.List;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.input.InputHandler;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.Replay;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.ReplayRecorder;
 
 class InputHandlerTest {
 
@@ -45,16 +51,16 @@ class InputHandlerTest {
     void testHandleKeyPressed_NormalMove() {
         // Simulate "can move" state
         when(mockStateManager.isNoMove()).thenReturn(false);
-        when(mockAnimal.getMovementX(KeyCode.W)).thenReturn(0.0);
-        when(mockAnimal.getMovementY(KeyCode.W)).thenReturn(-10.0);
+        when(mockAnimal.getMovementX(Direction.UP)).thenReturn(0.0);
+        when(mockAnimal.getMovementY(Direction.UP)).thenReturn(-10.0);
 
         KeyEvent keyEvent = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.W, false, false, false, false);
         inputHandler.handleKeyPressed(keyEvent);
 
         // Verify the movement logic is triggered
-        verify(mockAnimal).getMovementX(KeyCode.W);
-        verify(mockAnimal).getMovementY(KeyCode.W);
-        verify(mockStateManager).moveAnimal(0.0, -10.0, KeyCode.W, true);
+        verify(mockAnimal).getMovementX(Direction.UP);
+        verify(mockAnimal).getMovementY(Direction.UP);
+        verify(mockStateManager).moveAnimal(0.0, -10.0, Direction.UP, true);
     }
 
     @Test
@@ -75,16 +81,31 @@ class InputHandlerTest {
     void testHandleKeyReleased_NormalMove() {
         // Simulate "can move" state
         when(mockStateManager.isNoMove()).thenReturn(false);
-        when(mockAnimal.getMovementX(KeyCode.W)).thenReturn(0.0);
-        when(mockAnimal.getMovementY(KeyCode.W)).thenReturn(-10.0);
+        when(mockAnimal.getMovementX(Direction.UP)).thenReturn(0.0);
+        when(mockAnimal.getMovementY(Direction.UP)).thenReturn(-10.0);
 
         KeyEvent keyEvent = new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.W, false, false, false, false);
         inputHandler.handleKeyReleased(keyEvent);
 
         // Verify the movement logic is triggered
-        verify(mockAnimal).getMovementX(KeyCode.W);
-        verify(mockAnimal).getMovementY(KeyCode.W);
-        verify(mockStateManager).moveAnimal(0.0, -10.0, KeyCode.W, false);
+        verify(mockAnimal).getMovementX(Direction.UP);
+        verify(mockAnimal).getMovementY(Direction.UP);
+        verify(mockStateManager).moveAnimal(0.0, -10.0, Direction.UP, false);
     }
-}
 
+    @Test
+    void testMovementKeysAreRecordedWithTheTickCount() {
+        ReplayRecorder recorder = new ReplayRecorder(1, LevelConfig.createDefault(1.0));
+        long[] ticks = {3};
+        inputHandler.setRecorder(recorder, () -> ticks[0]);
+        when(mockStateManager.isNoMove()).thenReturn(false);
+
+        inputHandler.handleKey(KeyCode.W, true);
+        inputHandler.handleKey(KeyCode.SPACE, true); // Not a movement key
+        ticks[0] = 9;
+        inputHandler.handleKey(KeyCode.W, false);
+
+        assertEquals(List.of(new Replay.Input(3, Direction.UP, true), new Replay.Input(9, Direction.UP, false)),
+                recorder.toReplay(9).getInputs());
+    }
+}
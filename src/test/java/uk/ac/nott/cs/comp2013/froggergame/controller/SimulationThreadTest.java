@@ -0,0 +1,113 @@
+package uk.ac.nott.cs.comp2013.froggergame.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.loop.SimulationThread;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+
+/**
+ * Unit tests for {@link SimulationThread}.
+ * Steps the simulation directly, so snapshots and input can be checked deterministically.
+ */
+class SimulationThreadTest {
+    private static final long TICK_NANOS = 1_000_000_000L / 120;
+    private static final double TICK_SECONDS = 1.0 / 120;
+
+    private GameSimulation simulation;
+    private SimulationThread simulationThread;
+    private LongConsumer tick;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new GameSimulation(new GameWorld(), new GameObjectFactory(), new LevelTimer(10.0));
+        simulationThread = new SimulationThread(simulation);
+        simulation.initialize(simulationThread.getEvents());
+        tick = now -> simulation.tick(now, TICK_SECONDS);
+    }
+
+    @Test
+    void testStepPublishesSnapshotOfTickedState() {
+        simulationThread.step(0, tick); // Establishes the time base
+        assertEquals(6, simulationThread.step(6 * TICK_NANOS, tick));
+
+        WorldSnapshot snapshot = simulationThread.latest();
+        List<Actor> actors = simulation.getWorld().getObjects(Actor.class);
+        Log log = simulation.getWorld().getObjects(Log.class).get(0);
+        int index = actors.indexOf(log);
+
+        assertEquals(6, snapshot.getTick());
+        assertEquals(actors.size(), snapshot.getCount());
+        assertSame(log, snapshot.getActor(index));
+        assertEquals(log.getX(), snapshot.getX(index));
+        assertEquals(log.getSprite(), snapshot.getSprite(index));
+        assertEquals(simulation.getLevelTimer().getRemainingTime(), snapshot.getRemainingTime());
+        assertEquals(1, snapshot.getLevel());
+        assertEquals(WorldSnapshot.Outcome.PLAYING, snapshot.getOutcome());
+    }
+
+    @Test
+    void testHeldSnapshotIsNotOverwritten() {
+        simulationThread.step(0, tick);
+        simulationThread.step(TICK_NANOS, tick);
+        WorldSnapshot held = simulationThread.latest();
+        double heldX = held.getX(0);
+
+        for (int frame = 2; frame <= 6; frame++) {
+            simulationThread.step(frame * TICK_NANOS, tick);
+        }
+
+        assertEquals(1, held.getTick());
+        assertEquals(heldX, held.getX(0));
+        assertEquals(6, simulationThread.latest().getTick());
+    }
+
+    @Test
+    void testPostedInputIsAppliedBeforeTheNextTick() {
+        List<String> events = new ArrayList<>();
+        simulationThread.step(0, now -> events.add("tick"));
+
+        simulationThread.post(() -> events.add("input"));
+        simulationThread.step(TICK_NANOS, now -> events.add("tick"));
+
+        assertEquals(List.of("input", "tick"), events);
+    }
+
+    @Test
+    void testGameEndIsPublishedAndStopsTheTicks() {
+        simulationThread.step(0, tick);
+        simulationThread.step(3 * TICK_NANOS, now -> simulationThread.getEvents().onGameWon(0));
+
+        assertEquals(WorldSnapshot.Outcome.WON, simulationThread.latest().getOutcome());
+        assertFalse(simulationThread.isRunning());
+        assertEquals(0, simulationThread.step(6 * TICK_NANOS, tick), "No ticks should run after the game ended.");
+    }
+
+    @Test
+    void testThreadPublishesUntilStopped() throws InterruptedException {
+        simulationThread.start(tick);
+        assertTrue(simulationThread.isRunning());
+        assertTrue(simulationThread.latest().getTick() >= 0, "The initial state should be published before the first tick.");
+
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (simulationThread.latest().getTick() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        long ticks = simulationThread.stop();
+
+        assertTrue(simulationThread.latest().getTick() >= 5, "Ticks should run on the simulation thread.");
+        assertFalse(simulationThread.isRunning());
+        Thread.sleep(20);
+        assertEquals(ticks, simulationThread.getClock().getTickCount(), "No tick should run once stop returns.");
+    }
+}
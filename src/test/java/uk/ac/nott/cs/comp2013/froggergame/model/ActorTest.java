@@ -71,6 +71,78 @@ class ActorTest {
         assertEquals(0, actor.getX(), "Actor should reset to the left bound when out of bounds.");
     }
 
+    /**
+     * Tests that the cached bounds follow movement and sprite size changes.
+     */
+    @Test
+    void testCachedBoundsFollowPositionAndSize() {
+        actor.setSprite("test.png", 30, 40); // Unknown images keep the requested box
+        actor.move(5, 10);
+        assertEquals(15, actor.getMinX(), "Cached left edge should follow the x position.");
+        assertEquals(30, actor.getMinY(), "Cached top edge should follow the y position.");
+        assertEquals(45, actor.getMaxX(), "Cached right edge should include the sprite width.");
+        assertEquals(70, actor.getMaxY(), "Cached bottom edge should include the sprite height.");
+
+        actor.setSprite("test.png", 10, 10);
+        assertEquals(25, actor.getMaxX(), "Cached bounds should shrink with the sprite.");
+    }
+
+    /**
+     * Tests intersection using the cached bounds, with touching edges counting as overlap.
+     */
+    @Test
+    void testIntersects() {
+        Actor other = new Actor(40, 20, 0) {
+            @Override
+            public void act(long now) {
+                // No behavior for testing
+            }
+        };
+        actor.setSprite("test.png", 30, 30);
+        other.setSprite("test.png", 30, 30);
+        assertTrue(actor.intersects(other), "Touching edges should count as an intersection.");
+
+        other.setX(41);
+        assertFalse(actor.intersects(other), "Separated actors should not intersect.");
+    }
+
+    /**
+     * Tests that a fast actor passing right over another within one tick is detected by the swept test.
+     */
+    @Test
+    void testSweptIntersectsCatchesTunnelling() {
+        Actor car = new Actor(-40, 20, 0) {
+            @Override
+            public void act(long now) {
+                setX(getX() + 80); // Jumps from left of the actor to right of it in one tick
+            }
+        };
+        actor.setSprite("test.png", 10, 10);
+        car.setSprite("test.png", 10, 10);
+        car.tick(0, 1.0);
+
+        assertFalse(actor.intersects(car), "The discrete test misses the car at the end of the tick.");
+        assertTrue(actor.sweptIntersects(car), "The swept test should find the car passing through.");
+    }
+
+    /**
+     * Tests that a wrap-around jump is not swept across the screen.
+     */
+    @Test
+    void testSweptIntersectsIgnoresTeleports() {
+        Actor car = new Actor(-300, 20, 0) {
+            @Override
+            public void act(long now) {
+                setX(300); // Wraps round the screen
+            }
+        };
+        actor.setSprite("test.png", 10, 10);
+        car.setSprite("test.png", 10, 10);
+        car.tick(0, 1.0);
+
+        assertFalse(actor.sweptIntersects(car), "Teleports should only be tested at their end position.");
+    }
+
     /**
      * Tests that an exception is thrown if {@link Actor#getWorld()} is called
      * without attaching the actor to a world.
@@ -1,30 +1,22 @@
 package uk.ac.nott.cs.comp2013.froggergame.model;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.scene.Node;
-import javafx.scene.layout.Pane;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.List;
 import static org.mockito.Mockito.*;
-import static org.junit.jupiter.api.Assertions.*;
 
-import uk.ac.nott.cs.comp2013.froggergame.JavaFXTestBase;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.*;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.AnimalCollisionHandler;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.End;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Score;
 
 /**
  * Unit tests for {@link AnimalCollisionHandler}.
  * Validates collision handling logic for different entity types and scenarios.
  */
-class AnimalCollisionHandlerTest extends JavaFXTestBase {
+class AnimalCollisionHandlerTest {
     private Animal mockAnimal;
     private StateManager mockStateManager;
-    private Score mockScore;
     private AnimalCollisionHandler collisionHandler;
 
     /**
@@ -35,8 +27,8 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     void setUp() {
         mockAnimal = mock(Animal.class);
         mockStateManager = mock(StateManager.class);
-        mockScore = mock(Score.class);
-        collisionHandler = new AnimalCollisionHandler(mockAnimal, mockStateManager, mockScore);
+        when(mockAnimal.intersects(any())).thenReturn(true); // Candidates still overlap at the end of the tick
+        collisionHandler = new AnimalCollisionHandler(mockAnimal, mockStateManager);
     }
 
     /**
@@ -46,7 +38,7 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     @Test
     void testObstacleCollision() {
         Obstacle mockObstacle = mock(Obstacle.class);
-        when(mockAnimal.getIntersectingObjects(Obstacle.class)).thenReturn(List.of(mockObstacle));
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockObstacle));
 
         collisionHandler.checkCollisions();
 
@@ -61,7 +53,7 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     @Test
     void testLogCollision() {
         Log mockLog = mock(Log.class);
-        when(mockAnimal.getIntersectingObjects(Log.class)).thenReturn(List.of(mockLog));
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockLog));
 
         collisionHandler.checkCollisions();
 
@@ -75,7 +67,7 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     @Test
     void testWetTurtleCollisionWhenSunk() {
         WetTurtle mockWetTurtle = mock(WetTurtle.class);
-        when(mockAnimal.getIntersectingObjects(WetTurtle.class)).thenReturn(List.of(mockWetTurtle));
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockWetTurtle));
         when(mockWetTurtle.isSunk()).thenReturn(true);
 
         collisionHandler.checkCollisions();
@@ -87,13 +79,13 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     }
 
     /**
-     * Tests collision handling with {@link End}.
+     * Tests collision handling with {@link EndPoint}.
      * Verifies that the endpoint is activated and points are awarded.
      */
     @Test
     void testEndCollision() {
-        End mockEnd = mock(End.class);
-        when(mockAnimal.getIntersectingObjects(End.class)).thenReturn(List.of(mockEnd));
+        EndPoint mockEnd = mock(EndPoint.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockEnd));
         when(mockEnd.isActivated()).thenReturn(false);
 
         collisionHandler.checkCollisions();
@@ -105,29 +97,182 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
 
     /**
      * Tests collision handling with {@link Spider}.
-     * Verifies that points are awarded and the spider is removed from its parent pane.
+     * Verifies that points are awarded and the spider is removed from the world.
      */
     @Test
     void testSpiderCollision() {
         Spider mockSpider = mock(Spider.class);
-        Pane mockPane = mock(Pane.class);
         Log mockLog = mock(Log.class);
 
-        ObservableList<Node> mockChildren = FXCollections.observableArrayList();
-        when(mockPane.getChildren()).thenReturn(mockChildren);
-
-        when(mockAnimal.getIntersectingObjects(Spider.class)).thenReturn(List.of(mockSpider));
-        when(mockSpider.getParentPane()).thenReturn(mockPane);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockSpider));
         when(mockSpider.getParentLog()).thenReturn(mockLog);
 
-        mockChildren.add(mockSpider);
+        collisionHandler.checkCollisions();
+
+        verify(mockStateManager).addPoints(20);
+        verify(mockSpider).removeFromWorld();
+        verify(mockLog).clearSpider();
+    }
+
+    /**
+     * Tests that a lethal {@link Obstacle} takes priority over a platform touched at the same time.
+     */
+    @Test
+    void testObstacleTakesPriorityOverPlatform() {
+        Log mockLog = mock(Log.class);
+        Obstacle mockObstacle = mock(Obstacle.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockLog, mockObstacle));
+
+        collisionHandler.checkCollisions();
+
+        verify(mockAnimal).setCarDeath(true);
+        verify(mockAnimal, never()).setCurrentPlatform(any());
+    }
+
+    /**
+     * Tests that reaching an {@link EndPoint} takes priority over a sinking {@link WetTurtle}.
+     */
+    @Test
+    void testEndTakesPriorityOverWaterCheck() {
+        WetTurtle mockWetTurtle = mock(WetTurtle.class);
+        EndPoint mockEnd = mock(EndPoint.class);
+        when(mockWetTurtle.isSunk()).thenReturn(true);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockWetTurtle, mockEnd));
+
+        collisionHandler.checkCollisions();
+
+        verify(mockEnd).setEnd();
+        verify(mockAnimal, never()).setWaterDeath(true);
+    }
+
+    /**
+     * Tests that a frog landing on a {@link Log} carrying a {@link Spider} eats the spider and rides the log.
+     */
+    @Test
+    void testSpiderOnLogStillCarriesAnimal() {
+        Log mockLog = mock(Log.class);
+        Spider mockSpider = mock(Spider.class);
+        when(mockSpider.getParentLog()).thenReturn(mockLog);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockLog, mockSpider));
 
         collisionHandler.checkCollisions();
 
         verify(mockStateManager).addPoints(20);
-        verify(mockScore).updateScore(anyInt());
-        assertFalse(mockChildren.contains(mockSpider), "Spider should be removed from parent pane.");
         verify(mockLog).clearSpider();
+        verify(mockAnimal).setCurrentPlatform(mockLog);
+        verify(mockAnimal, never()).clearCurrentPlatform();
+    }
+
+    /**
+     * Tests that no further candidates are handled once a strategy has reset the animal.
+     */
+    @Test
+    void testResetStopsDispatch() {
+        EndPoint firstEnd = mock(EndPoint.class);
+        EndPoint secondEnd = mock(EndPoint.class);
+        doAnswer(invocation -> {
+            collisionHandler.resetContacts();
+            return null;
+        }).when(mockAnimal).resetPosition();
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(firstEnd, secondEnd));
+
+        collisionHandler.checkCollisions();
+
+        verify(firstEnd).setEnd();
+        verify(secondEnd, never()).setEnd();
+        verify(mockStateManager, times(1)).addPoints(50);
+    }
+
+    /**
+     * Tests that a contact outranked by a higher-priority kind is kept, rather than beginning anew
+     * once the higher-priority contact clears.
+     */
+    @Test
+    void testOutrankedContactIsKept() {
+        Obstacle mockObstacle = mock(Obstacle.class);
+        Spider mockSpider = mock(Spider.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockObstacle, mockSpider));
+        collisionHandler.checkCollisions();
+
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockSpider));
+        collisionHandler.checkCollisions();
+
+        verify(mockAnimal).setCarDeath(true);
+        verify(mockStateManager, never()).addPoints(20);
+    }
+
+    /**
+     * Tests that an {@link Obstacle} passed over during the tick still counts.
+     */
+    @Test
+    void testObstacleHitDuringTickCounts() {
+        Obstacle mockObstacle = mock(Obstacle.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockObstacle));
+        when(mockAnimal.intersects(mockObstacle)).thenReturn(false);
+
+        collisionHandler.checkCollisions();
+
+        verify(mockAnimal).setCarDeath(true);
+    }
+
+    /**
+     * Tests that a {@link Log} left behind during the tick is not used as a platform.
+     */
+    @Test
+    void testPlatformLeftDuringTickIsIgnored() {
+        Log mockLog = mock(Log.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockLog));
+        when(mockAnimal.intersects(mockLog)).thenReturn(false);
+        when(mockAnimal.isOnPlatform()).thenReturn(true);
+
+        collisionHandler.checkCollisions();
+
+        verify(mockAnimal, never()).setCurrentPlatform(any());
+        verify(mockAnimal).clearCurrentPlatform();
+    }
+
+    /**
+     * Tests that a {@link Spider} contact lasting several ticks is only rewarded once.
+     */
+    @Test
+    void testLastingContactIsHandledOnce() {
+        Spider mockSpider = mock(Spider.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockSpider));
+
+        collisionHandler.checkCollisions();
+        collisionHandler.checkCollisions();
+        collisionHandler.checkCollisions();
+
+        verify(mockStateManager, times(1)).addPoints(20);
+    }
+
+    /**
+     * Tests that a {@link Log} keeps carrying the animal while the contact lasts.
+     */
+    @Test
+    void testPlatformContactPersists() {
+        Log mockLog = mock(Log.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockLog));
+
+        collisionHandler.checkCollisions();
+        collisionHandler.checkCollisions();
+
+        verify(mockAnimal, times(2)).setCurrentPlatform(mockLog);
+    }
+
+    /**
+     * Tests that resetting contacts makes an ongoing contact count as new again.
+     */
+    @Test
+    void testResetContactsStartsNewContact() {
+        Obstacle mockObstacle = mock(Obstacle.class);
+        when(mockAnimal.getSweptIntersectingObjects(Actor.class)).thenReturn(List.of(mockObstacle));
+
+        collisionHandler.checkCollisions();
+        collisionHandler.resetContacts();
+        collisionHandler.checkCollisions();
+
+        verify(mockStateManager, times(2)).addPoints(-50);
     }
 
     /**
@@ -137,7 +282,7 @@ class AnimalCollisionHandlerTest extends JavaFXTestBase {
     @Test
     void testNoCollisionClearsPlatform() {
         when(mockAnimal.isOnPlatform()).thenReturn(true);
-        when(mockAnimal.getIntersectingObjects(any())).thenReturn(List.of());
+        when(mockAnimal.getSweptIntersectingObjects(any())).thenReturn(List.of());
 
         collisionHandler.checkCollisions();
 
@@ -1,17 +1,16 @@
 package uk.ac.nott.cs.comp2013.froggergame.model;
 
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
-import javafx.scene.input.KeyCode;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.DeathAnimationHandler;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.AnimalStateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.resource.ImageManager;
 
 /**
  * Unit tests for {@link AnimalStateManager}.
@@ -21,7 +20,6 @@ class AnimalStateManagerTest {
 
     private AnimalStateManager stateManager;
     private Animal mockAnimal;
-    private ImageManager mockImageManager;
     private DeathAnimationHandler mockDeathAnimationHandler;
 
     /**
@@ -31,16 +29,11 @@ class AnimalStateManagerTest {
     @BeforeEach
     void setUp() throws Exception {
         mockAnimal = mock(Animal.class);
-        mockImageManager = mock(ImageManager.class);
         mockDeathAnimationHandler = mock(DeathAnimationHandler.class);
 
         stateManager = new AnimalStateManager(mockAnimal, 5);
 
         // Use reflection to replace private fields with mocks
-        Field imageManagerField = AnimalStateManager.class.getDeclaredField("imageManager");
-        imageManagerField.setAccessible(true);
-        imageManagerField.set(stateManager, mockImageManager);
-
         Field handlerField = AnimalStateManager.class.getDeclaredField("deathAnimationHandler");
         handlerField.setAccessible(true);
         handlerField.set(stateManager, mockDeathAnimationHandler);
@@ -76,17 +69,13 @@ class AnimalStateManagerTest {
 
     /**
      * Tests the animal's movement logic.
-     * Verifies that the image and position are updated correctly.
+     * Verifies that the sprite and position are updated correctly.
      */
     @Test
     void testMoveAnimal() {
-        KeyCode key = KeyCode.W;
-        Image mockImage = mock(Image.class);
-        when(mockImageManager.getImageForKey(key, true)).thenReturn(mockImage);
-
-        stateManager.moveAnimal(10, -10, key, true);
+        stateManager.moveAnimal(10, -10, Direction.UP, true);
 
-        verify(mockAnimal).setImage(mockImage);
+        verify(mockAnimal).setSprite(SpriteId.FROG_UP_JUMP);
         verify(mockAnimal).move(10, -10);
     }
 
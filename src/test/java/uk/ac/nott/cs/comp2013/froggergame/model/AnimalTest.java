@@ -4,7 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
-import javafx.scene.input.KeyCode;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -15,7 +15,6 @@ class AnimalTest {
     @BeforeEach
     void setUp() {
         animal = mock(Animal.class);
-        doNothing().when(animal).setImage(any());
         when(animal.getX()).thenReturn(300.0);
         when(animal.getY()).thenReturn(733 + 26.6667);
     }
@@ -40,24 +39,24 @@ class AnimalTest {
 
     @Test
     void testMovementX() {
-        when(animal.getMovementX(KeyCode.A)).thenReturn(-21.3333);
-        when(animal.getMovementX(KeyCode.D)).thenReturn(21.3333);
-        when(animal.getMovementX(KeyCode.W)).thenReturn(0.0);
+        when(animal.getMovementX(Direction.LEFT)).thenReturn(-21.3333);
+        when(animal.getMovementX(Direction.RIGHT)).thenReturn(21.3333);
+        when(animal.getMovementX(Direction.UP)).thenReturn(0.0);
 
-        assertEquals(-21.3333, animal.getMovementX(KeyCode.A), 0.001);
-        assertEquals(21.3333, animal.getMovementX(KeyCode.D), 0.001);
-        assertEquals(0, animal.getMovementX(KeyCode.W), 0.001);
+        assertEquals(-21.3333, animal.getMovementX(Direction.LEFT), 0.001);
+        assertEquals(21.3333, animal.getMovementX(Direction.RIGHT), 0.001);
+        assertEquals(0, animal.getMovementX(Direction.UP), 0.001);
     }
 
     @Test
     void testMovementY() {
-        when(animal.getMovementY(KeyCode.W)).thenReturn(-26.6667);
-        when(animal.getMovementY(KeyCode.S)).thenReturn(26.6667);
-        when(animal.getMovementY(KeyCode.A)).thenReturn(0.0);
+        when(animal.getMovementY(Direction.UP)).thenReturn(-26.6667);
+        when(animal.getMovementY(Direction.DOWN)).thenReturn(26.6667);
+        when(animal.getMovementY(Direction.LEFT)).thenReturn(0.0);
 
-        assertEquals(-26.6667, animal.getMovementY(KeyCode.W), 0.001);
-        assertEquals(26.6667, animal.getMovementY(KeyCode.S), 0.001);
-        assertEquals(0, animal.getMovementY(KeyCode.A), 0.001);
+        assertEquals(-26.6667, animal.getMovementY(Direction.UP), 0.001);
+        assertEquals(26.6667, animal.getMovementY(Direction.DOWN), 0.001);
+        assertEquals(0, animal.getMovementY(Direction.LEFT), 0.001);
     }
 
     @Test
@@ -0,0 +1,65 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.collision.ContactCache;
+
+/**
+ * Unit tests for {@link ContactCache}.
+ * Ensures contacts are reported as begin, persist and end across ticks.
+ */
+class ContactCacheTest {
+    private ContactCache contacts;
+    private List<Actor> ended;
+    private Actor first;
+    private Actor second;
+
+    @BeforeEach
+    void setUp() {
+        contacts = new ContactCache();
+        ended = new ArrayList<>();
+        first = mock(Actor.class);
+        second = mock(Actor.class);
+    }
+
+    @Test
+    void testContactBeginsThenPersists() {
+        assertTrue(contacts.touch(first), "First touch should begin the contact.");
+        contacts.endTick(ended::add);
+
+        assertFalse(contacts.touch(first), "Touching again next tick should persist the contact.");
+        contacts.endTick(ended::add);
+
+        assertTrue(ended.isEmpty());
+        assertTrue(contacts.isInContact(first));
+    }
+
+    @Test
+    void testContactEndsWhenNotRenewed() {
+        contacts.touch(first);
+        contacts.touch(second);
+        contacts.endTick(ended::add);
+
+        contacts.touch(second);
+        contacts.endTick(ended::add);
+
+        assertEquals(List.of(first), ended);
+        assertFalse(contacts.isInContact(first));
+    }
+
+    @Test
+    void testClearForgetsContacts() {
+        contacts.touch(first);
+        contacts.endTick(ended::add);
+
+        contacts.clear();
+
+        assertTrue(contacts.touch(first), "Touch after clearing should begin a new contact.");
+    }
+}
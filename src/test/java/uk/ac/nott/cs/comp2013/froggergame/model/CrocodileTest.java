@@ -23,8 +23,8 @@ class CrocodileTest {
 
     @Test
     void testMoveRightWithinBounds() {
-        crocodile.act(0); // Simulate one "tick"
-        assertEquals(101.0, crocodile.getX()); // Moves right by SPEED (1.0)
+        crocodile.tick(0, 1.0 / 60); // Simulate one 60 Hz tick
+        assertEquals(101.0, crocodile.getX(), 1e-9); // Moves right by SPEED (60 units per second)
         assertEquals(50.0, crocodile.getY()); // Y-coordinate remains unchanged
         assertTrue(crocodile.isMovingRight());
     }
@@ -32,7 +32,7 @@ class CrocodileTest {
     @Test
     void testChangeDirectionAtRightBound() {
         crocodile.setX(500); // Set crocodile at the right bound
-        crocodile.act(0); // Should reverse direction
+        crocodile.tick(0, 1.0 / 60); // Should reverse direction
         assertFalse(crocodile.isMovingRight());
     }
 
@@ -40,8 +40,8 @@ class CrocodileTest {
     void testMoveLeft() {
         crocodile.setX(500); // Place at the right bound
         crocodile.setMovingRight(false); // Start moving left
-        crocodile.act(0); // Simulate one "tick"
-        assertEquals(499.0, crocodile.getX()); // Moves left by SPEED (1.0)
+        crocodile.tick(0, 1.0 / 60); // Simulate one 60 Hz tick
+        assertEquals(499.0, crocodile.getX(), 1e-9); // Moves left by SPEED (60 units per second)
         assertFalse(crocodile.isMovingRight());
     }
 
@@ -49,14 +49,14 @@ class CrocodileTest {
     void testChangeDirectionAtLeftBound() {
         crocodile.setX(100); // Set crocodile at the initial position (left bound)
         crocodile.setMovingRight(false); // Start moving left
-        crocodile.act(0); // Should reverse direction
+        crocodile.tick(0, 1.0 / 60); // Should reverse direction
         assertTrue(crocodile.isMovingRight());
     }
 
     @Test
     void testYPositionUnchanged() {
         double initialY = crocodile.getY();
-        crocodile.act(0); // Simulate movement
+        crocodile.tick(0, 1.0 / 60); // Simulate movement
         assertEquals(initialY, crocodile.getY()); // Y-coordinate should remain the same
     }
 }
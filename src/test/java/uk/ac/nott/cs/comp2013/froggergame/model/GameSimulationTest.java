@@ -0,0 +1,78 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.GameObjectData;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.factory.GameObjectFactory;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSimulation;
+
+/**
+ * Unit tests for {@link GameSimulation}.
+ * Runs the game rules headlessly, without starting the UI toolkit.
+ */
+class GameSimulationTest {
+    private static final long TICK_NANOS = 1_000_000_000L / 120;
+    private static final double TICK_SECONDS = 1.0 / 120;
+
+    private GameSimulation simulation;
+    private GameEventListener mockEventListener;
+
+    @BeforeEach
+    void setUp() {
+        mockEventListener = mock(GameEventListener.class);
+        simulation = new GameSimulation(new GameWorld(), new GameObjectFactory(), new LevelTimer(1.0));
+        simulation.initialize(mockEventListener);
+    }
+
+    @Test
+    void testInitializePopulatesWorld() {
+        GameWorld world = simulation.getWorld();
+        assertEquals(GameObjectData.LOG_DATA.length, world.getObjects(Log.class).size());
+        assertEquals(GameObjectData.END_POINT_DATA.length, world.getObjects(EndPoint.class).size());
+        assertSame(simulation.getAnimal(), world.getObjects(Animal.class).get(0));
+        assertTrue(simulation.getAnimal().getWidth() > 0, "Sprite size should be read without decoding the image.");
+    }
+
+    @Test
+    void testTicksAdvanceActors() {
+        Log log = simulation.getWorld().getObjects(Log.class).get(0);
+        double startX = log.getX();
+
+        for (int i = 1; i <= 12; i++) {
+            simulation.tick(i * TICK_NANOS, TICK_SECONDS);
+        }
+
+        assertEquals(startX + 60.0 * 0.1, log.getX(), 1e-6);
+    }
+
+    @Test
+    void testReachingEndPointCountsTowardsLevel() {
+        EndPoint end = simulation.getWorld().getObjects(EndPoint.class).get(0);
+        Animal animal = simulation.getAnimal();
+        animal.setX(end.getX() + 10);
+        animal.setY(end.getY() + 10);
+
+        simulation.tick(TICK_NANOS, TICK_SECONDS);
+
+        assertTrue(end.isActivated());
+        assertEquals(50, animal.getStateManager().getPoints());
+    }
+
+    @Test
+    void testTimeOutEndsGame() {
+        for (int i = 1; i <= 130; i++) { // Slightly over the one second limit
+            simulation.tick(i * TICK_NANOS, TICK_SECONDS);
+        }
+
+        verify(mockEventListener).onGameOver();
+    }
+}
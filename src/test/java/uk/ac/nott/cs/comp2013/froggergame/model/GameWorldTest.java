@@ -0,0 +1,171 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.AbstractTurtle;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Obstacle;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Spider;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Turtle;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.WetTurtle;
+
+/**
+ * Unit tests for {@link GameWorld}.
+ * Ensures the per-type buckets stay in step with actor additions and removals.
+ */
+class GameWorldTest {
+    private GameWorld world;
+    private Log log;
+
+    @BeforeEach
+    void setUp() {
+        world = new GameWorld();
+        log = new Log("logs.png", 100, 0, 200, 60.0);
+        world.addActor(log);
+    }
+
+    /**
+     * Tests that a queried list is a live, read-only view.
+     */
+    @Test
+    void testGetObjectsReturnsLiveReadOnlyView() {
+        List<Log> logs = world.getObjects(Log.class);
+        Log second = new Log("logs.png", 100, 300, 200, 60.0);
+
+        world.addActor(second);
+        assertEquals(List.of(log, second), logs);
+
+        world.removeActor(log);
+        assertEquals(List.of(second), logs);
+
+        assertThrows(UnsupportedOperationException.class, () -> logs.add(log));
+    }
+
+    /**
+     * Tests that querying a supertype collects every matching subtype.
+     */
+    @Test
+    void testSupertypeQueryCollectsSubtypes() {
+        Turtle turtle = new Turtle(300, 376, -60, 130, 130);
+        WetTurtle wetTurtle = new WetTurtle(500, 376, -60, 130, 130);
+        world.addActor(turtle);
+        world.addActor(wetTurtle);
+
+        assertEquals(List.of(turtle, wetTurtle), world.getObjects(AbstractTurtle.class));
+        assertEquals(3, world.getObjects(Actor.class).size());
+    }
+
+    /**
+     * Tests that removing a spider empties its bucket, as reported by the bucket sizes.
+     */
+    @Test
+    void testBucketSizesTrackRemoval() {
+        Spider spider = new Spider(log, "spider.png");
+        world.addActor(spider);
+        assertEquals(1, world.getBucketSizes().get(Spider.class));
+
+        spider.removeFromWorld();
+        assertEquals(0, world.getBucketSizes().get(Spider.class));
+        assertEquals(1, world.getBucketSizes().get(Log.class));
+    }
+
+    /**
+     * Tests that the visitor reaches every object of the requested type.
+     */
+    @Test
+    void testForEachObjectVisitsMatchingActors() {
+        world.addActor(new Turtle(300, 376, -60, 130, 130));
+        List<Log> visited = new ArrayList<>();
+
+        world.forEachObject(Log.class, visited::add);
+
+        assertEquals(List.of(log), visited);
+    }
+
+    /**
+     * Tests that advancing the lanes in parallel leaves a large world exactly as a sequential update would.
+     */
+    @Test
+    void testParallelLaneUpdateMatchesSequentialUpdate() {
+        GameWorld sequential = crowdedWorld();
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        GameWorld parallel = crowdedWorld();
+        parallel.setParallelThreshold(1);
+
+        for (int tick = 1; tick <= 240; tick++) {
+            sequential.act(tick * 8_333_333L, 1.0 / 120);
+            parallel.act(tick * 8_333_333L, 1.0 / 120);
+        }
+
+        List<Actor> expected = sequential.getActors();
+        List<Actor> actual = parallel.getActors();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "Actor " + i + " should end in the same place.");
+            assertEquals(expected.get(i).getSprite(), actual.get(i).getSprite());
+        }
+        Actor probe = actual.get(actual.size() / 2);
+        assertEquals(sequential.getIntersectingObjects(expected.get(actual.size() / 2), Actor.class).size(),
+                parallel.getIntersectingObjects(probe, Actor.class).size(), "The lane index should stay sorted.");
+        assertThrows(IllegalArgumentException.class, () -> parallel.setParallelThreshold(0));
+    }
+
+    @Test
+    void testParallelUpdateCarriesSpidersLikeSequentialUpdate() {
+        GameWorld sequential = spiderWorld();
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        GameWorld parallel = spiderWorld();
+        assertTrue(parallel.getActors().size() >= parallel.getParallelThreshold(), "The world should be updated in parallel.");
+
+        for (int tick = 1; tick <= 240; tick++) {
+            sequential.act(tick * 8_333_333L, 1.0 / 120);
+            parallel.act(tick * 8_333_333L, 1.0 / 120);
+        }
+
+        List<Spider> expected = sequential.getObjects(Spider.class);
+        List<Spider> actual = parallel.getObjects(Spider.class);
+        assertFalse(actual.isEmpty());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Spider spider = actual.get(i);
+            assertEquals(spider.getParentLog().getX() + 50, spider.getX(), "Spider " + i + " should stay on its log.");
+            assertEquals(expected.get(i).getX(), spider.getX());
+            assertEquals(expected.get(i).getPreviousX(), spider.getPreviousX());
+            assertEquals(expected.get(i).getY(), spider.getY());
+        }
+    }
+
+    private static GameWorld spiderWorld() {
+        GameWorld world = new GameWorld(5);
+        for (int row = 0; row < 16; row++) {
+            double speed = (row % 2 == 0 ? 1 : -1) * (30 + row * 5);
+            for (int column = 0; column < 64; column++) {
+                world.addActor(new Log("log3.png", 80, column * 9, 100 + row * 40, speed));
+            }
+        }
+        for (Log log : new ArrayList<>(world.getObjects(Log.class))) {
+            log.addRandomSpider("spider.png");
+        }
+        return world;
+    }
+
+    private static GameWorld crowdedWorld() {
+        GameWorld crowded = new GameWorld();
+        for (int row = 0; row < 16; row++) {
+            int y = 100 + row * 40;
+            int speed = (row % 2 == 0 ? 1 : -1) * (30 + row * 5);
+            for (int column = 0; column < 64; column++) {
+                int x = column * 9;
+                crowded.addActor(row % 4 == 3
+                        ? new WetTurtle(x, y, speed, 130, 130)
+                        : new Obstacle("car1Left.png", x, y, speed, 50, 50));
+            }
+        }
+        return crowded;
+    }
+}
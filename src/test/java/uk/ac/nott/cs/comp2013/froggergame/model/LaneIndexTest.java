@@ -0,0 +1,143 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.Actor;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.LaneIndex;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Obstacle;
+
+/**
+ * Unit tests for {@link LaneIndex}.
+ * Ensures lane queries return the same actors as a full bounds check while actors move.
+ */
+class LaneIndexTest {
+    private GameWorld world;
+    private Actor subject;
+
+    /**
+     * Sets up a world with a free-moving 40x40 subject.
+     * Unknown image names keep each actor's bounds equal to its requested box.
+     */
+    @BeforeEach
+    void setUp() {
+        world = new GameWorld();
+        subject = new Actor(100, 500, 0) {
+            @Override
+            public void act(long now) {
+                // No behavior for testing
+            }
+        };
+        subject.setSprite("test.png", 40, 40);
+        world.addActor(subject);
+    }
+
+    private Obstacle addCar(int x, int y) {
+        Obstacle car = new Obstacle("test.png", x, y, 0, 50, 50);
+        world.addActor(car);
+        return car;
+    }
+
+    /**
+     * Tests that actors are grouped into one lane per row.
+     */
+    @Test
+    void testActorsAreFiledByRow() {
+        addCar(0, 500);
+        addCar(200, 500);
+        addCar(0, 600);
+
+        assertEquals(2, world.getLaneIndex().getLaneCount());
+    }
+
+    /**
+     * Tests that only actors overlapping the subject's bounds are returned.
+     */
+    @Test
+    void testQueryReturnsOnlyIntersectingActors() {
+        Obstacle hit = addCar(80, 480); // Overlaps from the row above
+        addCar(200, 500); // Same row, too far right
+        addCar(100, 600); // Row below the subject
+
+        assertEquals(List.of(hit), subject.getIntersectingObjects(Obstacle.class));
+        assertTrue(subject.getIntersectingObjects(Log.class).isEmpty());
+    }
+
+    /**
+     * Tests that a wide actor starting well left of the subject is still found.
+     */
+    @Test
+    void testWideActorIsFound() {
+        addCar(0, 500);
+        Obstacle truck = new Obstacle("test.png", -150, 500, 0, 260, 50);
+        world.addActor(truck);
+
+        assertEquals(List.of(truck), subject.getIntersectingObjects(Obstacle.class));
+    }
+
+    /**
+     * Tests that the lane order is kept when an actor wraps round the screen.
+     */
+    @Test
+    void testWrappedActorIsFound() {
+        Obstacle car = addCar(500, 500);
+        addCar(300, 500);
+        addCar(-100, 500);
+
+        car.setX(90); // Wraps past the other actors in the lane
+
+        assertEquals(List.of(car), subject.getIntersectingObjects(Obstacle.class));
+    }
+
+    /**
+     * Tests that an actor changing row is moved into the lane for its new row.
+     */
+    @Test
+    void testActorChangingRowIsRefiled() {
+        Obstacle car = addCar(100, 700);
+
+        car.setY(500);
+
+        assertEquals(List.of(car), subject.getIntersectingObjects(Obstacle.class));
+        assertEquals(1, world.getLaneIndex().getLaneCount());
+    }
+
+    /**
+     * Tests that a swept query finds a thin actor the subject hopped over during the tick.
+     */
+    @Test
+    void testSweptQueryFindsActorHoppedOver() {
+        Actor hopper = new Actor(100, 600, 0) {
+            @Override
+            public void act(long now) {
+                move(0, -60); // Hops from below the car's row to above it
+            }
+        };
+        hopper.setSprite("test.png", 40, 40);
+        world.addActor(hopper);
+        Obstacle car = new Obstacle("test.png", 100, 585, 0, 50, 10); // Between the start and end bounds
+        world.addActor(car);
+
+        hopper.tick(0, 1.0 / 60);
+
+        assertTrue(hopper.getIntersectingObjects(Obstacle.class).isEmpty());
+        assertEquals(List.of(car), hopper.getSweptIntersectingObjects(Obstacle.class));
+    }
+
+    /**
+     * Tests that removed actors are no longer returned.
+     */
+    @Test
+    void testRemovedActorIsNotReturned() {
+        Obstacle car = addCar(100, 500);
+
+        car.removeFromWorld();
+
+        assertTrue(subject.getIntersectingObjects(Obstacle.class).isEmpty());
+        assertEquals(0, world.getLaneIndex().getLaneCount());
+    }
+}
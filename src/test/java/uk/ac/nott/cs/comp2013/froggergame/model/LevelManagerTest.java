@@ -7,11 +7,14 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import uk.ac.nott.cs.comp2013.froggergame.controller.core.GameEventListener;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Crocodile;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelManager;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.LevelTimer;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.ScrollingLane;
 import uk.ac.nott.cs.comp2013.froggergame.model.logic.state.StateManager;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.Level;
-import uk.ac.nott.cs.comp2013.froggergame.view.components.TimeBar;
 
 /**
  * Unit tests for {@link LevelManager}.
@@ -20,8 +23,8 @@ import uk.ac.nott.cs.comp2013.froggergame.view.components.TimeBar;
 class LevelManagerTest {
 
     private Animal mockAnimal;
-    private Level mockLevelView;
-    private TimeBar mockTimeBar;
+    private GameWorld mockWorld;
+    private LevelTimer mockLevelTimer;
     private GameEventListener mockEventListener;
     private LevelManager levelManager;
 
@@ -36,11 +39,11 @@ class LevelManagerTest {
         when(mockAnimal.getStateManager()).thenReturn(mockStateManager);
         when(mockStateManager.getPoints()).thenReturn(100);
 
-        mockLevelView = mock(Level.class);
-        mockTimeBar = mock(TimeBar.class);
+        mockWorld = mock(GameWorld.class);
+        mockLevelTimer = mock(LevelTimer.class);
         mockEventListener = mock(GameEventListener.class);
 
-        levelManager = new LevelManager(mockAnimal, mockLevelView, 3, mockTimeBar, mockEventListener);
+        levelManager = new LevelManager(mockAnimal, mockWorld, 3, mockLevelTimer, mockEventListener);
     }
 
     /**
@@ -63,14 +66,15 @@ class LevelManagerTest {
     }
 
     /**
-     * Tests incrementing the level and ensures the level view is updated.
+     * Tests incrementing the level and ensures the endpoints and level-specific actors are set up.
      */
     @Test
     void testIncreaseLevel() {
         levelManager.increaseLevel();
         assertEquals(2, levelManager.getCurrentLevel());
-        verify(mockLevelView).updateLevelDisplay(2);
-        verify(mockLevelView).resetLevelLayout(any());
+        assertTrue(levelManager.hasLevelChanged());
+        verify(mockWorld).getObjects(EndPoint.class);
+        verify(mockWorld).addActor(any(Crocodile.class));
     }
 
     /**
@@ -82,9 +86,9 @@ class LevelManagerTest {
             levelManager.onTargetReached();
         }
 
-        verify(mockLevelView).updateLevelDisplay(2);
+        assertEquals(2, levelManager.getCurrentLevel());
         verify(mockAnimal).resetPosition();
-        verify(mockTimeBar).reset();
+        verify(mockLevelTimer).reset();
     }
 
     /**
@@ -111,14 +115,15 @@ class LevelManagerTest {
     }
 
     /**
-     * Verifies that the speed of objects is updated correctly.
+     * Verifies that the speed of objects is updated once per lane.
      */
     @Test
     void testUpdateObjectsSpeedSimplified() {
-        when(mockLevelView.getActors()).thenReturn(List.of());
+        ScrollingLane mockLane = mock(ScrollingLane.class);
+        when(mockWorld.getLanes()).thenReturn(List.of(mockLane));
 
         levelManager.updateObjectsSpeed(1.5);
 
-        verify(mockLevelView).getActors(); // Ensures the method attempts to fetch actors
+        verify(mockLane).setSpeedFactor(1.5);
     }
 }
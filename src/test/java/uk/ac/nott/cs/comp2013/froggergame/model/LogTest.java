@@ -2,50 +2,93 @@ package uk.ac.nott.cs.comp2013.froggergame.model;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
 import static org.junit.jupiter.api.Assertions.*;
 
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
 import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Spider;
 
 class LogTest {
     private Log log;
 
     @BeforeEach
     void setUp() {
-        // Create a Log object with a default image path
-        log = new Log("/images/logs.png", 80, 100, 200, 1.0);
+        // Create a Log object with a default image name
+        log = new Log("logs.png", 80, 100, 200, 60.0);
     }
 
     @Test
     void testLogInitialization() {
         assertEquals(100, log.getX());
         assertEquals(200, log.getY());
-        assertEquals(1.0, log.getSpeed());
+        assertEquals(60.0, log.getSpeed());
     }
 
     @Test
     void testMoveWithinBounds() {
-        log.act(0);
-        assertEquals(101, log.getX()); // x-coordinate updated based on speed
+        log.tick(0, 1.0 / 60);
+        assertEquals(101, log.getX(), 1e-9); // x-coordinate updated based on speed and tick length
         assertEquals(200, log.getY()); // y-coordinate remains unchanged
     }
 
     @Test
     void testResetPositionWhenOutOfBounds() {
         log.setX(700);
-        log.act(0);
+        log.tick(0, 1.0 / 60);
         assertTrue(log.getX() <= 600); // x-coordinate should reset within bounds
     }
 
     @Test
     void testAddRandomSpider() {
-        log.addRandomSpider("/images/spider.png");
+        log.addRandomSpider("/images/spider.png", new SplittableRandom(1));
         assertTrue(log.getSpider() == null || log.getSpider() != null);
     }
 
+    @Test
+    void testAddRandomSpiderOutsideWorldNeedsStream() {
+        assertThrows(IllegalStateException.class, () -> log.addRandomSpider("/images/spider.png"));
+    }
+
+    @Test
+    void testSpidersFollowTheWorldSeed() {
+        assertEquals(spiderPattern(11), spiderPattern(11), "Worlds with the same seed should place the same spiders.");
+    }
+
+    @Test
+    void testSpiderKeepsItsMotionThroughTheTick() {
+        GameWorld world = new GameWorld(3);
+        Log spiderLog = null;
+        for (int i = 0; spiderLog == null || spiderLog.getSpider() == null; i++) {
+            spiderLog = new Log("logs.png", 80, i * 10, 200, 60.0);
+            world.addActor(spiderLog);
+            spiderLog.addRandomSpider("spider.png");
+        }
+        Spider spider = spiderLog.getSpider();
+        double startX = spider.getX();
+
+        world.act(0, 1.0 / 60);
+
+        assertEquals(startX, spider.getPreviousX(), 1e-9, "The spider's motion should start where the log picked it up.");
+        assertEquals(startX + 1, spider.getX(), 1e-9);
+    }
+
     @Test
     void testClearSpider() {
-        log.addRandomSpider("/images/spider.png");
+        log.addRandomSpider("/images/spider.png", new SplittableRandom(1));
         log.clearSpider();
         assertNull(log.getSpider());
     }
+
+    private String spiderPattern(long seed) {
+        GameWorld world = new GameWorld(seed);
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i < 32; i++) {
+            Log spiderLog = new Log("logs.png", 80, i * 10, 200, 60.0);
+            world.addActor(spiderLog);
+            spiderLog.addRandomSpider("spider.png");
+            pattern.append(spiderLog.getSpider() != null ? 'S' : '-');
+        }
+        return pattern.toString();
+    }
 }
@@ -0,0 +1,100 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.base.ObjectPool;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Log;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Spider;
+
+/**
+ * Unit tests for {@link ObjectPool}.
+ * Ensures instances are recycled, reset on release and counted in the pool metrics.
+ */
+class ObjectPoolTest {
+    private List<StringBuilder> resets;
+    private ObjectPool<StringBuilder> pool;
+
+    @BeforeEach
+    void setUp() {
+        resets = new ArrayList<>();
+        pool = new ObjectPool<>(StringBuilder::new, builder -> {
+            builder.setLength(0);
+            resets.add(builder);
+        }, 2);
+    }
+
+    @Test
+    void testReleasedInstanceIsReusedAfterReset() {
+        StringBuilder first = pool.acquire();
+        first.append("used");
+        pool.release(first);
+
+        StringBuilder second = pool.acquire();
+
+        assertSame(first, second, "A released instance should be handed out again.");
+        assertEquals(0, second.length(), "The reset hook should have cleared the instance.");
+        assertEquals(List.of(first), resets);
+    }
+
+    @Test
+    void testStatsReachSteadyState() {
+        for (int spawn = 0; spawn < 100; spawn++) {
+            pool.release(pool.acquire());
+        }
+
+        ObjectPool.Stats stats = pool.getStats();
+        assertEquals(1, stats.created(), "Recycling one instance at a time should create it only once.");
+        assertEquals(100, stats.acquired());
+        assertEquals(100, stats.released());
+        assertEquals(0, stats.inUse());
+        assertEquals(1, stats.idle());
+    }
+
+    @Test
+    void testIdleInstancesAreCapped() {
+        List<StringBuilder> inUse = List.of(pool.acquire(), pool.acquire(), pool.acquire());
+        inUse.forEach(pool::release);
+
+        assertEquals(2, pool.getIdleCount(), "Only the idle limit should be kept for reuse.");
+        assertEquals(3, resets.size(), "Every release should be reset, even if dropped.");
+    }
+
+    @Test
+    void testDoubleReleaseIsRejected() {
+        StringBuilder builder = pool.acquire();
+        pool.release(builder);
+
+        assertThrows(IllegalStateException.class, () -> pool.release(builder));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(null));
+    }
+
+    @Test
+    void testSpidersAreRecycledByTheirWorld() {
+        GameWorld world = new GameWorld();
+        Log log = new Log("log3.png", 150, 0, 166, 45.0);
+        world.addActor(log);
+
+        Spider first = spawnSpider(log);
+        log.clearSpider();
+        assertFalse(first.hasWorld(), "A cleared spider should leave the world.");
+        assertNull(first.getParentLog(), "A pooled spider should be detached from its log.");
+
+        Spider second = spawnSpider(log);
+        assertSame(first, second, "The next spider should come from the pool.");
+        assertSame(log, second.getParentLog());
+        assertEquals(log.getX() + 50, second.getPreviousX(), "A recycled spider should not move from its old position.");
+        assertEquals(1, Spider.pool(world).getStats().created());
+    }
+
+    private static Spider spawnSpider(Log log) {
+        while (log.getSpider() == null) {
+            log.addRandomSpider("spider.png"); // Spawns with a 50% chance
+        }
+        return log.getSpider();
+    }
+}
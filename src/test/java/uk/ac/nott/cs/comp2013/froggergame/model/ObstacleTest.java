@@ -19,7 +19,7 @@ class ObstacleTest {
      */
     @BeforeEach
     void setUp() {
-        obstacle = new Obstacle("default.png", 100, 200, 1.0, 80, 40);
+        obstacle = new Obstacle("default.png", 100, 200, 60.0, 80, 40);
     }
 
     /**
@@ -29,7 +29,7 @@ class ObstacleTest {
     void testObstacleInitialization() {
         assertEquals(100, obstacle.getX(), "Obstacle X position should be initialized correctly.");
         assertEquals(200, obstacle.getY(), "Obstacle Y position should be initialized correctly.");
-        assertEquals(1.0, obstacle.getSpeed(), "Obstacle speed should be initialized correctly.");
+        assertEquals(60.0, obstacle.getSpeed(), "Obstacle speed should be initialized correctly.");
     }
 
     /**
@@ -37,8 +37,8 @@ class ObstacleTest {
      */
     @Test
     void testMoveWithinBounds() {
-        obstacle.act(0); // Simulate one act cycle
-        assertEquals(101, obstacle.getX(), "Obstacle X position should update based on speed.");
+        obstacle.tick(0, 1.0 / 60); // Simulate one 60 Hz tick
+        assertEquals(101, obstacle.getX(), 1e-9, "Obstacle X position should update based on speed.");
         assertEquals(200, obstacle.getY(), "Obstacle Y position should remain unchanged.");
     }
 
@@ -48,7 +48,7 @@ class ObstacleTest {
     @Test
     void testResetPositionWhenOutOfBounds() {
         obstacle.setX(700); // Move the obstacle beyond the right boundary
-        obstacle.act(0); // Simulate one act cycle
+        obstacle.tick(0, 1.0 / 60); // Simulate one 60 Hz tick
         assertTrue(obstacle.getX() <= 600, "Obstacle should reset position when out of bounds.");
     }
 }
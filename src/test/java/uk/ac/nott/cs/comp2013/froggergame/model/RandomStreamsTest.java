@@ -0,0 +1,52 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.RandomStreams;
+
+/**
+ * Unit tests for {@link RandomStreams}.
+ * Ensures each subsystem's sequence follows from the seed alone, whatever the other subsystems draw.
+ */
+class RandomStreamsTest {
+
+    @Test
+    void testSameSeedGivesSameSequences() {
+        RandomStreams first = new RandomStreams(99);
+        RandomStreams second = new RandomStreams(99);
+
+        for (RandomStreams.Stream stream : RandomStreams.Stream.values()) {
+            assertArrayEquals(draw(first.get(stream)), draw(second.get(stream)), stream.name());
+        }
+        assertEquals(99, first.getSeed());
+    }
+
+    @Test
+    void testStreamsDoNotDisturbEachOther() {
+        RandomStreams quiet = new RandomStreams(7);
+        RandomStreams busy = new RandomStreams(7);
+
+        draw(busy.get(RandomStreams.Stream.SPIDERS)); // Extra draws by one subsystem only
+
+        assertArrayEquals(draw(quiet.get(RandomStreams.Stream.EASTER_EGGS)), draw(busy.get(RandomStreams.Stream.EASTER_EGGS)));
+    }
+
+    @Test
+    void testStreamsOfOneSeedDiffer() {
+        RandomStreams streams = new RandomStreams(7);
+
+        assertFalse(Arrays.equals(draw(streams.get(RandomStreams.Stream.SPIDERS)),
+                draw(streams.get(RandomStreams.Stream.EASTER_EGGS))));
+    }
+
+    private long[] draw(SplittableRandom random) {
+        long[] values = new long[16];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        return values;
+    }
+}
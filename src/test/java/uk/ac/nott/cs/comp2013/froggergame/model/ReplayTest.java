@@ -0,0 +1,108 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSession;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.Replay;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.ReplayPlayer;
+
+/**
+ * Unit tests for {@link Replay} and {@link ReplayPlayer}.
+ * Records scripted sessions, stores them in binary form and plays them back headlessly.
+ */
+class ReplayTest {
+    private static final LevelConfig LEVEL = LevelConfig.createDefault(1.0);
+    private static final int TICKS = 1800;
+
+    @Test
+    void testBinaryFormRoundTrips() throws IOException {
+        Replay replay = recordSession(5);
+
+        Replay read = Replay.read(new ByteArrayInputStream(toBytes(replay)));
+
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(replay.getConfig(), read.getConfig());
+        assertEquals(replay.getInputs(), read.getInputs());
+        assertEquals(replay.getCheckpoints(), read.getCheckpoints());
+        assertEquals(replay.getTicks(), read.getTicks());
+        assertEquals(replay.getFinalHash(), read.getFinalHash());
+    }
+
+    @Test
+    void testBinaryFormIsCompact() throws IOException {
+        Replay replay = recordSession(5);
+
+        int bytes = toBytes(replay).length;
+
+        assertFalse(replay.getInputs().isEmpty());
+        assertTrue(bytes < replay.getInputs().size() * 4 + replay.getCheckpoints().size() * 10 + 64,
+                "Inputs and checkpoints should be stored in a few bytes each, but took " + bytes + " bytes.");
+    }
+
+    @Test
+    void testPlaybackReproducesTheRecordedSession() throws IOException {
+        GameSession session = scriptedSession(8);
+        session.step(TICKS);
+        Replay replay = Replay.read(new ByteArrayInputStream(toBytes(session.getReplay())));
+
+        ReplayPlayer.Playback playback = ReplayPlayer.play(replay);
+
+        assertTrue(playback.isFaithful(), "Playback diverged at tick " + playback.divergedAt());
+        assertEquals(session.result(), playback.result());
+    }
+
+    @Test
+    void testPlaybackDetectsDivergence() {
+        Replay replay = recordSession(8);
+        List<Replay.Input> inputs = new ArrayList<>(replay.getInputs());
+        inputs.remove(0); // Drops the first move, so the character ends up elsewhere
+        Replay tampered = new Replay(replay.getSeed(), replay.getConfig(), inputs, replay.getCheckpoints(),
+                replay.getTicks(), replay.getFinalHash());
+
+        ReplayPlayer.Playback playback = ReplayPlayer.play(tampered);
+
+        assertFalse(playback.isFaithful());
+        assertTrue(playback.divergedAt() >= replay.getInputs().get(0).tick());
+    }
+
+    @Test
+    void testMalformedInputIsRejected() {
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+
+    private Replay recordSession(long seed) {
+        GameSession session = scriptedSession(seed);
+        session.step(TICKS);
+        return session.getReplay();
+    }
+
+    /**
+     * Creates a session whose player taps up and sideways at fixed intervals.
+     */
+    private GameSession scriptedSession(long seed) {
+        GameSession session = new GameSession(LEVEL, seed);
+        session.setDriver(playing -> {
+            long tick = playing.getTicks();
+            if (tick % 90 == 10) {
+                playing.press(tick % 270 == 10 ? Direction.LEFT : Direction.UP, true);
+            } else if (tick % 90 == 20) {
+                playing.press(tick % 270 == 20 ? Direction.LEFT : Direction.UP, false);
+            }
+        });
+        return session;
+    }
+
+    private byte[] toBytes(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+}
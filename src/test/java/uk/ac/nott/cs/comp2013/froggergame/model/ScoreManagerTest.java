@@ -2,6 +2,7 @@ package uk.ac.nott.cs.comp2013.froggergame.model;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.Arrays;
 import java.util.Stack;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -124,4 +125,26 @@ class ScoreManagerTest {
     void testGetDigitsNegativeNumber() {
         assertThrows(IllegalArgumentException.class, () -> scoreManager.getDigits(-123));
     }
+
+    /**
+     * Tests writing the digits of a score into a reused buffer, most significant first.
+     */
+    @Test
+    void testFillDigitsReusesBuffer() {
+        int[] digits = new int[10];
+        assertEquals(4, scoreManager.fillDigits(1234, digits));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, Arrays.copyOf(digits, 4));
+
+        assertEquals(1, scoreManager.fillDigits(0, digits));
+        assertEquals(0, digits[0]);
+    }
+
+    /**
+     * Tests that a score too long for the buffer is rejected.
+     */
+    @Test
+    void testFillDigitsRejectsShortBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> scoreManager.fillDigits(1234, new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> scoreManager.fillDigits(-1, new int[3]));
+    }
 }
@@ -0,0 +1,85 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Obstacle;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.movement.ScrollingLane;
+
+/**
+ * Unit tests for {@link ScrollingLane}.
+ * Ensures lane positions are derived in closed form and shared between actors of the same row.
+ */
+class ScrollingLaneTest {
+    private static final long TICK_NANOS = 1_000_000_000L / 60;
+    private static final double TICK_SECONDS = 1.0 / 60;
+
+    private ScrollingLane lane;
+
+    @BeforeEach
+    void setUp() {
+        lane = new ScrollingLane(200, -200, 600, 60.0); // 800 wide strip moving right
+    }
+
+    /**
+     * Tests that positions wrap round the strip.
+     */
+    @Test
+    void testPositionWrapsRoundStrip() {
+        assertEquals(160, lane.positionAt(100, 1.0), 1e-9);
+        assertEquals(-160, lane.positionAt(580, 1.0), 1e-9); // Leaves at 600, re-enters at -200
+    }
+
+    /**
+     * Tests that a lane only advances once per tick, however many actors ride it.
+     */
+    @Test
+    void testAdvanceOncePerTick() {
+        lane.advance(TICK_NANOS, TICK_SECONDS);
+        lane.advance(TICK_NANOS, TICK_SECONDS);
+        lane.advance(2 * TICK_NANOS, TICK_SECONDS);
+
+        assertEquals(2.0, lane.getOffset(), 1e-9);
+    }
+
+    /**
+     * Tests that a speed change keeps positions continuous and applies from then on.
+     */
+    @Test
+    void testSpeedFactorReanchorsOffset() {
+        for (int i = 1; i <= 60; i++) {
+            lane.advance(i * TICK_NANOS, TICK_SECONDS);
+        }
+        lane.setSpeedFactor(1.5);
+
+        assertEquals(60.0, lane.getOffset(), 1e-9);
+        assertEquals(90.0, lane.getSpeed(), 1e-9);
+        assertEquals(150.0, lane.offsetAt(lane.getTime() + 1.0), 1e-9);
+    }
+
+    /**
+     * Tests that actors of the same row share one lane once added to a world.
+     */
+    @Test
+    void testActorsOfSameRowShareLane() {
+        GameWorld world = new GameWorld();
+        Obstacle first = new Obstacle("test.png", 100, 500, -60, 50, 50);
+        Obstacle second = new Obstacle("test.png", 300, 500, -60, 50, 50);
+        Obstacle otherRow = new Obstacle("test.png", 0, 600, 60, 50, 50);
+        world.addActor(first);
+        world.addActor(second);
+        world.addActor(otherRow);
+
+        assertSame(first.getScrollingLane(), second.getScrollingLane());
+        assertEquals(2, world.getLanes().size());
+
+        for (int i = 1; i <= 60; i++) {
+            world.act(i * TICK_NANOS, TICK_SECONDS);
+        }
+        assertEquals(40, first.getX(), 1e-6);
+        assertEquals(240, second.getX(), 1e-6);
+        assertEquals(first.positionAt(2.0), first.getX() - 60, 1e-6); // Look-ahead without stepping
+    }
+}
@@ -0,0 +1,92 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.GameSession;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.SessionHost;
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.WorldSnapshot;
+
+/**
+ * Unit tests for {@link SessionHost} and {@link GameSession}.
+ * Ensures sessions built from the same seed play out identically however they are spread over threads.
+ */
+class SessionHostTest {
+    private static final LevelConfig LEVEL = LevelConfig.createDefault(1.0);
+    private static final int MAX_TICKS = 1200;
+
+    @Test
+    void testSessionsWithTheSameSeedPlayAlike() {
+        GameSession first = new GameSession(LEVEL, 42);
+        GameSession second = new GameSession(LEVEL, 42);
+
+        assertEquals(easterEggTrace(first), easterEggTrace(second));
+        assertEquals(first.result(), second.result());
+    }
+
+    @Test
+    void testModesProduceTheSameResultsAsSteppingInOrder() {
+        SessionHost host = newHost();
+        List<GameSession.Result> expected = new ArrayList<>();
+        for (GameSession session : host.createSessions(6)) {
+            session.step(MAX_TICKS);
+            expected.add(session.result());
+        }
+
+        host.setBatching(2, 50);
+        assertEquals(expected, host.run(6, SessionHost.Mode.BATCHED).results());
+        assertEquals(expected, host.run(6, SessionHost.Mode.THREAD_PER_SESSION).results());
+    }
+
+    @Test
+    void testReportCountsTicksOfAllSessions() {
+        SessionHost.Report report = newHost().run(3, SessionHost.Mode.BATCHED);
+
+        assertEquals(3, report.results().size());
+        assertEquals(report.results().stream().mapToLong(GameSession.Result::ticks).sum(), report.ticks());
+        assertTrue(report.results().stream().allMatch(result -> result.ticks() <= MAX_TICKS));
+        assertTrue(report.ticksPerSecond() > 0);
+        assertTrue(report.sessionsPerSecond() > 0);
+    }
+
+    @Test
+    void testSessionStopsTickingOnceTheGameEnds() {
+        GameSession session = new GameSession(LEVEL, 7);
+        session.getSimulation().getAnimal().setCarDeath(true);
+
+        session.step(MAX_TICKS);
+
+        assertTrue(session.isFinished());
+        assertEquals(WorldSnapshot.Outcome.LOST, session.result().outcome());
+        assertEquals(1, session.getTicks(), "No ticks should run after the game ended.");
+    }
+
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionHost(null, 1, MAX_TICKS));
+        assertThrows(IllegalArgumentException.class, () -> new SessionHost(LEVEL, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> newHost().setBatching(0, 10));
+    }
+
+    private SessionHost newHost() {
+        SessionHost host = new SessionHost(LEVEL, 2013, MAX_TICKS);
+        host.setDrivers(() -> session -> session.press(Direction.UP, session.getTicks() % 60 == 0));
+        return host;
+    }
+
+    private List<Boolean> easterEggTrace(GameSession session) {
+        List<Boolean> trace = new ArrayList<>();
+        for (int tick = 0; tick < MAX_TICKS; tick++) {
+            session.step();
+            for (EndPoint end : session.getSimulation().getWorld().getObjects(EndPoint.class)) {
+                trace.add(end.hasEasterEgg());
+            }
+        }
+        return trace;
+    }
+}
@@ -0,0 +1,63 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.WetTurtle;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.SpriteAnimator;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.animation.SpriteClip;
+
+/**
+ * Unit tests for {@link SpriteClip} and {@link SpriteAnimator}.
+ * Ensures clips are shared per name and size and evaluated once per tick.
+ */
+class SpriteClipTest {
+
+    @Test
+    void testClipsAreSharedPerNameAndSize() {
+        SpriteClip first = SpriteClip.numbered("testdeath", 3, 100, 40, 40);
+        SpriteClip second = SpriteClip.of("testdeath", List.of("testdeath1.png", "testdeath2.png", "testdeath3.png"), 100, 40, 40);
+        SpriteClip larger = SpriteClip.numbered("testdeath", 3, 100, 80, 80);
+
+        assertSame(first, second, "The same clip and size should share one frame set.");
+        assertNotSame(first, larger);
+        assertEquals("testdeath2.png", first.frame(1));
+        assertThrows(IllegalArgumentException.class, () -> SpriteClip.numbered("testdeath", 2, 100, 40, 40));
+    }
+
+    @Test
+    void testClipLoopsAtItsFrameRate() {
+        SpriteClip clip = SpriteClip.numbered("testloop", 3, 100, 10, 10);
+
+        assertEquals(0, clip.frameAt(99));
+        assertEquals(1, clip.frameAt(100));
+        assertEquals(0, clip.frameAt(300));
+    }
+
+    @Test
+    void testAnimatorEvaluatesEachClipOncePerTick() {
+        SpriteAnimator animator = new SpriteAnimator();
+        SpriteClip clip = SpriteClip.numbered("testshared", 2, 100, 10, 10);
+
+        assertEquals(1, animator.frameAt(clip, 150));
+        assertEquals(1, animator.frameAt(clip, 150));
+        assertEquals(0, animator.frameAt(clip, 200));
+        assertEquals(1, animator.getClipCount());
+    }
+
+    @Test
+    void testTurtleSwapsSpriteOnlyWhenTheFrameChanges() {
+        GameWorld world = new GameWorld();
+        WetTurtle turtle = new WetTurtle(300, 217, -75, 130, 130);
+        world.addActor(turtle);
+
+        world.act(100_000_000L, 0.0);
+        assertEquals("TurtleAnimation1.png", turtle.getSprite());
+
+        world.act(2_700_000_000L, 0.0);
+        assertEquals("TurtleAnimation4Wet.png", turtle.getSprite());
+        assertTrue(turtle.isSunk(), "The last frame of a wet turtle is the sunk frame.");
+    }
+}
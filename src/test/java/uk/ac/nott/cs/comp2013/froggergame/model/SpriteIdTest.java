@@ -0,0 +1,60 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Direction;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.SpriteId;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+
+/**
+ * Unit tests for {@link SpriteId}.
+ * Ensures movement sprites are looked up by direction and actors carry the handle of their sprite.
+ */
+class SpriteIdTest {
+
+    @Test
+    void testMovementSpritesMatchTheirFileNames() {
+        for (Direction direction : Direction.values()) {
+            assertEquals("frogger" + direction.getSpriteName() + ".png",
+                    SpriteId.movement(direction, false).getFileName());
+            assertEquals("frogger" + direction.getSpriteName() + "Jump.png",
+                    SpriteId.movement(direction, true).getFileName());
+        }
+    }
+
+    @Test
+    void testHandleOnlyAppliesAtTheCharacterSize() {
+        assertEquals(SpriteId.CARDEATH_2, SpriteId.forSprite("cardeath2.png", SpriteId.SIZE, SpriteId.SIZE));
+        assertNull(SpriteId.forSprite("cardeath2.png", 80, 80));
+        assertNull(SpriteId.forSprite("log3.png", SpriteId.SIZE, SpriteId.SIZE));
+    }
+
+    @Test
+    void testActorCarriesTheHandleOfItsSprite() {
+        Animal animal = new Animal(Animal.DEFAULT_SPRITE);
+        assertEquals(SpriteId.FROG_UP, animal.getSpriteId());
+
+        animal.setSprite("waterdeath3.png");
+        assertEquals(SpriteId.WATERDEATH_3, animal.getSpriteId());
+
+        animal.setSprite("unknown.png");
+        assertNull(animal.getSpriteId());
+    }
+
+    @Test
+    void testSettingHandleMatchesSettingName() {
+        Animal byName = new Animal(Animal.DEFAULT_SPRITE);
+        Animal byId = new Animal(Animal.DEFAULT_SPRITE);
+
+        for (SpriteId id : SpriteId.values()) {
+            byName.setSprite(id.getFileName());
+            byId.setSprite(id);
+
+            assertEquals(id, byId.getSpriteId());
+            assertEquals(byName.getSprite(), byId.getSprite());
+            assertEquals(byName.getWidth(), byId.getWidth());
+            assertEquals(byName.getHeight(), byId.getHeight());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.data.LevelConfig;
+import uk.ac.nott.cs.comp2013.froggergame.model.data.Terrain;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.Animal;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.level.TerrainMap;
+
+/**
+ * Unit tests for {@link TerrainMap}.
+ * Ensures the baked grid classifies each hop position of the default layout.
+ */
+class TerrainMapTest {
+    private TerrainMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = TerrainMap.bake(LevelConfig.createDefault(1.0));
+    }
+
+    private double hopX(int hops) {
+        return Animal.DEFAULT_X + hops * Animal.MOVEMENT_X;
+    }
+
+    private double hopY(int hops) {
+        return Animal.DEFAULT_Y - hops * Animal.MOVEMENT_Y;
+    }
+
+    @Test
+    void testRowsFollowTerrainBands() {
+        assertEquals(Terrain.SAFE, map.terrainAt(hopX(0), hopY(0)), "Start row should be safe.");
+        assertEquals(Terrain.ROAD, map.terrainAt(hopX(0), hopY(1)));
+        assertEquals(Terrain.ROAD, map.terrainAt(hopX(0), hopY(11)));
+        assertEquals(Terrain.SAFE, map.terrainAt(hopX(0), hopY(12)), "Median should be safe.");
+        assertEquals(Terrain.WATER, map.terrainAt(hopX(0), hopY(13)), "First river row should be water.");
+    }
+
+    @Test
+    void testGoalSlotsAreMarked() {
+        assertEquals(0, map.goalSlotAt(hopX(-14), hopY(25)));
+        assertEquals(Terrain.GOAL, map.terrainAt(hopX(-14), hopY(25)));
+        assertEquals(2, map.goalSlotAt(hopX(0), hopY(25)));
+    }
+
+    @Test
+    void testGapBetweenGoalSlotsIsWater() {
+        assertEquals(-1, map.goalSlotAt(hopX(-10), hopY(25)));
+        assertEquals(Terrain.WATER, map.terrainAt(hopX(-10), hopY(25)));
+    }
+
+    @Test
+    void testOffGridPositionUsesNearestCell() {
+        assertEquals(Terrain.SAFE, map.terrainAt(-500, 2000));
+        assertEquals(Terrain.WATER, map.terrainAt(1000, -50));
+        assertEquals(Terrain.ROAD, map.terrainAt(hopX(3) + 4, hopY(5)), "Drifting on a platform stays in the same column.");
+    }
+
+    @Test
+    void testCustomBandsChangeTerrain() {
+        TerrainMap allRoad = TerrainMap.bake(LevelConfig.createDefault(1.0), new Object[][]{{Terrain.ROAD, 0, 800}});
+
+        assertEquals(Terrain.ROAD, allRoad.terrainAt(hopX(0), hopY(13)));
+    }
+}
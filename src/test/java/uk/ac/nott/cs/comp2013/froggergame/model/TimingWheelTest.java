@@ -0,0 +1,106 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.base.GameWorld;
+import uk.ac.nott.cs.comp2013.froggergame.model.entities.EndPoint;
+import uk.ac.nott.cs.comp2013.froggergame.model.logic.timing.TimingWheel;
+
+/**
+ * Unit tests for {@link TimingWheel}.
+ * Ensures timers fire once their deadline passes, including timers more than one revolution away.
+ */
+class TimingWheelTest {
+    private static final long MS = 1_000_000L;
+
+    private TimingWheel wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel(8, 10 * MS); // One revolution every 80 ms
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void testTimerFiresOnceDeadlinePasses() {
+        TimingWheel.Timer timer = wheel.newTimer(() -> fired.add("timer"));
+        timer.startNanos(25 * MS);
+
+        wheel.advanceTo(20 * MS);
+        assertTrue(fired.isEmpty());
+        assertTrue(timer.isPending());
+
+        wheel.advanceTo(25 * MS);
+        assertEquals(List.of("timer"), fired);
+        assertFalse(timer.isPending());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testTimerBeyondOneRevolutionWaitsForItsDeadline() {
+        wheel.newTimer(() -> fired.add("late")).startNanos(200 * MS);
+
+        for (long time = 10 * MS; time < 200 * MS; time += 10 * MS) {
+            wheel.advanceTo(time);
+        }
+        assertTrue(fired.isEmpty(), "The timer's slot comes round before its deadline.");
+
+        wheel.advanceTo(200 * MS);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testLargeStepFiresEveryDueTimerInOrder() {
+        wheel.newTimer(() -> fired.add("second")).startNanos(50 * MS);
+        wheel.newTimer(() -> fired.add("first")).startNanos(15 * MS);
+
+        wheel.advanceTo(1000 * MS);
+
+        assertEquals(List.of("first", "second"), fired);
+    }
+
+    @Test
+    void testCancelledAndRestartedTimers() {
+        TimingWheel.Timer cancelled = wheel.newTimer(() -> fired.add("cancelled"));
+        TimingWheel.Timer[] repeating = new TimingWheel.Timer[1];
+        repeating[0] = wheel.newTimer(() -> {
+            fired.add("repeat");
+            repeating[0].startNanos(30 * MS); // Re-arms itself from its own task
+        });
+        cancelled.startNanos(10 * MS);
+        repeating[0].startNanos(30 * MS);
+        cancelled.cancel();
+
+        wheel.advanceTo(90 * MS);
+
+        assertEquals(List.of("repeat"), fired, "Each advance fires a re-armed timer at most once.");
+        assertTrue(repeating[0].isPending());
+        assertEquals(0.03, repeating[0].getRemainingSeconds(), 1e-9);
+    }
+
+    @Test
+    void testEndPointEasterEggRunsOnWorldTimers() {
+        GameWorld world = new GameWorld();
+        EndPoint endPoint = new EndPoint(13, 96);
+        world.addActor(endPoint);
+        assertEquals(1, world.getTimers().getPendingCount(), "Joining a world should schedule a spawn attempt.");
+
+        endPoint.setEnd();
+        assertEquals(0, world.getTimers().getPendingCount(), "An activated endpoint should stop its timers.");
+
+        endPoint.reset();
+        world.removeActor(endPoint);
+        assertEquals(0, world.getTimers().getPendingCount(), "Leaving the world should cancel its timers.");
+    }
+
+    @Test
+    void testInvalidConfigurationThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(6, MS));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(8, 0));
+    }
+}
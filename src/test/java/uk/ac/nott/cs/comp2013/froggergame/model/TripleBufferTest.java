@@ -0,0 +1,69 @@
+package uk.ac.nott.cs.comp2013.froggergame.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import uk.ac.nott.cs.comp2013.froggergame.model.simulation.TripleBuffer;
+
+/**
+ * Unit tests for {@link TripleBuffer}.
+ * Ensures the reader only ever sees whole published values and keeps its buffer while the writer moves on.
+ */
+class TripleBufferTest {
+
+    @Test
+    void testReaderSeesOnlyPublishedValues() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+
+        buffer.getWriteBuffer()[0] = 7;
+        assertEquals(0, buffer.read()[0], "Unpublished writes should not be visible.");
+        assertFalse(buffer.hasFresh());
+
+        buffer.publish();
+        assertTrue(buffer.hasFresh());
+        assertEquals(7, buffer.read()[0]);
+        assertFalse(buffer.hasFresh());
+    }
+
+    @Test
+    void testReaderKeepsItsBufferWhileWriterPublishes() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        buffer.getWriteBuffer()[0] = 1;
+        buffer.publish();
+        long[] held = buffer.read();
+
+        for (long value = 2; value <= 5; value++) {
+            long[] back = buffer.getWriteBuffer();
+            assertNotSame(held, back, "The writer must never be handed the buffer the reader holds.");
+            back[0] = value;
+            buffer.publish();
+        }
+
+        assertEquals(1, held[0]);
+        assertEquals(5, buffer.read()[0], "Only the newest value should be read; older ones are skipped.");
+    }
+
+    @Test
+    void testConcurrentHandoffNeverTearsValues() throws InterruptedException {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        long publishes = 200_000;
+        Thread writer = new Thread(() -> {
+            for (long value = 1; value <= publishes; value++) {
+                long[] back = buffer.getWriteBuffer();
+                back[0] = value;
+                back[1] = value;
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long last = 0;
+        while (last < publishes) {
+            long[] front = buffer.read();
+            assertEquals(front[0], front[1], "A value should never be read while it is being written.");
+            assertTrue(front[0] >= last, "Values should never go back in time.");
+            last = front[0];
+        }
+        writer.join();
+    }
+}